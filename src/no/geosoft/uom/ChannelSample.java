@@ -0,0 +1,112 @@
+package no.geosoft.uom;
+
+/**
+ * Model a single measured value of a named channel, such as one
+ * sample of a real-time log curve, together with its unit.
+ * <p>
+ * This class is immutable.
+ *
+ * @author <a href="mailto:jacob.dreyer@geosoft.no">Jacob Dreyer</a>
+ */
+public final class ChannelSample
+{
+  /** Name of channel such as "DEPTH". Non-null. */
+  private final String channel_;
+
+  /** The measured value. */
+  private final double value_;
+
+  /** Symbol of the unit of the value such as "ft". Non-null. */
+  private final String unitSymbol_;
+
+  /**
+   * Create a new channel sample.
+   *
+   * @param channel     Name of channel. Non-null.
+   * @param value       The measured value.
+   * @param unitSymbol  Symbol of the unit of the value. Non-null.
+   * @throws IllegalArgumentException  If channel or unitSymbol is null.
+   */
+  public ChannelSample(String channel, double value, String unitSymbol)
+  {
+    if (channel == null)
+      throw new IllegalArgumentException("channel cannot be null");
+
+    if (unitSymbol == null)
+      throw new IllegalArgumentException("unitSymbol cannot be null");
+
+    channel_ = channel;
+    value_ = value;
+    unitSymbol_ = unitSymbol;
+  }
+
+  /**
+   * Return name of the channel of this sample.
+   *
+   * @return  Name of the channel of this sample. Never null.
+   */
+  public String getChannel()
+  {
+    return channel_;
+  }
+
+  /**
+   * Return the value of this sample.
+   *
+   * @return  The value of this sample.
+   */
+  public double getValue()
+  {
+    return value_;
+  }
+
+  /**
+   * Return symbol of the unit of the value of this sample.
+   *
+   * @return  Symbol of the unit of this sample. Never null.
+   */
+  public String getUnitSymbol()
+  {
+    return unitSymbol_;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int hashCode()
+  {
+    return 1 * channel_.hashCode() +
+           3 * Double.hashCode(value_) +
+           7 * unitSymbol_.hashCode();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean equals(Object object)
+  {
+    if (object == this)
+      return true;
+
+    if (!(object instanceof ChannelSample))
+      return false;
+
+    ChannelSample sample = (ChannelSample) object;
+
+    if (!channel_.equals(sample.channel_))
+      return false;
+
+    if (Double.compare(value_, sample.value_) != 0)
+      return false;
+
+    if (!unitSymbol_.equals(sample.unitSymbol_))
+      return false;
+
+    return true;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String toString()
+  {
+    return channel_ + " = " + value_ + " [" + unitSymbol_ + "]";
+  }
+}
@@ -0,0 +1,1593 @@
+package no.geosoft.uom;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleUnaryOperator;
+import java.util.stream.DoubleStream;
+
+/**
+ * Converts values from one unit to another.
+ * <p>
+ * A unit converts to its base unit by the linear fractional transform
+ * <pre>
+ *    base = (a * value + b) / (c * value + d);
+ * </pre>
+ * and a conversion between two units is the composition of the
+ * transform of the from unit and the inverse transform of the to unit,
+ * which is itself a transform of the same form. A converter holds the
+ * composed coefficients so that a value is converted in one step
+ * rather than through the base unit.
+ * <p>
+ * Converters are specialized into identity, scale, affine and
+ * general rational implementations, so that the common cases are
+ * evaluated without any division.
+ * <p>
+ * As the coefficients are composed up front, results may differ in
+ * the last few bits from a conversion through the base unit.
+ * <p>
+ * A converter is a DoubleUnaryOperator, so it can be used directly
+ * in primitive stream pipelines without boxing.
+ * <p>
+ * Instances are obtained through UnitManager.getConverter().
+ * <p>
+ * This class is immutable.
+ *
+ * @author <a href="mailto:jacob.dreyer@geosoft.no">Jacob Dreyer</a>
+ */
+public abstract class Converter implements DoubleUnaryOperator
+{
+  /** Number of values converted per chunk when converting buffers. */
+  private final static int CHUNK_SIZE = 1024;
+
+  /** Default range size at or below which parallel conversion is sequential. */
+  public final static int DEFAULT_PARALLEL_THRESHOLD = 1 << 16;
+
+  /** Maximum number of bytes mapped at a time when converting files. */
+  private final static int FILE_CHUNK_SIZE = 64 * 1024 * 1024;
+
+  /** Conversion factor a of the composed transform. */
+  final double a_;
+
+  /** Conversion factor b of the composed transform. */
+  final double b_;
+
+  /** Conversion factor c of the composed transform. */
+  final double c_;
+
+  /** Conversion factor d of the composed transform. */
+  final double d_;
+
+  /**
+   * Create a new converter with the specified composed coefficients.
+   *
+   * @param a  Conversion factor a.
+   * @param b  Conversion factor b.
+   * @param c  Conversion factor c.
+   * @param d  Conversion factor d.
+   */
+  private Converter(double a, double b, double c, double d)
+  {
+    a_ = a;
+    b_ = b;
+    c_ = c;
+    d_ = d;
+  }
+
+  /**
+   * Create a converter for the transform (a * value + b) / (c * value + d),
+   * specialized to the simplest possible implementation.
+   *
+   * @param a  Conversion factor a.
+   * @param b  Conversion factor b.
+   * @param c  Conversion factor c.
+   * @param d  Conversion factor d.
+   * @return   The requested converter. Never null.
+   */
+  static Converter newInstance(double a, double b, double c, double d)
+  {
+    // Normalize so that d is 1.0 for the linear cases
+    if (c == 0.0 && d != 0.0 && d != 1.0) {
+      a = a / d;
+      b = b / d;
+      d = 1.0;
+    }
+
+    if (c != 0.0 || d != 1.0)
+      return new RationalConverter(a, b, c, d);
+
+    if (b != 0.0)
+      return new AffineConverter(a, b);
+
+    if (a != 1.0)
+      return new ScaleConverter(a);
+
+    return IdentityConverter.INSTANCE;
+  }
+
+  /**
+   * Create a converter for converting values from the specified unit
+   * to the other.
+   *
+   * @param fromUnit  Unit to convert from. Non-null.
+   * @param toUnit    Unit to convert to. Non-null.
+   * @return          The requested converter. Never null.
+   */
+  static Converter newInstance(Unit fromUnit, Unit toUnit)
+  {
+    assert fromUnit != null : "fromUnit cannot be null";
+    assert toUnit != null : "toUnit cannot be null";
+
+    if (fromUnit.equals(toUnit))
+      return IdentityConverter.INSTANCE;
+
+    double a1 = fromUnit.getA();
+    double b1 = fromUnit.getB();
+    double c1 = fromUnit.getC();
+    double d1 = fromUnit.getD();
+
+    double a2 = toUnit.getA();
+    double b2 = toUnit.getB();
+    double c2 = toUnit.getC();
+    double d2 = toUnit.getD();
+
+    // The inverse of the to unit transform is (d2 * base - b2) / (-c2 * base + a2)
+    // which composed with the from unit transform gives the coefficients below.
+    // The products are skipped when zero so that the common cases stays exact.
+    double a = product(d2, a1) - product(b2, c1);
+    double b = product(d2, b1) - product(b2, d1);
+    double c = product(a2, c1) - product(c2, a1);
+    double d = product(a2, d1) - product(c2, b1);
+
+    return newInstance(a, b, c, d);
+  }
+
+  /**
+   * Return a converter that first applies this converter and then the
+   * specified one.
+   * <p>
+   * The two transforms are multiplied into a single transform, so a
+   * chain of converters of any length is evaluated at the cost of a single
+   * conversion. As for the unit converters the result may differ in the last
+   * few bits from applying the converters in sequence.
+   *
+   * @param after  Converter to apply after this. Non-null.
+   * @return       The composed converter. Never null.
+   * @throws IllegalArgumentException  If after is null.
+   */
+  public final Converter andThen(Converter after)
+  {
+    if (after == null)
+      throw new IllegalArgumentException("after cannot be null");
+
+    return newInstance(this, after);
+  }
+
+  /**
+   * Return a converter that first applies the specified converter and
+   * then this one.
+   *
+   * @param before  Converter to apply before this. Non-null.
+   * @return        The composed converter. Never null.
+   * @throws IllegalArgumentException  If before is null.
+   * @see #andThen
+   */
+  public final Converter compose(Converter before)
+  {
+    if (before == null)
+      throw new IllegalArgumentException("before cannot be null");
+
+    return newInstance(before, this);
+  }
+
+  /**
+   * Create a converter that applies the two specified converters in sequence.
+   *
+   * @param first   Converter to apply first. Non-null.
+   * @param second  Converter to apply second. Non-null.
+   * @return        The composed converter. Never null.
+   */
+  private static Converter newInstance(Converter first, Converter second)
+  {
+    assert first != null : "first cannot be null";
+    assert second != null : "second cannot be null";
+
+    if (first.isIdentity())
+      return second;
+
+    if (second.isIdentity())
+      return first;
+
+    // Matrix product [second] * [first] of the two transforms
+    double a = product(second.a_, first.a_) + product(second.b_, first.c_);
+    double b = product(second.a_, first.b_) + product(second.b_, first.d_);
+    double c = product(second.c_, first.a_) + product(second.d_, first.c_);
+    double d = product(second.c_, first.b_) + product(second.d_, first.d_);
+
+    return newInstance(a, b, c, d);
+  }
+
+  /**
+   * Multiply the two specified factors, treating zero as an exact zero
+   * even if the other factor is not finite.
+   *
+   * @param x  First factor.
+   * @param y  Second factor.
+   * @return   The product of the two.
+   */
+  private static double product(double x, double y)
+  {
+    return x == 0.0 || y == 0.0 ? 0.0 : x * y;
+  }
+
+  /**
+   * Convert the specified value.
+   *
+   * @param value  Value to convert.
+   * @return       The converted value.
+   */
+  public abstract double convert(double value);
+
+  /**
+   * Convert the specified range of values.
+   * <p>
+   * Source and destination may be the same array, but the ranges
+   * should then either be identical (in-place conversion) or not
+   * overlap.
+   *
+   * @param source             Values to convert. Non-null.
+   * @param sourceOffset       Index of first value to convert.
+   * @param destination        Array to write converted values to. Non-null.
+   * @param destinationOffset  Index of first converted value in destination.
+   * @param length             Number of values to convert.
+   * @throws IllegalArgumentException   If source or destination is null.
+   * @throws IndexOutOfBoundsException  If a range is outside its array.
+   */
+  public final void convert(double[] source, int sourceOffset,
+                            double[] destination, int destinationOffset,
+                            int length)
+  {
+    if (source == null)
+      throw new IllegalArgumentException("source cannot be null");
+
+    if (destination == null)
+      throw new IllegalArgumentException("destination cannot be null");
+
+    Objects.checkFromIndexSize(sourceOffset, length, source.length);
+    Objects.checkFromIndexSize(destinationOffset, length, destination.length);
+
+    convertRange(source, sourceOffset, destination, destinationOffset, length);
+  }
+
+  /**
+   * Convert the specified values in place.
+   *
+   * @param values  Values to convert. Non-null.
+   * @throws IllegalArgumentException  If values is null.
+   */
+  public final void convert(double[] values)
+  {
+    if (values == null)
+      throw new IllegalArgumentException("values cannot be null");
+
+    convertRange(values, 0, values, 0, values.length);
+  }
+
+  /**
+   * Convert the specified range of single precision values.
+   * <p>
+   * Each value is widened to double, converted by the same coefficients
+   * as the double methods and rounded to the nearest float, so the result
+   * is always identical to <tt>(float) convert((double) value)</tt>.
+   * No additional error is introduced by the single precision path.
+   * <p>
+   * Source and destination may be the same array, but the ranges
+   * should then either be identical (in-place conversion) or not
+   * overlap.
+   *
+   * @param source             Values to convert. Non-null.
+   * @param sourceOffset       Index of first value to convert.
+   * @param destination        Array to write converted values to. Non-null.
+   * @param destinationOffset  Index of first converted value in destination.
+   * @param length             Number of values to convert.
+   * @throws IllegalArgumentException   If source or destination is null.
+   * @throws IndexOutOfBoundsException  If a range is outside its array.
+   */
+  public final void convert(float[] source, int sourceOffset,
+                            float[] destination, int destinationOffset,
+                            int length)
+  {
+    if (source == null)
+      throw new IllegalArgumentException("source cannot be null");
+
+    if (destination == null)
+      throw new IllegalArgumentException("destination cannot be null");
+
+    Objects.checkFromIndexSize(sourceOffset, length, source.length);
+    Objects.checkFromIndexSize(destinationOffset, length, destination.length);
+
+    convertRange(source, sourceOffset, destination, destinationOffset, length);
+  }
+
+  /**
+   * Convert the specified single precision values in place.
+   * See convert(float[],int,float[],int,int) for accuracy.
+   *
+   * @param values  Values to convert. Non-null.
+   * @throws IllegalArgumentException  If values is null.
+   */
+  public final void convert(float[] values)
+  {
+    if (values == null)
+      throw new IllegalArgumentException("values cannot be null");
+
+    convertRange(values, 0, values, 0, values.length);
+  }
+
+  /**
+   * Convert the specified range of values, leaving null values unchanged.
+   * <p>
+   * Data files commonly use sentinels such as -999.25 or -9999 for missing
+   * values. Values equal to any of the specified null values are passed
+   * through to destination as they are. A NaN among the null values
+   * matches any NaN. Other values are converted exactly as by
+   * convert(double[],int,double[],int,int).
+   * <p>
+   * Null values are detected within the conversion loop itself, so the
+   * values are passed only once. A single null value, the common case,
+   * is handled by a loop specialized for the actual conversion.
+   *
+   * @param source             Values to convert. Non-null.
+   * @param sourceOffset       Index of first value to convert.
+   * @param destination        Array to write converted values to. Non-null.
+   *                           May be the same as source if the ranges are
+   *                           identical or doesn't overlap.
+   * @param destinationOffset  Index of first converted value in destination.
+   * @param length             Number of values to convert.
+   * @param nullValues         Null values to leave unchanged. Non-null.
+   * @throws IllegalArgumentException   If source, destination or nullValues is null.
+   * @throws IndexOutOfBoundsException  If a range is outside its array.
+   */
+  public final void convert(double[] source, int sourceOffset,
+                            double[] destination, int destinationOffset,
+                            int length,
+                            double[] nullValues)
+  {
+    if (source == null)
+      throw new IllegalArgumentException("source cannot be null");
+
+    if (destination == null)
+      throw new IllegalArgumentException("destination cannot be null");
+
+    if (nullValues == null)
+      throw new IllegalArgumentException("nullValues cannot be null");
+
+    Objects.checkFromIndexSize(sourceOffset, length, source.length);
+    Objects.checkFromIndexSize(destinationOffset, length, destination.length);
+
+    if (nullValues.length == 0 || isIdentity()) {
+      convertRange(source, sourceOffset, destination, destinationOffset, length);
+      return;
+    }
+
+    if (nullValues.length == 1) {
+      convertRange(source, sourceOffset, destination, destinationOffset, length, nullValues[0]);
+      return;
+    }
+
+    for (int i = 0; i < length; i++) {
+      double value = source[sourceOffset + i];
+      destination[destinationOffset + i] = isNullValue(value, nullValues) ? value : convert(value);
+    }
+  }
+
+  /**
+   * Check if the specified value is among the specified null values.
+   * A NaN among the null values matches any NaN.
+   *
+   * @param value       Value to check.
+   * @param nullValues  Null values to check against. Non-null.
+   * @return            True if value is a null value, false otherwise.
+   */
+  private static boolean isNullValue(double value, double[] nullValues)
+  {
+    assert nullValues != null : "nullValues cannot be null";
+
+    for (double nullValue : nullValues) {
+      if (value == nullValue || (value != value && nullValue != nullValue))
+        return true;
+    }
+
+    return false;
+  }
+
+  /**
+   * Convert the specified range of single precision values, leaving null
+   * values unchanged. See convert(double[],int,double[],int,int,double[])
+   * for details and convert(float[],int,float[],int,int) for accuracy.
+   *
+   * @param source             Values to convert. Non-null.
+   * @param sourceOffset       Index of first value to convert.
+   * @param destination        Array to write converted values to. Non-null.
+   *                           May be the same as source if the ranges are
+   *                           identical or doesn't overlap.
+   * @param destinationOffset  Index of first converted value in destination.
+   * @param length             Number of values to convert.
+   * @param nullValues         Null values to leave unchanged. Non-null.
+   * @throws IllegalArgumentException   If source, destination or nullValues is null.
+   * @throws IndexOutOfBoundsException  If a range is outside its array.
+   */
+  public final void convert(float[] source, int sourceOffset,
+                            float[] destination, int destinationOffset,
+                            int length,
+                            float[] nullValues)
+  {
+    if (source == null)
+      throw new IllegalArgumentException("source cannot be null");
+
+    if (destination == null)
+      throw new IllegalArgumentException("destination cannot be null");
+
+    if (nullValues == null)
+      throw new IllegalArgumentException("nullValues cannot be null");
+
+    Objects.checkFromIndexSize(sourceOffset, length, source.length);
+    Objects.checkFromIndexSize(destinationOffset, length, destination.length);
+
+    if (nullValues.length == 0 || isIdentity()) {
+      convertRange(source, sourceOffset, destination, destinationOffset, length);
+      return;
+    }
+
+    if (nullValues.length == 1) {
+      convertRange(source, sourceOffset, destination, destinationOffset, length, nullValues[0]);
+      return;
+    }
+
+    for (int i = 0; i < length; i++) {
+      float value = source[sourceOffset + i];
+      destination[destinationOffset + i] = isNullValue(value, nullValues) ? value : (float) convert(value);
+    }
+  }
+
+  /**
+   * Check if the specified value is among the specified null values.
+   * A NaN among the null values matches any NaN.
+   *
+   * @param value       Value to check.
+   * @param nullValues  Null values to check against. Non-null.
+   * @return            True if value is a null value, false otherwise.
+   */
+  private static boolean isNullValue(float value, float[] nullValues)
+  {
+    assert nullValues != null : "nullValues cannot be null";
+
+    for (float nullValue : nullValues) {
+      if (value == nullValue || (value != value && nullValue != nullValue))
+        return true;
+    }
+
+    return false;
+  }
+
+  /**
+   * Convert the specified range of values in parallel.
+   * <p>
+   * The range is halved recursively into fork-join tasks until a range
+   * holds threshold values or less, which is then converted by the
+   * sequential loop. Leaf ranges thereby hold between threshold/2 and
+   * threshold values.
+   * As every value is converted independently, the result is identical
+   * to that of convert(double[],int,double[],int,int).
+   *
+   * @param source             Values to convert. Non-null.
+   * @param sourceOffset       Index of first value to convert.
+   * @param destination        Array to write converted values to. Non-null.
+   * @param destinationOffset  Index of first converted value in destination.
+   * @param length             Number of values to convert.
+   * @param pool               Pool to run the tasks in. Null to use the
+   *                           common pool.
+   * @param threshold          Range size at or below which a range is converted
+   *                           sequentially rather than split. A range of this size
+   *                           or less as a whole is converted in the calling thread.
+   * @throws IllegalArgumentException   If source or destination is null, or
+   *                                    threshold is less than 1.
+   * @throws IndexOutOfBoundsException  If a range is outside its array.
+   */
+  public final void convertParallel(double[] source, int sourceOffset,
+                                    double[] destination, int destinationOffset,
+                                    int length,
+                                    ForkJoinPool pool, int threshold)
+  {
+    if (source == null)
+      throw new IllegalArgumentException("source cannot be null");
+
+    if (destination == null)
+      throw new IllegalArgumentException("destination cannot be null");
+
+    if (threshold < 1)
+      throw new IllegalArgumentException("Invalid threshold: " + threshold);
+
+    Objects.checkFromIndexSize(sourceOffset, length, source.length);
+    Objects.checkFromIndexSize(destinationOffset, length, destination.length);
+
+    RangeTask.invoke(pool, length, threshold,
+                     (offset, n) -> convertRange(source, sourceOffset + offset,
+                                                 destination, destinationOffset + offset,
+                                                 n));
+  }
+
+  /**
+   * Convert the specified values in place in parallel, using the
+   * common pool and the default threshold.
+   *
+   * @param values  Values to convert. Non-null.
+   * @throws IllegalArgumentException  If values is null.
+   */
+  public final void convertParallel(double[] values)
+  {
+    if (values == null)
+      throw new IllegalArgumentException("values cannot be null");
+
+    convertParallel(values, 0, values, 0, values.length, null, DEFAULT_PARALLEL_THRESHOLD);
+  }
+
+  /**
+   * Convert the specified range of single precision values in parallel.
+   * See convertParallel(double[],int,double[],int,int,ForkJoinPool,int)
+   * for details.
+   *
+   * @param source             Values to convert. Non-null.
+   * @param sourceOffset       Index of first value to convert.
+   * @param destination        Array to write converted values to. Non-null.
+   * @param destinationOffset  Index of first converted value in destination.
+   * @param length             Number of values to convert.
+   * @param pool               Pool to run the tasks in. Null to use the
+   *                           common pool.
+   * @param threshold          Range size at or below which a range is converted
+   *                           sequentially rather than split. A range of this size
+   *                           or less as a whole is converted in the calling thread.
+   * @throws IllegalArgumentException   If source or destination is null, or
+   *                                    threshold is less than 1.
+   * @throws IndexOutOfBoundsException  If a range is outside its array.
+   */
+  public final void convertParallel(float[] source, int sourceOffset,
+                                    float[] destination, int destinationOffset,
+                                    int length,
+                                    ForkJoinPool pool, int threshold)
+  {
+    if (source == null)
+      throw new IllegalArgumentException("source cannot be null");
+
+    if (destination == null)
+      throw new IllegalArgumentException("destination cannot be null");
+
+    if (threshold < 1)
+      throw new IllegalArgumentException("Invalid threshold: " + threshold);
+
+    Objects.checkFromIndexSize(sourceOffset, length, source.length);
+    Objects.checkFromIndexSize(destinationOffset, length, destination.length);
+
+    RangeTask.invoke(pool, length, threshold,
+                     (offset, n) -> convertRange(source, sourceOffset + offset,
+                                                 destination, destinationOffset + offset,
+                                                 n));
+  }
+
+  /**
+   * Convert the specified single precision values in place in parallel,
+   * using the common pool and the default threshold.
+   *
+   * @param values  Values to convert. Non-null.
+   * @throws IllegalArgumentException  If values is null.
+   */
+  public final void convertParallel(float[] values)
+  {
+    if (values == null)
+      throw new IllegalArgumentException("values cannot be null");
+
+    convertParallel(values, 0, values, 0, values.length, null, DEFAULT_PARALLEL_THRESHOLD);
+  }
+
+  /**
+   * Convert the remaining values of the specified buffer in place.
+   * The position and limit of the buffer are not changed.
+   *
+   * @param buffer  Buffer of values to convert. Non-null.
+   * @throws IllegalArgumentException  If buffer is null.
+   * @throws java.nio.ReadOnlyBufferException  If buffer is read-only.
+   */
+  public final void convert(DoubleBuffer buffer)
+  {
+    if (buffer == null)
+      throw new IllegalArgumentException("buffer cannot be null");
+
+    int position = buffer.position();
+    int length = buffer.remaining();
+
+    if (buffer.hasArray()) {
+      double[] array = buffer.array();
+      int offset = buffer.arrayOffset() + position;
+      convertRange(array, offset, array, offset, length);
+      return;
+    }
+
+    double[] chunk = new double[Math.min(length, CHUNK_SIZE)];
+
+    for (int i = 0; i < length; i += chunk.length) {
+      int n = Math.min(chunk.length, length - i);
+
+      for (int j = 0; j < n; j++)
+        chunk[j] = buffer.get(position + i + j);
+
+      convertRange(chunk, 0, chunk, 0, n);
+
+      for (int j = 0; j < n; j++)
+        buffer.put(position + i + j, chunk[j]);
+    }
+  }
+
+  /**
+   * Convert the remaining values of the specified buffer in place.
+   * The position and limit of the buffer are not changed.
+   * See convert(float[],int,float[],int,int) for accuracy.
+   *
+   * @param buffer  Buffer of values to convert. Non-null.
+   * @throws IllegalArgumentException  If buffer is null.
+   * @throws java.nio.ReadOnlyBufferException  If buffer is read-only.
+   */
+  public final void convert(FloatBuffer buffer)
+  {
+    if (buffer == null)
+      throw new IllegalArgumentException("buffer cannot be null");
+
+    int position = buffer.position();
+    int length = buffer.remaining();
+
+    if (buffer.hasArray()) {
+      float[] array = buffer.array();
+      int offset = buffer.arrayOffset() + position;
+      convertRange(array, offset, array, offset, length);
+      return;
+    }
+
+    float[] chunk = new float[Math.min(length, CHUNK_SIZE)];
+
+    for (int i = 0; i < length; i += chunk.length) {
+      int n = Math.min(chunk.length, length - i);
+
+      for (int j = 0; j < n; j++)
+        chunk[j] = buffer.get(position + i + j);
+
+      convertRange(chunk, 0, chunk, 0, n);
+
+      for (int j = 0; j < n; j++)
+        buffer.put(position + i + j, chunk[j]);
+    }
+  }
+
+  /**
+   * Convert double values stored in the specified byte buffer in place.
+   * <p>
+   * This allows conversion directly within direct or memory mapped
+   * buffers, such as sample blocks of binary data files, where
+   * values may be interleaved with other data. The position, limit
+   * and byte order of the buffer are not changed.
+   *
+   * @param buffer     Buffer holding the values. Non-null.
+   * @param byteOrder  Byte order of the values. Non-null.
+   * @param offset     Byte index of the first value.
+   * @param stride     Number of bytes from the start of one value to the start
+   *                   of the next. Double.BYTES for consecutive values.
+   * @param count      Number of values to convert.
+   * @throws IllegalArgumentException   If buffer or byteOrder is null, or stride
+   *                                    is less than Double.BYTES.
+   * @throws IndexOutOfBoundsException  If the values are outside the buffer limit.
+   * @throws java.nio.ReadOnlyBufferException  If buffer is read-only.
+   */
+  public final void convertDoubles(ByteBuffer buffer, ByteOrder byteOrder, int offset, int stride, int count)
+  {
+    checkByteBuffer(buffer, byteOrder, offset, stride, count, Double.BYTES);
+
+    ByteBuffer b = buffer.duplicate().order(byteOrder);
+
+    double[] chunk = new double[Math.min(count, CHUNK_SIZE)];
+
+    for (int i = 0; i < count; i += chunk.length) {
+      int n = Math.min(chunk.length, count - i);
+      int index = offset + i * stride;
+
+      for (int j = 0; j < n; j++)
+        chunk[j] = b.getDouble(index + j * stride);
+
+      convertRange(chunk, 0, chunk, 0, n);
+
+      for (int j = 0; j < n; j++)
+        b.putDouble(index + j * stride, chunk[j]);
+    }
+  }
+
+  /**
+   * Convert float values stored in the specified byte buffer in place.
+   * See convertDoubles(ByteBuffer,ByteOrder,int,int,int) for details and
+   * convert(float[],int,float[],int,int) for accuracy.
+   *
+   * @param buffer     Buffer holding the values. Non-null.
+   * @param byteOrder  Byte order of the values. Non-null.
+   * @param offset     Byte index of the first value.
+   * @param stride     Number of bytes from the start of one value to the start
+   *                   of the next. Float.BYTES for consecutive values.
+   * @param count      Number of values to convert.
+   * @throws IllegalArgumentException   If buffer or byteOrder is null, or stride
+   *                                    is less than Float.BYTES.
+   * @throws IndexOutOfBoundsException  If the values are outside the buffer limit.
+   * @throws java.nio.ReadOnlyBufferException  If buffer is read-only.
+   */
+  public final void convertFloats(ByteBuffer buffer, ByteOrder byteOrder, int offset, int stride, int count)
+  {
+    checkByteBuffer(buffer, byteOrder, offset, stride, count, Float.BYTES);
+
+    ByteBuffer b = buffer.duplicate().order(byteOrder);
+
+    float[] chunk = new float[Math.min(count, CHUNK_SIZE)];
+
+    for (int i = 0; i < count; i += chunk.length) {
+      int n = Math.min(chunk.length, count - i);
+      int index = offset + i * stride;
+
+      for (int j = 0; j < n; j++)
+        chunk[j] = b.getFloat(index + j * stride);
+
+      convertRange(chunk, 0, chunk, 0, n);
+
+      for (int j = 0; j < n; j++)
+        b.putFloat(index + j * stride, chunk[j]);
+    }
+  }
+
+  /**
+   * Convert double values stored in the specified file in place.
+   * <p>
+   * The file is memory mapped and converted chunk by chunk, so heap usage
+   * is bounded no matter the size of the file, and the I/O is left to the
+   * operating system. Each chunk is forced to the storage device after it
+   * is converted, so the conversion is durable when this method returns.
+   *
+   * @param file       File holding the values. Non-null.
+   * @param byteOrder  Byte order of the values. Non-null.
+   * @param offset     Byte position of the first value in the file.
+   * @param stride     Number of bytes from the start of one value to the start
+   *                   of the next. Double.BYTES for consecutive values.
+   * @param count      Number of values to convert.
+   * @throws IllegalArgumentException   If file or byteOrder is null, or stride
+   *                                    is less than Double.BYTES.
+   * @throws IndexOutOfBoundsException  If the values are outside the file.
+   * @throws IOException  If the file cannot be accessed for some reason.
+   */
+  public final void convertDoubles(Path file, ByteOrder byteOrder, long offset, int stride, long count)
+    throws IOException
+  {
+    convertFile(file, byteOrder, offset, stride, count, Double.BYTES, FILE_CHUNK_SIZE);
+  }
+
+  /**
+   * Convert float values stored in the specified file in place.
+   * See convertDoubles(Path,ByteOrder,long,int,long) for details and
+   * convert(float[],int,float[],int,int) for accuracy.
+   *
+   * @param file       File holding the values. Non-null.
+   * @param byteOrder  Byte order of the values. Non-null.
+   * @param offset     Byte position of the first value in the file.
+   * @param stride     Number of bytes from the start of one value to the start
+   *                   of the next. Float.BYTES for consecutive values.
+   * @param count      Number of values to convert.
+   * @throws IllegalArgumentException   If file or byteOrder is null, or stride
+   *                                    is less than Float.BYTES.
+   * @throws IndexOutOfBoundsException  If the values are outside the file.
+   * @throws IOException  If the file cannot be accessed for some reason.
+   */
+  public final void convertFloats(Path file, ByteOrder byteOrder, long offset, int stride, long count)
+    throws IOException
+  {
+    convertFile(file, byteOrder, offset, stride, count, Float.BYTES, FILE_CHUNK_SIZE);
+  }
+
+  /**
+   * Convert values stored in the specified file in place by mapping
+   * the file in chunks of at most the specified number of bytes, each
+   * forced to the storage device when converted.
+   * Package-private so that tests may use small chunks.
+   *
+   * @param file       File holding the values. Non-null.
+   * @param byteOrder  Byte order of the values. Non-null.
+   * @param offset     Byte position of the first value in the file.
+   * @param stride     Number of bytes from the start of one value to the start
+   *                   of the next.
+   * @param count      Number of values to convert.
+   * @param valueSize  Number of bytes of each value. Double.BYTES or Float.BYTES.
+   * @param chunkSize  Maximum number of bytes mapped at a time. Values are
+   *                   never split between chunks. FILE_CHUNK_SIZE in production.
+   * @throws IllegalArgumentException   If file or byteOrder is null, or stride
+   *                                    is less than valueSize.
+   * @throws IndexOutOfBoundsException  If the values are outside the file.
+   * @throws IOException  If the file cannot be accessed for some reason.
+   */
+  final void convertFile(Path file, ByteOrder byteOrder, long offset, int stride, long count, int valueSize, int chunkSize)
+    throws IOException
+  {
+    if (file == null)
+      throw new IllegalArgumentException("file cannot be null");
+
+    if (byteOrder == null)
+      throw new IllegalArgumentException("byteOrder cannot be null");
+
+    if (stride < valueSize)
+      throw new IllegalArgumentException("Invalid stride: " + stride);
+
+    if (offset < 0 || count < 0)
+      throw new IndexOutOfBoundsException("Invalid range: " + offset + "," + count);
+
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      long end = count > 0 ? offset + (count - 1) * stride + valueSize : offset;
+      if (end > channel.size())
+        throw new IndexOutOfBoundsException("Range [" + offset + "," + end + ") outside file of size " + channel.size());
+
+      long nValuesPerChunk = Math.max(1, chunkSize / stride);
+
+      for (long i = 0; i < count; i += nValuesPerChunk) {
+        int n = (int) Math.min(nValuesPerChunk, count - i);
+        long position = offset + i * stride;
+        long size = (long) (n - 1) * stride + valueSize;
+
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, position, size);
+
+        if (valueSize == Double.BYTES)
+          convertDoubles(buffer, byteOrder, 0, stride, n);
+        else
+          convertFloats(buffer, byteOrder, 0, stride, n);
+
+        // Write back while the chunk is still mapped
+        buffer.force();
+      }
+    }
+  }
+
+  /**
+   * Validate the arguments of the byte buffer conversion methods.
+   *
+   * @param buffer     Buffer holding the values.
+   * @param byteOrder  Byte order of the values.
+   * @param offset     Byte index of the first value.
+   * @param stride     Number of bytes between the start of two values.
+   * @param count      Number of values.
+   * @param valueSize  Number of bytes of each value.
+   * @throws IllegalArgumentException   If buffer or byteOrder is null, or stride
+   *                                    is less than valueSize.
+   * @throws IndexOutOfBoundsException  If the values are outside the buffer limit.
+   */
+  private static void checkByteBuffer(ByteBuffer buffer, ByteOrder byteOrder, int offset, int stride, int count, int valueSize)
+  {
+    if (buffer == null)
+      throw new IllegalArgumentException("buffer cannot be null");
+
+    if (byteOrder == null)
+      throw new IllegalArgumentException("byteOrder cannot be null");
+
+    if (stride < valueSize)
+      throw new IllegalArgumentException("Invalid stride: " + stride);
+
+    if (count < 0)
+      throw new IndexOutOfBoundsException("Invalid count: " + count);
+
+    long end = count > 0 ? offset + (long) (count - 1) * stride + valueSize : offset;
+    if (offset < 0 || end > buffer.limit())
+      throw new IndexOutOfBoundsException("Range [" + offset + "," + end + ") outside buffer limit " + buffer.limit());
+  }
+
+  /**
+   * Convert the specified range of values. The ranges has been validated
+   * by the caller. Implementations should keep this a simple counted loop
+   * so that the JIT compiler may vectorize it.
+   *
+   * @param source             Values to convert. Non-null.
+   * @param sourceOffset       Index of first value to convert.
+   * @param destination        Array to write converted values to. Non-null.
+   * @param destinationOffset  Index of first converted value in destination.
+   * @param length             Number of values to convert.
+   */
+  abstract void convertRange(double[] source, int sourceOffset,
+                             double[] destination, int destinationOffset,
+                             int length);
+
+  /**
+   * Convert the specified range of single precision values.
+   * The ranges has been validated by the caller.
+   *
+   * @param source             Values to convert. Non-null.
+   * @param sourceOffset       Index of first value to convert.
+   * @param destination        Array to write converted values to. Non-null.
+   * @param destinationOffset  Index of first converted value in destination.
+   * @param length             Number of values to convert.
+   */
+  abstract void convertRange(float[] source, int sourceOffset,
+                             float[] destination, int destinationOffset,
+                             int length);
+
+  /**
+   * Convert the specified range of values, leaving values equal to the
+   * specified null value unchanged. A NaN null value matches any NaN.
+   * The ranges has been validated by the caller. Implementations should
+   * test for the null value within the conversion loop rather than in a
+   * separate pass.
+   *
+   * @param source             Values to convert. Non-null.
+   * @param sourceOffset       Index of first value to convert.
+   * @param destination        Array to write converted values to. Non-null.
+   * @param destinationOffset  Index of first converted value in destination.
+   * @param length             Number of values to convert.
+   * @param nullValue          Null value to leave unchanged.
+   */
+  abstract void convertRange(double[] source, int sourceOffset,
+                             double[] destination, int destinationOffset,
+                             int length,
+                             double nullValue);
+
+  /**
+   * Convert the specified range of single precision values, leaving values
+   * equal to the specified null value unchanged. A NaN null value matches
+   * any NaN. The ranges has been validated by the caller.
+   *
+   * @param source             Values to convert. Non-null.
+   * @param sourceOffset       Index of first value to convert.
+   * @param destination        Array to write converted values to. Non-null.
+   * @param destinationOffset  Index of first converted value in destination.
+   * @param length             Number of values to convert.
+   * @param nullValue          Null value to leave unchanged.
+   */
+  abstract void convertRange(float[] source, int sourceOffset,
+                             float[] destination, int destinationOffset,
+                             int length,
+                             float nullValue);
+
+  /**
+   * Convert the specified value. Same as convert(double).
+   *
+   * @param value  Value to convert.
+   * @return       Converted value.
+   */
+  @Override
+  public final double applyAsDouble(double value)
+  {
+    return convert(value);
+  }
+
+  /**
+   * Return a spliterator that lazily converts the values of the
+   * specified spliterator.
+   * <p>
+   * The returned spliterator splits along with the source, and keeps its
+   * SIZED, SUBSIZED, ORDERED, IMMUTABLE and CONCURRENT characteristics, so
+   * parallel streams built on it split as efficiently as on the source.
+   * SORTED and DISTINCT are not kept, as these are not preserved by
+   * conversion in general. Traversal does not allocate.
+   *
+   * @param spliterator  Spliterator of values to convert. Non-null.
+   * @return             Spliterator of converted values. Never null.
+   * @throws IllegalArgumentException  If spliterator is null.
+   */
+  public final Spliterator.OfDouble convert(Spliterator.OfDouble spliterator)
+  {
+    if (spliterator == null)
+      throw new IllegalArgumentException("spliterator cannot be null");
+
+    return new ConvertingSpliterator(this, spliterator);
+  }
+
+  /**
+   * Return a stream of the converted values of the specified stream.
+   * This is an intermediate operation.
+   *
+   * @param stream  Stream of values to convert. Non-null.
+   * @return        Stream of converted values. Never null.
+   * @throws IllegalArgumentException  If stream is null.
+   */
+  public final DoubleStream convert(DoubleStream stream)
+  {
+    if (stream == null)
+      throw new IllegalArgumentException("stream cannot be null");
+
+    return isIdentity() ? stream : stream.map(this);
+  }
+
+  /**
+   * Check if this converter leaves values unchanged.
+   *
+   * @return  True if this is an identity converter, false otherwise.
+   */
+  public boolean isIdentity()
+  {
+    return false;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String toString()
+  {
+    return "(" + a_ + " * value + " + b_ + ") / (" + c_ + " * value + " + d_ + ")";
+  }
+
+  /**
+   * Fork-join task for converting a range of values in parallel.
+   */
+  private static final class RangeTask extends RecursiveAction
+  {
+    /** Serialization version. Tasks are never serialized in practice. */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Conversion of a sub range.
+     */
+    @FunctionalInterface
+    private interface RangeConversion
+    {
+      /**
+       * Convert the specified sub range.
+       *
+       * @param offset  Offset of sub range relative to start of the full range.
+       * @param length  Number of values to convert.
+       */
+      void convert(int offset, int length);
+    }
+
+    /** The conversion to apply to sub ranges. Non-null. */
+    private final RangeConversion conversion_;
+
+    /** Offset of the range of this task relative to the full range. */
+    private final int offset_;
+
+    /** Number of values in the range of this task. */
+    private final int length_;
+
+    /** Range size at or below which a range is converted sequentially. */
+    private final int threshold_;
+
+    /**
+     * Create a new range task.
+     *
+     * @param conversion  Conversion to apply. Non-null.
+     * @param offset      Offset of range relative to the full range.
+     * @param length      Number of values in range.
+     * @param threshold   Range size at or below which a range is converted sequentially.
+     */
+    private RangeTask(RangeConversion conversion, int offset, int length, int threshold)
+    {
+      assert conversion != null : "conversion cannot be null";
+
+      conversion_ = conversion;
+      offset_ = offset;
+      length_ = length;
+      threshold_ = threshold;
+    }
+
+    /**
+     * Convert a range of the specified length, in parallel if it is
+     * large enough.
+     *
+     * @param pool        Pool to use. Null for the common pool.
+     * @param length      Number of values to convert.
+     * @param threshold   Range size at or below which a range is converted sequentially.
+     * @param conversion  Conversion to apply. Non-null.
+     */
+    private static void invoke(ForkJoinPool pool, int length, int threshold, RangeConversion conversion)
+    {
+      if (length <= threshold) {
+        conversion.convert(0, length);
+        return;
+      }
+
+      RangeTask task = new RangeTask(conversion, 0, length, threshold);
+      (pool != null ? pool : ForkJoinPool.commonPool()).invoke(task);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void compute()
+    {
+      if (length_ <= threshold_) {
+        conversion_.convert(offset_, length_);
+        return;
+      }
+
+      int half = length_ / 2;
+      invokeAll(new RangeTask(conversion_, offset_, half, threshold_),
+                new RangeTask(conversion_, offset_ + half, length_ - half, threshold_));
+    }
+  }
+
+  /**
+   * Spliterator converting the values of another spliterator.
+   * <p>
+   * The spliterator is its own consumer of the source values, so that
+   * traversal does not allocate. Like any spliterator it is not thread-safe.
+   */
+  private static final class ConvertingSpliterator implements Spliterator.OfDouble, DoubleConsumer
+  {
+    /** Characteristics of the source kept by this spliterator. */
+    private static final int CHARACTERISTICS = SIZED | SUBSIZED | ORDERED | IMMUTABLE | CONCURRENT;
+
+    /** The converter to apply. Non-null. */
+    private final Converter converter_;
+
+    /** The source of values to convert. Non-null. */
+    private final Spliterator.OfDouble source_;
+
+    /** Consumer of converted values of the current traversal. Null if none. */
+    private DoubleConsumer action_;
+
+    /**
+     * Create a new converting spliterator.
+     *
+     * @param converter  Converter to apply. Non-null.
+     * @param source     Source of values to convert. Non-null.
+     */
+    private ConvertingSpliterator(Converter converter, Spliterator.OfDouble source)
+    {
+      assert converter != null : "converter cannot be null";
+      assert source != null : "source cannot be null";
+
+      converter_ = converter;
+      source_ = source;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void accept(double value)
+    {
+      action_.accept(converter_.convert(value));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean tryAdvance(DoubleConsumer action)
+    {
+      Objects.requireNonNull(action);
+
+      action_ = action;
+      try {
+        return source_.tryAdvance(this);
+      }
+      finally {
+        action_ = null;
+      }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void forEachRemaining(DoubleConsumer action)
+    {
+      Objects.requireNonNull(action);
+
+      action_ = action;
+      try {
+        source_.forEachRemaining(this);
+      }
+      finally {
+        action_ = null;
+      }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Spliterator.OfDouble trySplit()
+    {
+      Spliterator.OfDouble prefix = source_.trySplit();
+      return prefix != null ? new ConvertingSpliterator(converter_, prefix) : null;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long estimateSize()
+    {
+      return source_.estimateSize();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long getExactSizeIfKnown()
+    {
+      return source_.getExactSizeIfKnown();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int characteristics()
+    {
+      return source_.characteristics() & CHARACTERISTICS;
+    }
+  }
+
+  /**
+   * Converter that leaves values unchanged.
+   */
+  private static final class IdentityConverter extends Converter
+  {
+    /** The sole instance of this class. */
+    private final static IdentityConverter INSTANCE = new IdentityConverter();
+
+    /**
+     * Create the identity converter.
+     */
+    private IdentityConverter()
+    {
+      super(1.0, 0.0, 0.0, 1.0);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double convert(double value)
+    {
+      return value;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    void convertRange(double[] source, int sourceOffset,
+                      double[] destination, int destinationOffset,
+                      int length)
+    {
+      if (source != destination || sourceOffset != destinationOffset)
+        System.arraycopy(source, sourceOffset, destination, destinationOffset, length);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    void convertRange(float[] source, int sourceOffset,
+                      float[] destination, int destinationOffset,
+                      int length)
+    {
+      if (source != destination || sourceOffset != destinationOffset)
+        System.arraycopy(source, sourceOffset, destination, destinationOffset, length);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    void convertRange(double[] source, int sourceOffset,
+                      double[] destination, int destinationOffset,
+                      int length,
+                      double nullValue)
+    {
+      convertRange(source, sourceOffset, destination, destinationOffset, length);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    void convertRange(float[] source, int sourceOffset,
+                      float[] destination, int destinationOffset,
+                      int length,
+                      float nullValue)
+    {
+      convertRange(source, sourceOffset, destination, destinationOffset, length);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isIdentity()
+    {
+      return true;
+    }
+  }
+
+  /**
+   * Converter for value * a.
+   */
+  private static final class ScaleConverter extends Converter
+  {
+    /**
+     * Create a scale converter.
+     *
+     * @param a  Scale factor.
+     */
+    private ScaleConverter(double a)
+    {
+      super(a, 0.0, 0.0, 1.0);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double convert(double value)
+    {
+      return a_ * value;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    void convertRange(double[] source, int sourceOffset,
+                      double[] destination, int destinationOffset,
+                      int length)
+    {
+      double a = a_;
+
+      for (int i = 0; i < length; i++)
+        destination[destinationOffset + i] = a * source[sourceOffset + i];
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    void convertRange(float[] source, int sourceOffset,
+                      float[] destination, int destinationOffset,
+                      int length)
+    {
+      double a = a_;
+
+      for (int i = 0; i < length; i++)
+        destination[destinationOffset + i] = (float) (a * source[sourceOffset + i]);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    void convertRange(double[] source, int sourceOffset,
+                      double[] destination, int destinationOffset,
+                      int length,
+                      double nullValue)
+    {
+      double a = a_;
+
+      if (Double.isNaN(nullValue)) {
+        for (int i = 0; i < length; i++) {
+          double value = source[sourceOffset + i];
+          destination[destinationOffset + i] = value != value ? value : a * value;
+        }
+      }
+      else {
+        for (int i = 0; i < length; i++) {
+          double value = source[sourceOffset + i];
+          destination[destinationOffset + i] = value == nullValue ? value : a * value;
+        }
+      }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    void convertRange(float[] source, int sourceOffset,
+                      float[] destination, int destinationOffset,
+                      int length,
+                      float nullValue)
+    {
+      double a = a_;
+
+      if (Float.isNaN(nullValue)) {
+        for (int i = 0; i < length; i++) {
+          float value = source[sourceOffset + i];
+          destination[destinationOffset + i] = value != value ? value : (float) (a * value);
+        }
+      }
+      else {
+        for (int i = 0; i < length; i++) {
+          float value = source[sourceOffset + i];
+          destination[destinationOffset + i] = value == nullValue ? value : (float) (a * value);
+        }
+      }
+    }
+  }
+
+  /**
+   * Converter for value * a + b.
+   */
+  private static final class AffineConverter extends Converter
+  {
+    /**
+     * Create an affine converter.
+     *
+     * @param a  Scale factor.
+     * @param b  Offset.
+     */
+    private AffineConverter(double a, double b)
+    {
+      super(a, b, 0.0, 1.0);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double convert(double value)
+    {
+      return a_ * value + b_;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    void convertRange(double[] source, int sourceOffset,
+                      double[] destination, int destinationOffset,
+                      int length)
+    {
+      double a = a_;
+      double b = b_;
+
+      for (int i = 0; i < length; i++)
+        destination[destinationOffset + i] = a * source[sourceOffset + i] + b;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    void convertRange(float[] source, int sourceOffset,
+                      float[] destination, int destinationOffset,
+                      int length)
+    {
+      double a = a_;
+      double b = b_;
+
+      for (int i = 0; i < length; i++)
+        destination[destinationOffset + i] = (float) (a * source[sourceOffset + i] + b);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    void convertRange(double[] source, int sourceOffset,
+                      double[] destination, int destinationOffset,
+                      int length,
+                      double nullValue)
+    {
+      double a = a_;
+      double b = b_;
+
+      if (Double.isNaN(nullValue)) {
+        for (int i = 0; i < length; i++) {
+          double value = source[sourceOffset + i];
+          destination[destinationOffset + i] = value != value ? value : a * value + b;
+        }
+      }
+      else {
+        for (int i = 0; i < length; i++) {
+          double value = source[sourceOffset + i];
+          destination[destinationOffset + i] = value == nullValue ? value : a * value + b;
+        }
+      }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    void convertRange(float[] source, int sourceOffset,
+                      float[] destination, int destinationOffset,
+                      int length,
+                      float nullValue)
+    {
+      double a = a_;
+      double b = b_;
+
+      if (Float.isNaN(nullValue)) {
+        for (int i = 0; i < length; i++) {
+          float value = source[sourceOffset + i];
+          destination[destinationOffset + i] = value != value ? value : (float) (a * value + b);
+        }
+      }
+      else {
+        for (int i = 0; i < length; i++) {
+          float value = source[sourceOffset + i];
+          destination[destinationOffset + i] = value == nullValue ? value : (float) (a * value + b);
+        }
+      }
+    }
+  }
+
+  /**
+   * Converter for the general (a * value + b) / (c * value + d).
+   */
+  private static final class RationalConverter extends Converter
+  {
+    /**
+     * Create a rational converter.
+     *
+     * @param a  Conversion factor a.
+     * @param b  Conversion factor b.
+     * @param c  Conversion factor c.
+     * @param d  Conversion factor d.
+     */
+    private RationalConverter(double a, double b, double c, double d)
+    {
+      super(a, b, c, d);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double convert(double value)
+    {
+      return (a_ * value + b_) / (c_ * value + d_);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    void convertRange(double[] source, int sourceOffset,
+                      double[] destination, int destinationOffset,
+                      int length)
+    {
+      double a = a_;
+      double b = b_;
+      double c = c_;
+      double d = d_;
+
+      for (int i = 0; i < length; i++) {
+        double value = source[sourceOffset + i];
+        destination[destinationOffset + i] = (a * value + b) / (c * value + d);
+      }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    void convertRange(float[] source, int sourceOffset,
+                      float[] destination, int destinationOffset,
+                      int length)
+    {
+      double a = a_;
+      double b = b_;
+      double c = c_;
+      double d = d_;
+
+      for (int i = 0; i < length; i++) {
+        double value = source[sourceOffset + i];
+        destination[destinationOffset + i] = (float) ((a * value + b) / (c * value + d));
+      }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    void convertRange(double[] source, int sourceOffset,
+                      double[] destination, int destinationOffset,
+                      int length,
+                      double nullValue)
+    {
+      double a = a_;
+      double b = b_;
+      double c = c_;
+      double d = d_;
+
+      if (Double.isNaN(nullValue)) {
+        for (int i = 0; i < length; i++) {
+          double value = source[sourceOffset + i];
+          destination[destinationOffset + i] = value != value ? value : (a * value + b) / (c * value + d);
+        }
+      }
+      else {
+        for (int i = 0; i < length; i++) {
+          double value = source[sourceOffset + i];
+          destination[destinationOffset + i] = value == nullValue ? value : (a * value + b) / (c * value + d);
+        }
+      }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    void convertRange(float[] source, int sourceOffset,
+                      float[] destination, int destinationOffset,
+                      int length,
+                      float nullValue)
+    {
+      double a = a_;
+      double b = b_;
+      double c = c_;
+      double d = d_;
+
+      if (Float.isNaN(nullValue)) {
+        for (int i = 0; i < length; i++) {
+          float value = source[sourceOffset + i];
+          destination[destinationOffset + i] = value != value ? value : (float) ((a * value + b) / (c * value + d));
+        }
+      }
+      else {
+        for (int i = 0; i < length; i++) {
+          float value = source[sourceOffset + i];
+          destination[destinationOffset + i] = value == nullValue ? value : (float) ((a * value + b) / (c * value + d));
+        }
+      }
+    }
+  }
+}
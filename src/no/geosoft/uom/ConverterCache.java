@@ -0,0 +1,248 @@
+package no.geosoft.uom;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+
+/**
+ * A bounded cache of converters keyed by pairs of unit symbols as
+ * given by the client, including unresolved ones.
+ * <p>
+ * Lookups are lock-free and need a single hash table probe. When the
+ * cache exceeds its capacity, the least frequently used half is evicted
+ * and the use counts of the remaining entries are halved so that the
+ * cache adapts to changes in usage over time.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @author <a href="mailto:jacob.dreyer@geosoft.no">Jacob Dreyer</a>
+ */
+final class ConverterCache
+{
+  /**
+   * Key of a cache entry, being a from symbol and a to symbol.
+   */
+  private static final class Key
+  {
+    /** Symbol of unit to convert from. Non-null. */
+    private final String fromUnitSymbol_;
+
+    /** Symbol of unit to convert to. Non-null. */
+    private final String toUnitSymbol_;
+
+    /** Hash code of this key. */
+    private final int hashCode_;
+
+    /**
+     * Create a new cache key.
+     *
+     * @param fromUnitSymbol  Symbol of unit to convert from. Non-null.
+     * @param toUnitSymbol    Symbol of unit to convert to. Non-null.
+     */
+    private Key(String fromUnitSymbol, String toUnitSymbol)
+    {
+      assert fromUnitSymbol != null : "fromUnitSymbol cannot be null";
+      assert toUnitSymbol != null : "toUnitSymbol cannot be null";
+
+      fromUnitSymbol_ = fromUnitSymbol;
+      toUnitSymbol_ = toUnitSymbol;
+      hashCode_ = 31 * fromUnitSymbol.hashCode() + toUnitSymbol.hashCode();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int hashCode()
+    {
+      return hashCode_;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean equals(Object object)
+    {
+      if (object == this)
+        return true;
+
+      if (!(object instanceof Key))
+        return false;
+
+      Key key = (Key) object;
+      return hashCode_ == key.hashCode_ &&
+             fromUnitSymbol_.equals(key.fromUnitSymbol_) &&
+             toUnitSymbol_.equals(key.toUnitSymbol_);
+    }
+  }
+
+  /**
+   * A cached converter and its use count.
+   */
+  private static final class Entry
+  {
+    /** The cached converter. Null if a symbol could not be resolved. */
+    private final Converter converter_;
+
+    /**
+     * Number of times this entry has been used since the last eviction.
+     * Updated without synchronization: the count only ranks entries for
+     * eviction, so increments lost to races are of no concern and are
+     * far cheaper than contended atomic updates on popular entries.
+     */
+    private int nUses_;
+
+    /**
+     * Create a new cache entry.
+     *
+     * @param converter  Converter to cache. May be null.
+     */
+    private Entry(Converter converter)
+    {
+      converter_ = converter;
+    }
+  }
+
+  /** Maximum number of entries in this cache. */
+  private final int capacity_;
+
+  /**
+   * Current entries of this cache. Replaced as a whole when the cache is
+   * cleared, so that entries computed before clear() are never added to
+   * the new content. Non-null.
+   */
+  private volatile Map<Key,Entry> entries_ = new ConcurrentHashMap<>();
+
+  /** Number of lookups found in the cache. */
+  private final LongAdder nHits_ = new LongAdder();
+
+  /** Number of lookups not found in the cache. */
+  private final LongAdder nMisses_ = new LongAdder();
+
+  /**
+   * Create a new converter cache.
+   *
+   * @param capacity  Maximum number of converters to cache. Must be at least 2.
+   * @throws IllegalArgumentException  If capacity is less than 2.
+   */
+  ConverterCache(int capacity)
+  {
+    if (capacity < 2)
+      throw new IllegalArgumentException("Invalid capacity: " + capacity);
+
+    capacity_ = capacity;
+  }
+
+  /**
+   * Return the converter for the specified unit symbols, resolving it
+   * through the given resolver if it is not already cached.
+   *
+   * @param fromUnitSymbol  Symbol of unit to convert from. Non-null.
+   * @param toUnitSymbol    Symbol of unit to convert to. Non-null.
+   * @param resolver        Function creating a converter from the two symbols,
+   *                        or returning null if they cannot be resolved. Non-null.
+   * @return                The requested converter, or null if the symbols
+   *                        could not be resolved.
+   */
+  Converter get(String fromUnitSymbol, String toUnitSymbol,
+                BiFunction<String,String,Converter> resolver)
+  {
+    assert fromUnitSymbol != null : "fromUnitSymbol cannot be null";
+    assert toUnitSymbol != null : "toUnitSymbol cannot be null";
+    assert resolver != null : "resolver cannot be null";
+
+    Map<Key,Entry> entries = entries_;
+
+    Key key = new Key(fromUnitSymbol, toUnitSymbol);
+    Entry entry = entries.get(key);
+
+    if (entry != null) {
+      nHits_.increment();
+      entry.nUses_++;
+      return entry.converter_;
+    }
+
+    nMisses_.increment();
+
+    Converter converter = resolver.apply(fromUnitSymbol, toUnitSymbol);
+
+    if (entries.putIfAbsent(key, new Entry(converter)) == null) {
+      if (entries.size() > capacity_)
+        evict(entries);
+    }
+
+    return converter;
+  }
+
+  /**
+   * Evict the least frequently used half of the specified entries,
+   * and halve the use count of the remaining ones.
+   *
+   * @param entries  Entries to evict from. Non-null.
+   */
+  private synchronized void evict(Map<Key,Entry> entries)
+  {
+    assert entries != null : "entries cannot be null";
+
+    // Some other thread may have done the job already
+    if (entries.size() <= capacity_)
+      return;
+
+    int[] nUses = entries.values().stream().mapToInt(entry -> entry.nUses_).toArray();
+    if (nUses.length == 0)
+      return;
+
+    Arrays.sort(nUses);
+    int median = nUses[nUses.length / 2];
+
+    int nToEvict = entries.size() - capacity_ / 2;
+
+    for (Map.Entry<Key,Entry> e : entries.entrySet()) {
+      Entry entry = e.getValue();
+      if (nToEvict > 0 && entry.nUses_ <= median) {
+        if (entries.remove(e.getKey(), entry))
+          nToEvict--;
+      }
+      else {
+        entry.nUses_ /= 2;
+      }
+    }
+  }
+
+  /**
+   * Remove all entries from this cache. The hit and miss counts are kept.
+   */
+  void clear()
+  {
+    entries_ = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Return the number of entries in this cache.
+   *
+   * @return  Number of entries in this cache.
+   */
+  int size()
+  {
+    return entries_.size();
+  }
+
+  /**
+   * Return the number of lookups found in this cache.
+   *
+   * @return  Number of cache hits.
+   */
+  long getHitCount()
+  {
+    return nHits_.sum();
+  }
+
+  /**
+   * Return the number of lookups not found in this cache.
+   *
+   * @return  Number of cache misses.
+   */
+  long getMissCount()
+  {
+    return nMisses_.sum();
+  }
+}
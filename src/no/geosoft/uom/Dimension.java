@@ -0,0 +1,320 @@
+package no.geosoft.uom;
+
+/**
+ * Model the physical dimension of a unit as a vector of integer
+ * exponents of the base dimensions, such as L2M/T2 for energy.
+ * <p>
+ * The base dimensions are those of the Energistics unit dictionary:
+ *
+ * <pre>
+ *    L  length
+ *    M  mass
+ *    T  time
+ *    C  electric charge
+ *    K  thermodynamic temperature
+ *    N  amount of substance
+ *    A  plane angle
+ *    B  luminous intensity
+ *    S  solid angle
+ * </pre>
+ *
+ * The exponents are packed into a single long, so dimensions are
+ * compared and hashed in constant time.
+ * <p>
+ * This class is immutable.
+ *
+ * @author <a href="mailto:jacob.dreyer@geosoft.no">Jacob Dreyer</a>
+ */
+public final class Dimension
+{
+  /** The base dimensions in canonical order. */
+  private final static String BASE_DIMENSIONS = "LMTCKNABS";
+
+  /** Number of bits per exponent in the packed representation. */
+  private final static int N_BITS = 7;
+
+  /** Mask of a single exponent in the packed representation. */
+  private final static long MASK = (1L << N_BITS) - 1;
+
+  /** Smallest exponent that can be represented. */
+  private final static int MIN_EXPONENT = -(1 << (N_BITS - 1));
+
+  /** Largest exponent that can be represented. */
+  private final static int MAX_EXPONENT = (1 << (N_BITS - 1)) - 1;
+
+  /** The dimension of dimensionless units. */
+  public final static Dimension NONE = new Dimension(0L);
+
+  /** The exponents, N_BITS two's complement bits per base dimension. */
+  private final long exponents_;
+
+  /**
+   * Create a new dimension from its packed exponents.
+   *
+   * @param exponents  Packed exponents.
+   */
+  private Dimension(long exponents)
+  {
+    exponents_ = exponents;
+  }
+
+  /**
+   * Create a dimension from the specified exponents.
+   *
+   * @param exponents  Exponents in canonical base dimension order. Non-null.
+   * @return           The requested dimension. Never null.
+   * @throws IllegalArgumentException  If an exponent is out of range.
+   */
+  private static Dimension newInstance(int[] exponents)
+  {
+    assert exponents != null : "exponents cannot be null";
+    assert exponents.length == BASE_DIMENSIONS.length() : "Invalid exponents";
+
+    long packed = 0L;
+    for (int i = 0; i < exponents.length; i++) {
+      if (exponents[i] < MIN_EXPONENT || exponents[i] > MAX_EXPONENT)
+        throw new IllegalArgumentException("Exponent out of range: " + exponents[i]);
+
+      packed |= (exponents[i] & MASK) << (i * N_BITS);
+    }
+
+    return packed == 0L ? NONE : new Dimension(packed);
+  }
+
+  /**
+   * Return the dimension of the specified packed exponents.
+   *
+   * @param exponents  Packed exponents, as returned by getPackedExponents().
+   * @return           The associated dimension. Never null.
+   */
+  static Dimension valueOf(long exponents)
+  {
+    return exponents == 0L ? NONE : new Dimension(exponents);
+  }
+
+  /**
+   * Return the packed exponents of this dimension.
+   *
+   * @return  The packed exponents of this dimension.
+   */
+  long getPackedExponents()
+  {
+    return exponents_;
+  }
+
+  /**
+   * Return the exponents of this dimension.
+   *
+   * @return  Exponents in canonical base dimension order. Never null.
+   */
+  private int[] getExponents()
+  {
+    int[] exponents = new int[BASE_DIMENSIONS.length()];
+    for (int i = 0; i < exponents.length; i++)
+      exponents[i] = getExponent(i);
+
+    return exponents;
+  }
+
+  /**
+   * Return the exponent of the base dimension at the specified index.
+   *
+   * @param index  Index of base dimension in canonical order.
+   * @return       The exponent of the base dimension.
+   */
+  private int getExponent(int index)
+  {
+    long field = (exponents_ >>> (index * N_BITS)) & MASK;
+
+    // Sign extend
+    return (int) (field << (64 - N_BITS) >> (64 - N_BITS));
+  }
+
+  /**
+   * Parse the specified dimensional class, such as "L2M/T2" or "1/K".
+   * <p>
+   * Each base dimension is given by its letter followed by an optional
+   * exponent. Base dimensions after the "/" are in the denominator.
+   * "1" denotes an empty numerator.
+   *
+   * @param text  Text to parse. Non-null.
+   * @return      The parsed dimension. Never null.
+   * @throws IllegalArgumentException  If text is null or not a valid dimensional class.
+   */
+  public static Dimension parse(String text)
+  {
+    if (text == null)
+      throw new IllegalArgumentException("text cannot be null");
+
+    int[] exponents = new int[BASE_DIMENSIONS.length()];
+
+    String[] parts = text.trim().split("/", -1);
+    if (parts.length > 2)
+      throw new IllegalArgumentException("Invalid dimensional class: " + text);
+
+    for (int p = 0; p < parts.length; p++) {
+      String part = parts[p];
+      int sign = p == 0 ? 1 : -1;
+
+      if (part.isEmpty())
+        throw new IllegalArgumentException("Invalid dimensional class: " + text);
+
+      if (part.equals("1"))
+        continue;
+
+      int pos = 0;
+      while (pos < part.length()) {
+        int index = BASE_DIMENSIONS.indexOf(part.charAt(pos));
+        if (index < 0)
+          throw new IllegalArgumentException("Invalid dimensional class: " + text);
+
+        pos++;
+
+        int start = pos;
+        while (pos < part.length() && Character.isDigit(part.charAt(pos)))
+          pos++;
+
+        int exponent = start < pos ? Integer.parseInt(part.substring(start, pos)) : 1;
+        exponents[index] += sign * exponent;
+      }
+    }
+
+    return newInstance(exponents);
+  }
+
+  /**
+   * Return the exponent of the specified base dimension.
+   *
+   * @param baseDimension  Letter of base dimension, such as 'L'.
+   * @return               The exponent of the base dimension. 0 if not present.
+   * @throws IllegalArgumentException  If baseDimension is not a base dimension.
+   */
+  public int getExponent(char baseDimension)
+  {
+    int index = BASE_DIMENSIONS.indexOf(baseDimension);
+    if (index < 0)
+      throw new IllegalArgumentException("Invalid base dimension: " + baseDimension);
+
+    return getExponent(index);
+  }
+
+  /**
+   * Check if this dimension is dimensionless.
+   *
+   * @return  True if all exponents are zero, false otherwise.
+   */
+  public boolean isDimensionless()
+  {
+    return exponents_ == 0L;
+  }
+
+  /**
+   * Return the dimension of the product of a quantity of this
+   * dimension and one of the specified dimension.
+   *
+   * @param dimension  Dimension to multiply with. Non-null.
+   * @return           The product dimension. Never null.
+   * @throws IllegalArgumentException  If dimension is null or if an exponent
+   *                   of the result is out of range.
+   */
+  public Dimension multiply(Dimension dimension)
+  {
+    if (dimension == null)
+      throw new IllegalArgumentException("dimension cannot be null");
+
+    int[] exponents = getExponents();
+    for (int i = 0; i < exponents.length; i++)
+      exponents[i] += dimension.getExponent(i);
+
+    return newInstance(exponents);
+  }
+
+  /**
+   * Return the dimension of the quotient of a quantity of this
+   * dimension and one of the specified dimension.
+   *
+   * @param dimension  Dimension to divide by. Non-null.
+   * @return           The quotient dimension. Never null.
+   * @throws IllegalArgumentException  If dimension is null or if an exponent
+   *                   of the result is out of range.
+   */
+  public Dimension divide(Dimension dimension)
+  {
+    if (dimension == null)
+      throw new IllegalArgumentException("dimension cannot be null");
+
+    int[] exponents = getExponents();
+    for (int i = 0; i < exponents.length; i++)
+      exponents[i] -= dimension.getExponent(i);
+
+    return newInstance(exponents);
+  }
+
+  /**
+   * Return the dimension of a quantity of this dimension raised
+   * to the specified power.
+   *
+   * @param power  Power to raise to.
+   * @return       The resulting dimension. Never null.
+   * @throws IllegalArgumentException  If an exponent of the result is out of range.
+   */
+  public Dimension power(int power)
+  {
+    int[] exponents = getExponents();
+    for (int i = 0; i < exponents.length; i++)
+      exponents[i] *= power;
+
+    return newInstance(exponents);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int hashCode()
+  {
+    return Long.hashCode(exponents_);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean equals(Object object)
+  {
+    if (object == this)
+      return true;
+
+    if (!(object instanceof Dimension))
+      return false;
+
+    Dimension dimension = (Dimension) object;
+
+    return exponents_ == dimension.exponents_;
+  }
+
+  /**
+   * Return this dimension as a dimensional class in canonical
+   * form, such as "L2M/T2".
+   *
+   * @return  This dimension as a string. Never null.
+   */
+  @Override
+  public String toString()
+  {
+    StringBuilder numerator = new StringBuilder();
+    StringBuilder denominator = new StringBuilder();
+
+    for (int i = 0; i < BASE_DIMENSIONS.length(); i++) {
+      int exponent = getExponent(i);
+      if (exponent == 0)
+        continue;
+
+      StringBuilder s = exponent > 0 ? numerator : denominator;
+      s.append(BASE_DIMENSIONS.charAt(i));
+      if (Math.abs(exponent) != 1)
+        s.append(Math.abs(exponent));
+    }
+
+    if (numerator.length() == 0)
+      numerator.append('1');
+
+    return denominator.length() > 0 ? numerator + "/" + denominator : numerator.toString();
+  }
+}
@@ -2,7 +2,9 @@ package no.geosoft.uom;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Model a quantity (such as <em>length</em> or <em>acceleration</em>)
@@ -27,6 +29,21 @@ public final class Quantity
    */
   private final List<Unit> units_ = new ArrayList<>();
 
+  /**
+   * The unit manager this quantity has been added to. Notified when
+   * units are added so that its indexes are kept current. Null if
+   * the quantity is not (yet) part of a unit manager.
+   * Access is protected by this.
+   */
+  private UnitManager unitManager_;
+
+  /**
+   * Position of this quantity in its unit manager. Quantities are never
+   * removed from the manager, so this is permanent once set. -1 if the
+   * quantity is not (yet) part of a unit manager.
+   */
+  private volatile int ordinal_ = -1;
+
   /**
    * Create a new quantity instance.
    *
@@ -96,12 +113,73 @@ public final class Quantity
    *                    this role.
    * @throws IllegalArgumentException  If unit is null.
    */
-  public synchronized void addUnit(Unit unit, boolean isBaseUnit)
+  public void addUnit(Unit unit, boolean isBaseUnit)
   {
     if (unit == null)
       throw new IllegalArgumentException("unit cannot be null");
 
-    units_.add(isBaseUnit ? 0 : units_.size(), unit);
+    UnitManager unitManager;
+
+    synchronized (this) {
+      units_.add(isBaseUnit ? 0 : units_.size(), unit);
+      unitManager = unitManager_;
+    }
+
+    // Notify outside the lock as the manager will access our units
+    if (unitManager != null)
+      unitManager.unitAdded(this, unit);
+  }
+
+  /**
+   * Associate the specified units with this quantity, except those
+   * already associated, without notifying the unit manager. The base
+   * unit is not changed. The caller is responsible for updating the
+   * unit manager.
+   *
+   * @param units  Units to add. Non-null.
+   * @return       The units actually added, in order. Never null.
+   */
+  synchronized List<Unit> mergeUnits(List<Unit> units)
+  {
+    assert units != null : "units cannot be null";
+
+    Set<Unit> existingUnits = new HashSet<>(units_);
+    List<Unit> addedUnits = new ArrayList<>();
+
+    for (Unit unit : units) {
+      if (existingUnits.add(unit))
+        addedUnits.add(unit);
+    }
+
+    units_.addAll(addedUnits);
+
+    return addedUnits;
+  }
+
+  /**
+   * Set the unit manager this quantity has been added to.
+   *
+   * @param unitManager  Unit manager to notify on changes. Non-null.
+   * @param ordinal      Position of this quantity in the manager. Non-negative.
+   */
+  synchronized void setUnitManager(UnitManager unitManager, int ordinal)
+  {
+    assert unitManager != null : "unitManager cannot be null";
+    assert ordinal >= 0 : "Invalid ordinal: " + ordinal;
+
+    unitManager_ = unitManager;
+    ordinal_ = ordinal;
+  }
+
+  /**
+   * Return the position of this quantity in its unit manager.
+   *
+   * @return  Position of this quantity in its unit manager, or -1 if
+   *          it is not part of a unit manager.
+   */
+  int getOrdinal()
+  {
+    return ordinal_;
   }
 
   /** {@inheritDoc} */
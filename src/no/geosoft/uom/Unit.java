@@ -28,6 +28,9 @@ public final class Unit
   /** Conversion factor d for converting to base unit. */
   private final double d_;
 
+  /** Physical dimension of this unit. Null if unknown. */
+  private final Dimension dimension_;
+
   /**
    * Create a new unit.
    * <p>
@@ -44,15 +47,16 @@ public final class Unit
    * temperature a shift (<em>b</em>) is used as well, while c and d
    * is in practice never used.
    *
-   * @param name    Name of unit such as "meter". Non-null.
-   * @param symbol  Symbol of unit such as "m". Non-null.
-   * @param a       Conversion factor a for converting to base unit.
-   * @param b       Conversion factor b for converting to base unit.
-   * @param c       Conversion factor c for converting to base unit.
-   * @param d       Conversion factor d for converting to base unit.
+   * @param name       Name of unit such as "meter". Non-null.
+   * @param symbol     Symbol of unit such as "m". Non-null.
+   * @param a          Conversion factor a for converting to base unit.
+   * @param b          Conversion factor b for converting to base unit.
+   * @param c          Conversion factor c for converting to base unit.
+   * @param d          Conversion factor d for converting to base unit.
+   * @param dimension  Physical dimension of the unit. Null if unknown.
    * @throws IllegalArgumentException  If name or symbol is null.
    */
-  public Unit(String name, String symbol, double a, double b, double c, double d)
+  public Unit(String name, String symbol, double a, double b, double c, double d, Dimension dimension)
   {
     if (name == null)
       throw new IllegalArgumentException("name cannot be null");
@@ -66,6 +70,24 @@ public final class Unit
     b_ = b;
     c_ = c;
     d_ = d;
+    dimension_ = dimension;
+  }
+
+  /**
+   * Create a new unit of unknown dimension.
+   * See Unit(String,String,double,double,double,double,Dimension).
+   *
+   * @param name    Name of unit such as "meter". Non-null.
+   * @param symbol  Symbol of unit such as "m". Non-null.
+   * @param a       Conversion factor a for converting to base unit.
+   * @param b       Conversion factor b for converting to base unit.
+   * @param c       Conversion factor c for converting to base unit.
+   * @param d       Conversion factor d for converting to base unit.
+   * @throws IllegalArgumentException  If name or symbol is null.
+   */
+  public Unit(String name, String symbol, double a, double b, double c, double d)
+  {
+    this(name, symbol, a, b, c, d, null);
   }
 
   /**
@@ -88,6 +110,77 @@ public final class Unit
     return symbol_;
   }
 
+  /**
+   * Return conversion factor a for converting to base unit.
+   *
+   * @return  Conversion factor a of this unit.
+   */
+  double getA()
+  {
+    return a_;
+  }
+
+  /**
+   * Return conversion factor b for converting to base unit.
+   *
+   * @return  Conversion factor b of this unit.
+   */
+  double getB()
+  {
+    return b_;
+  }
+
+  /**
+   * Return conversion factor c for converting to base unit.
+   *
+   * @return  Conversion factor c of this unit.
+   */
+  double getC()
+  {
+    return c_;
+  }
+
+  /**
+   * Return conversion factor d for converting to base unit.
+   *
+   * @return  Conversion factor d of this unit.
+   */
+  double getD()
+  {
+    return d_;
+  }
+
+  /**
+   * Return the physical dimension of this unit.
+   *
+   * @return  Physical dimension of this unit. Null if unknown.
+   */
+  public Dimension getDimension()
+  {
+    return dimension_;
+  }
+
+  /**
+   * Check if this unit has the same physical dimension as the specified one.
+   * <p>
+   * This is a constant time check that holds across quantities, such as
+   * between units of "length" and "depth". Note that equal dimensions is
+   * necessary but not sufficient for a conversion to make sense, as for
+   * instance energy and moment of force share dimension.
+   *
+   * @param unit  Unit to compare with. Non-null.
+   * @return      True if the two units are of the same known dimension,
+   *              false otherwise.
+   * @throws IllegalArgumentException  If unit is null.
+   */
+  public boolean hasSameDimension(Unit unit)
+  {
+    if (unit == null)
+      throw new IllegalArgumentException("unit cannot be null");
+
+    return dimension_ != null && dimension_.equals(unit.dimension_);
+  }
+
   /**
    * Convert the specified value to base unit in the quantity of this unit.
    *
@@ -118,10 +211,10 @@ public final class Unit
   {
     return  1 * name_.hashCode() +
             3 * symbol_.hashCode() +
-            7 * Double.valueOf(a_).hashCode() +
-           11 * Double.valueOf(b_).hashCode() +
-           13 * Double.valueOf(c_).hashCode() +
-           17 * Double.valueOf(d_).hashCode();
+            7 * Double.hashCode(a_) +
+           11 * Double.hashCode(b_) +
+           13 * Double.hashCode(c_) +
+           17 * Double.hashCode(d_);
   }
 
   /** {@inheritDoc} */
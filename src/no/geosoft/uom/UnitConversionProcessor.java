@@ -0,0 +1,468 @@
+package no.geosoft.uom;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * A reactive stream processor that converts batches of channel samples
+ * to the target unit of each channel, typically for normalizing real-time
+ * data before it is passed on to a number of subscribers.
+ * <p>
+ * Upstream items are requested one batch at a time, and only while every
+ * subscriber has space in its bounded buffer. When the buffer of a slow
+ * subscriber is full, the next batch is requested as soon as that subscriber
+ * has consumed an item. Backpressure thereby propagates upstream and memory
+ * use stays bounded, without ever blocking the thread of the upstream publisher.
+ * Delivery is done by an internal SubmissionPublisher that is not exposed,
+ * so every item passes through the buffer accounting of this processor.
+ * <p>
+ * Samples of channels without a target unit, or with a unit symbol
+ * that cannot be resolved, are passed on unchanged. Converters are
+ * resolved through UnitManager.getConverter(String,String) and are
+ * thereby cached by unit symbol pair.
+ * <p>
+ * Nothing is ever thrown back to the upstream publisher. A null batch, a
+ * batch containing null, or a failing conversion cancels the upstream
+ * subscription and closes this processor exceptionally, so that the
+ * subscribers are notified through onError().
+ * <p>
+ * This class is thread-safe.
+ *
+ * @author <a href="mailto:jacob.dreyer@geosoft.no">Jacob Dreyer</a>
+ */
+public final class UnitConversionProcessor
+  implements Flow.Processor<List<ChannelSample>,List<ChannelSample>>, AutoCloseable
+{
+  /** The publisher delivering to the subscribers. Non-null. */
+  private final SubmissionPublisher<List<ChannelSample>> publisher_;
+
+  /** The unit manager for resolving unit symbols. Non-null. */
+  private final UnitManager unitManager_;
+
+  /** Target unit symbols by channel name. Non-null. */
+  private final Map<String,String> targetUnitSymbols_;
+
+  /** Subscription to the upstream publisher. Null until subscribed. */
+  private volatile Flow.Subscription subscription_;
+
+  /** The current subscribers, as wrapped when subscribing. Non-null. */
+  private final List<ConsumptionSignallingSubscriber> subscribers_ = new CopyOnWriteArrayList<>();
+
+  /**
+   * True if the next upstream item is to be requested once every subscriber
+   * has buffer space. Whoever resets it makes the request, so upstream
+   * requests are never made concurrently.
+   */
+  private final AtomicBoolean isRequestPending_ = new AtomicBoolean();
+
+  /**
+   * Subscriber that keeps track of the number of items buffered for
+   * the subscriber it wraps, and notifies this processor whenever
+   * that subscriber has consumed an item or is gone.
+   */
+  private final class ConsumptionSignallingSubscriber implements Flow.Subscriber<List<ChannelSample>>
+  {
+    /** The subscriber to deliver to. Non-null. */
+    private final Flow.Subscriber<? super List<ChannelSample>> subscriber_;
+
+    /** Number of items offered to this subscriber and not yet consumed. */
+    private final AtomicInteger nBuffered_ = new AtomicInteger();
+
+    /**
+     * Create a new subscriber wrapping the specified one.
+     *
+     * @param subscriber  Subscriber to deliver to. Non-null.
+     */
+    private ConsumptionSignallingSubscriber(Flow.Subscriber<? super List<ChannelSample>> subscriber)
+    {
+      assert subscriber != null : "subscriber cannot be null";
+      subscriber_ = subscriber;
+    }
+
+    /**
+     * Stop accounting for this subscriber, as it will receive no more items.
+     */
+    private void deregister()
+    {
+      if (subscribers_.remove(this))
+        requestIfPending();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onSubscribe(Flow.Subscription subscription)
+    {
+      subscriber_.onSubscribe(new Flow.Subscription() {
+        @Override
+        public void request(long n)
+        {
+          subscription.request(n);
+        }
+
+        @Override
+        public void cancel()
+        {
+          deregister();
+          subscription.cancel();
+        }
+      });
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onNext(List<ChannelSample> batch)
+    {
+      // If this throws, the subscriber is closed through onError()
+      subscriber_.onNext(batch);
+
+      nBuffered_.decrementAndGet();
+      requestIfPending();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onError(Throwable throwable)
+    {
+      deregister();
+      subscriber_.onError(throwable);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onComplete()
+    {
+      deregister();
+      subscriber_.onComplete();
+    }
+  }
+
+  /**
+   * Create a new unit conversion processor.
+   *
+   * @param unitManager        Unit manager for resolving unit symbols. Non-null.
+   * @param targetUnitSymbols  Target unit symbols by channel name. Non-null.
+   *                           The map is copied.
+   * @param executor           Executor for delivering to subscribers. Non-null.
+   * @param maxBufferCapacity  Maximum number of batches buffered per subscriber.
+   *                           Must be positive. Rounded up to the nearest power of two.
+   * @throws IllegalArgumentException  If unitManager, targetUnitSymbols or executor is
+   *                           null, or maxBufferCapacity is not positive.
+   */
+  public UnitConversionProcessor(UnitManager unitManager, Map<String,String> targetUnitSymbols,
+                                 Executor executor, int maxBufferCapacity)
+  {
+    if (unitManager == null)
+      throw new IllegalArgumentException("unitManager cannot be null");
+
+    if (targetUnitSymbols == null)
+      throw new IllegalArgumentException("targetUnitSymbols cannot be null");
+
+    if (executor == null)
+      throw new IllegalArgumentException("executor cannot be null");
+
+    if (maxBufferCapacity <= 0)
+      throw new IllegalArgumentException("Invalid maxBufferCapacity: " + maxBufferCapacity);
+
+    publisher_ = new SubmissionPublisher<>(executor, maxBufferCapacity);
+    unitManager_ = unitManager;
+    targetUnitSymbols_ = new HashMap<>(targetUnitSymbols);
+  }
+
+  /**
+   * Create a new unit conversion processor delivering to subscribers
+   * through the common fork-join pool with the default buffer capacity.
+   *
+   * @param unitManager        Unit manager for resolving unit symbols. Non-null.
+   * @param targetUnitSymbols  Target unit symbols by channel name. Non-null.
+   *                           The map is copied.
+   * @throws IllegalArgumentException  If unitManager or targetUnitSymbols is null.
+   */
+  public UnitConversionProcessor(UnitManager unitManager, Map<String,String> targetUnitSymbols)
+  {
+    this(unitManager, targetUnitSymbols, ForkJoinPool.commonPool(), Flow.defaultBufferSize());
+  }
+
+  /**
+   * Return the target unit symbol of the specified channel.
+   *
+   * @param channel  Name of channel to get target unit symbol of. Non-null.
+   * @return         Target unit symbol of the channel, or null if the
+   *                 channel is passed on unchanged.
+   * @throws IllegalArgumentException  If channel is null.
+   */
+  public String getTargetUnitSymbol(String channel)
+  {
+    if (channel == null)
+      throw new IllegalArgumentException("channel cannot be null");
+
+    return targetUnitSymbols_.get(channel);
+  }
+
+  /**
+   * Convert the specified batch of samples to the target units of
+   * their channels.
+   *
+   * @param batch  Samples to convert. Non-null and without null elements.
+   * @return       The converted samples in the same order. Never null.
+   * @throws IllegalArgumentException  If batch is null or contains null.
+   */
+  public List<ChannelSample> convert(List<ChannelSample> batch)
+  {
+    if (batch == null)
+      throw new IllegalArgumentException("batch cannot be null");
+
+    List<ChannelSample> converted = new ArrayList<>(batch.size());
+
+    for (ChannelSample sample : batch) {
+      if (sample == null)
+        throw new IllegalArgumentException("batch cannot contain null");
+
+      converted.add(convert(sample));
+    }
+
+    return Collections.unmodifiableList(converted);
+  }
+
+  /**
+   * Convert the specified sample to the target unit of its channel.
+   *
+   * @param sample  Sample to convert. Non-null.
+   * @return        The converted sample. Never null.
+   */
+  private ChannelSample convert(ChannelSample sample)
+  {
+    assert sample != null : "sample cannot be null";
+
+    String toUnitSymbol = targetUnitSymbols_.get(sample.getChannel());
+    if (toUnitSymbol == null || toUnitSymbol.equals(sample.getUnitSymbol()))
+      return sample;
+
+    Converter converter = unitManager_.getConverter(sample.getUnitSymbol(), toUnitSymbol);
+    if (converter == null)
+      return sample;
+
+    return new ChannelSample(sample.getChannel(), converter.convert(sample.getValue()), toUnitSymbol);
+  }
+
+  /**
+   * Return the maximum number of batches buffered per subscriber.
+   *
+   * @return  Maximum number of batches buffered per subscriber.
+   */
+  public int getMaxBufferCapacity()
+  {
+    return publisher_.getMaxBufferCapacity();
+  }
+
+  /**
+   * Check if this processor is closed.
+   *
+   * @return  True if this processor is closed, false otherwise.
+   */
+  public boolean isClosed()
+  {
+    return publisher_.isClosed();
+  }
+
+  /**
+   * Close this processor. The upstream subscription is cancelled and the
+   * subscribers are completed once they have consumed their buffered items.
+   */
+  @Override
+  public void close()
+  {
+    Flow.Subscription subscription = subscription_;
+    if (subscription != null)
+      subscription.cancel();
+
+    publisher_.close();
+  }
+
+  /**
+   * Process all converted batches with the specified consumer.
+   *
+   * @param consumer  Consumer of converted batches. Non-null.
+   * @return          Future that completes normally when this processor
+   *                  completes, or exceptionally on error or if the consumer
+   *                  throws. Never null.
+   * @throws IllegalArgumentException  If consumer is null.
+   */
+  public CompletableFuture<Void> consume(Consumer<? super List<ChannelSample>> consumer)
+  {
+    if (consumer == null)
+      throw new IllegalArgumentException("consumer cannot be null");
+
+    CompletableFuture<Void> status = new CompletableFuture<>();
+
+    subscribe(new Flow.Subscriber<List<ChannelSample>>() {
+      private Flow.Subscription subscription_;
+
+      @Override
+      public void onSubscribe(Flow.Subscription subscription)
+      {
+        subscription_ = subscription;
+        status.whenComplete((result, throwable) -> subscription.cancel());
+        if (!status.isDone())
+          subscription.request(Long.MAX_VALUE);
+      }
+
+      @Override
+      public void onNext(List<ChannelSample> batch)
+      {
+        try {
+          consumer.accept(batch);
+        }
+        catch (Throwable throwable) {
+          subscription_.cancel();
+          status.completeExceptionally(throwable);
+        }
+      }
+
+      @Override
+      public void onError(Throwable throwable)
+      {
+        status.completeExceptionally(throwable);
+      }
+
+      @Override
+      public void onComplete()
+      {
+        status.complete(null);
+      }
+    });
+
+    return status;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void subscribe(Flow.Subscriber<? super List<ChannelSample>> subscriber)
+  {
+    // Let the publisher report null according to the Flow contract
+    if (subscriber == null) {
+      publisher_.subscribe(null);
+      return;
+    }
+
+    ConsumptionSignallingSubscriber consumptionSignallingSubscriber = new ConsumptionSignallingSubscriber(subscriber);
+
+    // Serialized with offerBatch() so the subscriber's buffer count is exact
+    synchronized (subscribers_) {
+      subscribers_.add(consumptionSignallingSubscriber);
+      publisher_.subscribe(consumptionSignallingSubscriber);
+    }
+  }
+
+  /**
+   * Offer the specified batch to the current subscribers without blocking.
+   *
+   * @param batch  Batch to offer. Non-null.
+   * @throws IllegalStateException  If this processor is closed.
+   */
+  private void offerBatch(List<ChannelSample> batch)
+  {
+    assert batch != null : "batch cannot be null";
+
+    synchronized (subscribers_) {
+      for (ConsumptionSignallingSubscriber subscriber : subscribers_)
+        subscriber.nBuffered_.incrementAndGet();
+
+      // Never drops, as the batch was requested while every subscriber had space for it
+      publisher_.offer(batch, null);
+    }
+  }
+
+  /**
+   * Check if every subscriber has space for another batch.
+   *
+   * @return  True if every subscriber has buffer space, false otherwise.
+   */
+  private boolean hasBufferSpace()
+  {
+    int maxBufferCapacity = publisher_.getMaxBufferCapacity();
+
+    for (ConsumptionSignallingSubscriber subscriber : subscribers_) {
+      if (subscriber.nBuffered_.get() >= maxBufferCapacity)
+        return false;
+    }
+
+    return true;
+  }
+
+  /**
+   * Request the next upstream item if a request is pending and every
+   * subscriber has space for it.
+   */
+  private void requestIfPending()
+  {
+    if (isRequestPending_.get() && hasBufferSpace() && isRequestPending_.compareAndSet(true, false))
+      subscription_.request(1);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void onSubscribe(Flow.Subscription subscription)
+  {
+    if (subscription_ != null) {
+      subscription.cancel();
+      return;
+    }
+
+    subscription_ = subscription;
+    subscription.request(1);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void onNext(List<ChannelSample> batch)
+  {
+    if (publisher_.isClosed()) {
+      subscription_.cancel();
+      return;
+    }
+
+    // Anything thrown here is passed downstream rather than upstream,
+    // including invalid batches and a processor closed concurrently
+    try {
+      if (batch == null)
+        throw new IllegalArgumentException("batch cannot be null");
+
+      offerBatch(convert(batch));
+    }
+    catch (RuntimeException exception) {
+      subscription_.cancel();
+      publisher_.closeExceptionally(exception);
+      return;
+    }
+
+    // Set before checking, so a subscriber consuming in the meantime sees it
+    isRequestPending_.set(true);
+    requestIfPending();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void onError(Throwable throwable)
+  {
+    publisher_.closeExceptionally(throwable != null ? throwable : new IllegalArgumentException("throwable cannot be null"));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void onComplete()
+  {
+    publisher_.close();
+  }
+}
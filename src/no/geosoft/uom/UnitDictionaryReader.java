@@ -0,0 +1,377 @@
+package no.geosoft.uom;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+
+import javax.xml.stream.Location;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Single pass streaming reader of the Energistics unit dictionary.
+ * <p>
+ * The units are created and added to their quantities as the
+ * UnitOfMeasure elements are read, so the document as a whole is never
+ * held in memory.
+ *
+ * @author <a href="mailto:jacob.dreyer@geosoft.no">Jacob Dreyer</a>
+ */
+final class UnitDictionaryReader
+{
+  /**
+   * The content of a UnitOfMeasure element as it is read.
+   * Where the dictionary holds more than one element of a kind,
+   * the first one is used, except for QuantityType which are all kept.
+   */
+  private static final class UnitOfMeasure
+  {
+    /** Content of the Name element. Null if not present. */
+    private String name_;
+
+    /** Content of the CatalogSymbol element. Null if not present. */
+    private String symbol_;
+
+    /** Content of the DimensionalClass element. Null if not present. */
+    private String dimensionalClass_;
+
+    /** Content of the QuantityType elements. Non-null. */
+    private final List<String> quantityNames_ = new ArrayList<>();
+
+    /** True if a BaseUnit element is present. */
+    private boolean hasBaseUnit_;
+
+    /** True if a Deprecated element is present. */
+    private boolean isDeprecated_;
+
+    /** Content of the Description element of BaseUnit. Null if not present. */
+    private String description_;
+
+    /** True if a ConversionToBaseUnit element is present. */
+    private boolean hasConversion_;
+
+    /** Content of the Factor element of the conversion. Null if not present. */
+    private String factor_;
+
+    /** True if a Fraction element is present in the conversion. */
+    private boolean hasFraction_;
+
+    /** Content of the Numerator element of Fraction. Null if not present. */
+    private String numerator_;
+
+    /** Content of the Denominator element of Fraction. Null if not present. */
+    private String denominator_;
+
+    /** True if a Formula element is present in the conversion. */
+    private boolean hasFormula_;
+
+    /** Content of the A, B, C and D elements of Formula. Nulls if not present. */
+    private final String[] formula_ = new String[4];
+  }
+
+  /**
+   * Private constructor to prevent client instantiation.
+   */
+  private UnitDictionaryReader()
+  {
+    assert false : "This constructor should never be called";
+  }
+
+  /**
+   * Read the unit dictionary of the specified stream, and add its units
+   * to the quantities given by the specified function, in document order.
+   *
+   * @param stream            Stream to read. Non-null. The stream is not closed.
+   * @param quantityResolver  Function returning the quantity of a given name
+   *                          and description, creating it if necessary. Non-null.
+   * @throws XMLStreamException  If the stream is not a well formed dictionary,
+   *                             or a unit of it is incomplete or invalid.
+   */
+  static void read(InputStream stream, BiFunction<String,String,Quantity> quantityResolver)
+    throws XMLStreamException
+  {
+    assert stream != null : "stream cannot be null";
+    assert quantityResolver != null : "quantityResolver cannot be null";
+
+    XMLInputFactory factory = XMLInputFactory.newInstance();
+    factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+
+    XMLStreamReader reader = factory.createXMLStreamReader(stream);
+
+    try {
+      // Element names from the document element down to the current element
+      List<String> path = new ArrayList<>();
+
+      StringBuilder text = new StringBuilder();
+      UnitOfMeasure unitOfMeasure = null;
+
+      while (reader.hasNext()) {
+        int event = reader.next();
+
+        if (event == XMLStreamConstants.START_ELEMENT) {
+          String name = reader.getLocalName();
+          path.add(name);
+          text.setLength(0);
+
+          int depth = path.size();
+
+          if (depth == 3 && name.equals("UnitOfMeasure") && path.get(1).equals("UnitsDefinition"))
+            unitOfMeasure = new UnitOfMeasure();
+
+          else if (unitOfMeasure != null && depth == 4) {
+            if (name.equals("BaseUnit"))
+              unitOfMeasure.hasBaseUnit_ = true;
+            else if (name.equals("Deprecated"))
+              unitOfMeasure.isDeprecated_ = true;
+            else if (name.equals("ConversionToBaseUnit"))
+              unitOfMeasure.hasConversion_ = true;
+          }
+
+          else if (unitOfMeasure != null && depth == 5 && path.get(3).equals("ConversionToBaseUnit")) {
+            if (name.equals("Fraction"))
+              unitOfMeasure.hasFraction_ = true;
+            else if (name.equals("Formula"))
+              unitOfMeasure.hasFormula_ = true;
+          }
+        }
+
+        else if (event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA) {
+          if (unitOfMeasure != null)
+            text.append(reader.getText());
+        }
+
+        else if (event == XMLStreamConstants.END_ELEMENT) {
+          int depth = path.size();
+          String name = path.remove(depth - 1);
+
+          if (unitOfMeasure != null) {
+            if (depth == 3) {
+              addUnit(unitOfMeasure, quantityResolver, reader.getLocation());
+              unitOfMeasure = null;
+            }
+            else if (depth == 4)
+              setValue(unitOfMeasure, name, text.toString());
+            else if (depth == 5 && path.get(3).equals("BaseUnit") && name.equals("Description"))
+              unitOfMeasure.description_ = first(unitOfMeasure.description_, text.toString().trim());
+            else if (depth == 5 && path.get(3).equals("ConversionToBaseUnit") && name.equals("Factor"))
+              unitOfMeasure.factor_ = first(unitOfMeasure.factor_, text.toString().trim());
+            else if (depth == 6 && path.get(4).equals("Fraction"))
+              setFractionValue(unitOfMeasure, name, text.toString().trim());
+            else if (depth == 6 && path.get(4).equals("Formula"))
+              setFormulaValue(unitOfMeasure, name, text.toString().trim());
+          }
+
+          text.setLength(0);
+        }
+      }
+    }
+    finally {
+      reader.close();
+    }
+  }
+
+  /**
+   * Return the specified current value if set, or else the new value.
+   *
+   * @param currentValue  Current value. May be null.
+   * @param newValue      New value. May be null.
+   * @return              The current value if non-null, the new value otherwise.
+   */
+  private static String first(String currentValue, String newValue)
+  {
+    return currentValue != null ? currentValue : newValue;
+  }
+
+  /**
+   * Set the value of the specified child element of UnitOfMeasure.
+   *
+   * @param unitOfMeasure  Unit of measure to update. Non-null.
+   * @param name           Name of child element. Non-null.
+   * @param text           Text content of the element. Non-null.
+   */
+  private static void setValue(UnitOfMeasure unitOfMeasure, String name, String text)
+  {
+    assert unitOfMeasure != null : "unitOfMeasure cannot be null";
+    assert name != null : "name cannot be null";
+    assert text != null : "text cannot be null";
+
+    switch (name) {
+      case "Name" :
+        unitOfMeasure.name_ = first(unitOfMeasure.name_, text.trim());
+        break;
+
+      case "CatalogSymbol" :
+        unitOfMeasure.symbol_ = first(unitOfMeasure.symbol_, text.trim());
+        break;
+
+      case "DimensionalClass" :
+        unitOfMeasure.dimensionalClass_ = first(unitOfMeasure.dimensionalClass_, text.trim());
+        break;
+
+      case "QuantityType" :
+        unitOfMeasure.quantityNames_.add(text);
+        break;
+
+      default :
+        break;
+    }
+  }
+
+  /**
+   * Set the value of the specified child element of Fraction.
+   *
+   * @param unitOfMeasure  Unit of measure to update. Non-null.
+   * @param name           Name of child element. Non-null.
+   * @param text           Text content of the element. Non-null.
+   */
+  private static void setFractionValue(UnitOfMeasure unitOfMeasure, String name, String text)
+  {
+    assert unitOfMeasure != null : "unitOfMeasure cannot be null";
+    assert name != null : "name cannot be null";
+
+    if (name.equals("Numerator"))
+      unitOfMeasure.numerator_ = first(unitOfMeasure.numerator_, text);
+    else if (name.equals("Denominator"))
+      unitOfMeasure.denominator_ = first(unitOfMeasure.denominator_, text);
+  }
+
+  /**
+   * Set the value of the specified child element of Formula.
+   *
+   * @param unitOfMeasure  Unit of measure to update. Non-null.
+   * @param name           Name of child element. Non-null.
+   * @param text           Text content of the element. Non-null.
+   */
+  private static void setFormulaValue(UnitOfMeasure unitOfMeasure, String name, String text)
+  {
+    assert unitOfMeasure != null : "unitOfMeasure cannot be null";
+    assert name != null : "name cannot be null";
+
+    int index = "ABCD".indexOf(name);
+    if (name.length() == 1 && index >= 0)
+      unitOfMeasure.formula_[index] = first(unitOfMeasure.formula_[index], text);
+  }
+
+  /**
+   * Parse the specified numeric value of the given unit of measure.
+   *
+   * @param unitOfMeasure  Unit of measure holding the value. Non-null.
+   * @param elementName    Name of the element holding the value. Non-null.
+   * @param value          Value to parse. Null if the element is missing.
+   * @param location       Location of the unit of measure in the document. Non-null.
+   * @return               The parsed value.
+   * @throws XMLStreamException  If the value is missing or not a valid number.
+   */
+  private static double parseValue(UnitOfMeasure unitOfMeasure, String elementName, String value, Location location)
+    throws XMLStreamException
+  {
+    assert unitOfMeasure != null : "unitOfMeasure cannot be null";
+    assert elementName != null : "elementName cannot be null";
+    assert location != null : "location cannot be null";
+
+    if (value == null)
+      throw new XMLStreamException("Missing " + elementName + " of unit: " + unitOfMeasure.symbol_, location);
+
+    try {
+      return Double.parseDouble(value);
+    }
+    catch (NumberFormatException exception) {
+      throw new XMLStreamException("Invalid " + elementName + " of unit " + unitOfMeasure.symbol_ + ": " + value, location, exception);
+    }
+  }
+
+  /**
+   * Create the unit of the specified unit of measure and add it to
+   * its quantities.
+   *
+   * @param unitOfMeasure     Unit of measure to create unit of. Non-null.
+   * @param quantityResolver  Function for finding or creating quantities. Non-null.
+   * @param location          Location of the unit of measure in the document. Non-null.
+   * @throws XMLStreamException  If the unit of measure is incomplete or invalid.
+   */
+  private static void addUnit(UnitOfMeasure unitOfMeasure, BiFunction<String,String,Quantity> quantityResolver,
+                              Location location)
+    throws XMLStreamException
+  {
+    assert unitOfMeasure != null : "unitOfMeasure cannot be null";
+    assert quantityResolver != null : "quantityResolver cannot be null";
+    assert location != null : "location cannot be null";
+
+    if (unitOfMeasure.symbol_ == null)
+      throw new XMLStreamException("Missing CatalogSymbol of unit: " + unitOfMeasure.name_, location);
+
+    if (unitOfMeasure.name_ == null)
+      throw new XMLStreamException("Missing Name of unit: " + unitOfMeasure.symbol_, location);
+
+    boolean isBaseUnit = unitOfMeasure.hasBaseUnit_ && !unitOfMeasure.isDeprecated_;
+
+    double a = 1.0;
+    double b = 0.0;
+    double c = 0.0;
+    double d = 1.0;
+
+    if (unitOfMeasure.hasConversion_) {
+      if (unitOfMeasure.factor_ != null) {
+        a = parseValue(unitOfMeasure, "Factor", unitOfMeasure.factor_, location);
+      }
+      else if (unitOfMeasure.hasFraction_) {
+        double numerator = parseValue(unitOfMeasure, "Numerator", unitOfMeasure.numerator_, location);
+        double denominator = parseValue(unitOfMeasure, "Denominator", unitOfMeasure.denominator_, location);
+
+        a = numerator / denominator;
+      }
+      else if (unitOfMeasure.hasFormula_) {
+        String[] formula = unitOfMeasure.formula_;
+
+        // NOTE: We have a different definition of a, b, c, d than Energistics
+        //       so the switch of order is intentional
+        b = parseValue(unitOfMeasure, "A", formula[0], location);
+        a = parseValue(unitOfMeasure, "B", formula[1], location);
+        d = parseValue(unitOfMeasure, "C", formula[2], location);
+        c = parseValue(unitOfMeasure, "D", formula[3], location);
+      }
+      else {
+        throw new XMLStreamException("Missing Factor, Fraction or Formula of unit: " + unitOfMeasure.symbol_, location);
+      }
+    }
+
+    Dimension dimension = parseDimension(unitOfMeasure.dimensionalClass_);
+
+    Unit unit = new Unit(unitOfMeasure.name_, unitOfMeasure.symbol_, a, b, c, d, dimension);
+
+    //
+    // Add the unit to all the quantities it appears in
+    //
+    for (String quantityName : unitOfMeasure.quantityNames_)
+      quantityResolver.apply(quantityName, unitOfMeasure.description_).addUnit(unit, isBaseUnit);
+  }
+
+  /**
+   * Parse the specified dimensional class of the unit dictionary.
+   *
+   * @param dimensionalClass  Dimensional class to parse. May be null.
+   * @return                  The associated dimension, or null if dimensionalClass
+   *                          is null or does not represent a specific dimension.
+   */
+  private static Dimension parseDimension(String dimensionalClass)
+  {
+    if (dimensionalClass == null)
+      return null;
+
+    // The dictionary uses "1/s" rather than "1/T" for a few rates
+    if (dimensionalClass.equals("1/s"))
+      return Dimension.parse("1/T");
+
+    try {
+      return Dimension.parse(dimensionalClass);
+    }
+    catch (IllegalArgumentException exception) {
+      // Such as "U" for the API units which has no specific dimension
+      return null;
+    }
+  }
+}
@@ -2,18 +2,26 @@ package no.geosoft.uom;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.xml.sax.SAXException;
+import javax.xml.stream.XMLStreamException;
 
 /**
  * Units of measurement manager.
@@ -36,18 +44,272 @@ public final class UnitManager
   /** Property file holding display symbols. */
   private final static String DISPLAY_SYMBOLS_FILE = "display_symbols.txt";
 
-  /** The sole instance of this class. */
-  private final static UnitManager instance_ = new UnitManager();
+  /** Property file holding unit systems. */
+  private final static String UNIT_SYSTEMS_FILE = "unit_systems.txt";
+
+  /** The resources the UnitTables class is generated from. See UnitTableGenerator. */
+  final static String[] TABLES_SOURCE_FILES = {
+    UNITS_FILE, UNIT_ALIASES_FILE, DISPLAY_SYMBOLS_FILE, UNIT_SYSTEMS_FILE
+  };
+
+  /** Maximum number of unit symbol pairs held in the converter cache. */
+  private final static int CONVERTER_CACHE_CAPACITY = 1024;
+
+  /** Maximum number of compound unit symbols memoized by the unit parser. */
+  private final static int UNIT_PARSER_CAPACITY = 4096;
+
+  /**
+   * Precomputed quantity information about a unit as held by the
+   * unit index of the manager. All members are unmodifiable.
+   */
+  private static final class UnitEntry
+  {
+    /** Quantities containing the unit, in manager order. Non-null. */
+    private final List<Quantity> quantities_;
+
+    /** The quantity reported by findQuantity(Unit). Null if none. */
+    private final Quantity quantity_;
+
+    /** All other units that the unit can be converted to. Non-null. */
+    private final List<Unit> convertibleUnits_;
+
+    /**
+     * The quantities of the unit as a bit set of quantity ordinals, i.e. the
+     * position of the quantity in the manager at the time the index was built.
+     * Two units are convertible if their bit sets intersect. Non-null.
+     */
+    private final BitSet quantityBits_;
+
+    /**
+     * Create a new unit entry.
+     *
+     * @param quantities        Quantities of the unit. Non-null.
+     * @param quantity          Primary quantity of the unit. Null if none.
+     * @param convertibleUnits  Convertible units. Non-null.
+     * @param quantityBits      Quantity ordinals of the quantities. Non-null.
+     */
+    private UnitEntry(List<Quantity> quantities, Quantity quantity, List<Unit> convertibleUnits, BitSet quantityBits)
+    {
+      assert quantities != null : "quantities cannot be null";
+      assert convertibleUnits != null : "convertibleUnits cannot be null";
+      assert quantityBits != null : "quantityBits cannot be null";
+
+      quantities_ = Collections.unmodifiableList(quantities);
+      quantity_ = quantity;
+      convertibleUnits_ = Collections.unmodifiableList(convertibleUnits);
+      quantityBits_ = quantityBits;
+    }
+  }
+
+  /** Entry of units not contained in any quantity. */
+  private final static UnitEntry EMPTY_UNIT_ENTRY = new UnitEntry(new ArrayList<>(), null, new ArrayList<>(), new BitSet());
+
+  /**
+   * Reverse index from unit to the quantities containing it, built from
+   * the quantities of the manager in a single pass. The unit entries are
+   * derived from it on first access per unit.
+   */
+  private static final class UnitIndex
+  {
+    /** Quantities containing each unit, in manager order. Non-null. */
+    private final Map<Unit,List<Quantity>> quantitiesByUnit_;
+
+    /** Quantities containing the Euclid unit. Non-null. */
+    private final Set<Quantity> euclidQuantities_;
+
+    /** The dimensionless quantity. Null if not present. */
+    private final Quantity dimensionlessQuantity_;
+
+    /** The time quantity. Null if not present. */
+    private final Quantity timeQuantity_;
+
+    /** Number of quantities of the manager. */
+    private final int nQuantities_;
+
+    /** Entries of the units accessed so far. Non-null. */
+    private final Map<Unit,UnitEntry> unitEntries_ = new ConcurrentHashMap<>();
+
+    /**
+     * Create a new unit index.
+     *
+     * @param quantities             Quantities of the manager, in manager order. Non-null.
+     * @param euclidUnit             The Euclid (unitless) unit. Null if not present.
+     * @param dimensionlessQuantity  The dimensionless quantity. Null if not present.
+     * @param timeQuantity           The time quantity. Null if not present.
+     */
+    private UnitIndex(List<Quantity> quantities, Unit euclidUnit, Quantity dimensionlessQuantity, Quantity timeQuantity)
+    {
+      assert quantities != null : "quantities cannot be null";
+
+      quantitiesByUnit_ = new HashMap<>();
+      for (Quantity quantity : quantities) {
+        for (Unit unit : quantity.getUnits()) {
+          List<Quantity> unitQuantities = quantitiesByUnit_.computeIfAbsent(unit, u -> new ArrayList<>());
+
+          // A unit listed twice in the same quantity is counted once
+          if (unitQuantities.isEmpty() || unitQuantities.get(unitQuantities.size() - 1) != quantity)
+            unitQuantities.add(quantity);
+        }
+      }
+
+      List<Quantity> euclidQuantities = euclidUnit != null ? quantitiesByUnit_.get(euclidUnit) : null;
+      euclidQuantities_ = euclidQuantities != null ? new HashSet<>(euclidQuantities) : Collections.emptySet();
+
+      dimensionlessQuantity_ = dimensionlessQuantity;
+      timeQuantity_ = timeQuantity;
+      nQuantities_ = quantities.size();
+    }
+
+    /**
+     * Return the entry of the specified unit.
+     * The entry is created on first access.
+     *
+     * @param unit  Unit to get entry of. Non-null.
+     * @return      Entry of the unit. Never null.
+     */
+    private UnitEntry getUnitEntry(Unit unit)
+    {
+      assert unit != null : "unit cannot be null";
+
+      UnitEntry unitEntry = unitEntries_.get(unit);
+      if (unitEntry != null)
+        return unitEntry;
+
+      // Units of no quantity, such as parsed compound units, are not
+      // cached as there is no bound on how many a client may create
+      if (!quantitiesByUnit_.containsKey(unit))
+        return EMPTY_UNIT_ENTRY;
+
+      return unitEntries_.computeIfAbsent(unit, this::newUnitEntry);
+    }
+
+    /**
+     * Create the entry of the specified unit.
+     *
+     * @param unit  Unit to create entry of. Non-null. Contained in a quantity.
+     * @return      The unit entry. Never null.
+     */
+    private UnitEntry newUnitEntry(Unit unit)
+    {
+      assert unit != null : "unit cannot be null";
+      assert quantitiesByUnit_.containsKey(unit) : "Unit of no quantity: " + unit;
+
+      List<Quantity> quantities = new ArrayList<>(quantitiesByUnit_.get(unit));
+
+      Set<Unit> convertibleUnits = new HashSet<>();
+      for (Quantity quantity : quantities)
+        convertibleUnits.addAll(quantity.getUnits());
+      convertibleUnits.remove(unit);
+
+      // If (one of) the quantities of the unit contains the Euclid unit (unitless)
+      // we add the dimensionless quantity as well.
+      if (dimensionlessQuantity_ != null && !quantities.contains(dimensionlessQuantity_)) {
+        for (Quantity quantity : quantities) {
+          if (euclidQuantities_.contains(quantity)) {
+            quantities.add(dimensionlessQuantity_);
+            break;
+          }
+        }
+      }
+
+      // Unit clash: "Siemens (S) - seconds (s)"
+      Quantity quantity = quantities.size() > 1 && quantities.contains(timeQuantity_) ? timeQuantity_ : quantities.get(0);
+
+      // Quantity ordinals are the positions of the quantities in the manager
+      BitSet quantityBits = new BitSet(nQuantities_);
+      for (Quantity q : quantities)
+        quantityBits.set(q.getOrdinal());
+
+      return new UnitEntry(quantities, quantity, new ArrayList<>(convertibleUnits), quantityBits);
+    }
+  }
+
+  /**
+   * Holder of the sole instance of this class, so that it is created
+   * on the first call to getInstance() and not when the class is
+   * initialized, such as by the static conversion methods.
+   */
+  private static final class InstanceHolder
+  {
+    /** The sole instance of this class. */
+    private final static UnitManager instance_ = new UnitManager();
+  }
 
   /** Mapping between unit symbol alias and their equivalent "official" unit symbol. */
   private final Properties unitAliases_ = new Properties();
 
-  /** Mapping between unit symbol and its equivalent display symbol. */
+  /**
+   * True to load from the generated UnitTables class, false to load
+   * from the XML and property files.
+   */
+  private final boolean isTablesUsed_;
+
+  /**
+   * Mapping between unit symbol and its equivalent display symbol.
+   * Loaded on first access. Use getDisplaySymbols().
+   */
   private final Properties displaySymbols_ = new Properties();
 
-  /** Quantities known by this manager. */
+  /** True if the display symbols have been loaded. Set with lock on this. */
+  private volatile boolean isDisplaySymbolsLoaded_ = false;
+
+  /**
+   * Unit systems by name, each a list of preferred unit symbols in
+   * order of preference. Loaded on first access. Use getUnitSystemsByName().
+   * Access is protected by this.
+   */
+  private final Map<String,List<String>> unitSystems_ = new HashMap<>();
+
+  /** True if the unit systems have been loaded. Access is protected by this. */
+  private boolean isUnitSystemsLoaded_ = false;
+
+  /** Quantities known by this manager. Updated with lock on this. */
   private final List<Quantity> quantities_ = new CopyOnWriteArrayList<>();
 
+  /** Quantities of quantities_ by their name. Updated with lock on this. */
+  private final Map<String,Quantity> quantitiesByName_ = new ConcurrentHashMap<>();
+
+  /**
+   * Units by their exact symbol. If more than one unit share the same
+   * symbol, the first one encountered when traversing quantities_ is held.
+   * Updated with lock on this, and replaced when rebuilt.
+   */
+  private volatile Map<String,Unit> unitsBySymbol_ = new ConcurrentHashMap<>();
+
+  /**
+   * Units by their lower case (Locale.US) symbol. If more than one unit
+   * share the same lower case symbol, the first one encountered when
+   * traversing quantities_ is held. Updated with lock on this, and replaced
+   * when rebuilt.
+   */
+  private volatile Map<String,Unit> unitsByLowerCaseSymbol_ = new ConcurrentHashMap<>();
+
+  /**
+   * Reverse index from unit to its quantity information. Built on first
+   * access. Null if it needs to be rebuilt due to changes in quantities,
+   * units or aliases. Built with lock on this.
+   */
+  private volatile UnitIndex unitIndex_ = null;
+
+  /**
+   * Preferred units of each unit system as dense tables indexed by quantity
+   * ordinal. Null if it needs to be rebuilt due to changes in quantities,
+   * units, aliases or unit systems. Built lazily with lock on this.
+   */
+  private volatile Map<String,Unit[]> unitSystemTables_ = null;
+
+  /**
+   * Converters by unit symbol pairs as used by convert(String,String,double).
+   * Cleared on any change that may affect how symbols are resolved.
+   */
+  private final ConverterCache converterCache_ = new ConverterCache(CONVERTER_CACHE_CAPACITY);
+
+  /** Function for resolving converters for the converter cache. */
+  private final BiFunction<String,String,Converter> converterResolver_ = this::newConverter;
+
+  /** Parser of compound unit symbols. Cleared along with the converter cache. */
+  private final UnitParser unitParser_ = new UnitParser(this, UNIT_PARSER_CAPACITY);
+
   /**
    * Return the sole instance of this class.
    *
@@ -55,7 +317,7 @@ public final class UnitManager
    */
   public static UnitManager getInstance()
   {
-    return instance_;
+    return InstanceHolder.instance_;
   }
 
   /**
@@ -63,9 +325,36 @@ public final class UnitManager
    */
   private UnitManager()
   {
-    loadEnergisticsQuantities();
-    loadUnitAliases();
-    loadDisplaySymbols();
+    this(true);
+  }
+
+  /**
+   * Create a unit manager instance.
+   *
+   * @param isTablesUsed  True to load from the generated UnitTables class,
+   *                      false to load from the XML and property files.
+   */
+  UnitManager(boolean isTablesUsed)
+  {
+    isTablesUsed_ = isTablesUsed;
+
+    // Only what findUnit() needs is loaded here. The display symbols
+    // and unit systems are loaded on first access, each on its own
+    if (isTablesUsed)
+      loadTables();
+    else {
+      loadEnergisticsQuantities();
+      loadUnitAliases();
+    }
+
+    //
+    // Index the units loaded and make sure we get notified on changes
+    //
+    int ordinal = 0;
+    for (Quantity quantity : quantities_)
+      quantity.setUnitManager(this, ordinal++);
+
+    rebuildIndexes();
   }
 
   /**
@@ -91,6 +380,15 @@ public final class UnitManager
       throw new IllegalArgumentException("unitSymbol cannot be null");
 
     unitAliases_.setProperty(unitSymbolAlias.toLowerCase(), unitSymbol);
+
+    // The unit index depends on the Euclid unit which may be aliased
+    synchronized (this) {
+      unitIndex_ = null;
+      unitSystemTables_ = null;
+    }
+
+    converterCache_.clear();
+    unitParser_.clear();
   }
 
   /**
@@ -108,7 +406,7 @@ public final class UnitManager
     if (displaySymbol == null)
       throw new IllegalArgumentException("displaySymbol cannot be null");
 
-    displaySymbols_.setProperty(unitSymbol, displaySymbol);
+    getDisplaySymbols().setProperty(unitSymbol, displaySymbol);
   }
 
   /**
@@ -146,17 +444,159 @@ public final class UnitManager
    * @throws IllegalArgumentException  If quantity is null or already contained
    *                  in this manager.
    */
-  public void addQuantity(Quantity quantity)
+  public synchronized void addQuantity(Quantity quantity)
   {
     if (quantity == null)
       throw new IllegalArgumentException("quantity cannot be null");
 
-    if (findQuantity(quantity.getName()) != null)
+    if (quantitiesByName_.containsKey(quantity.getName()))
       throw new IllegalArgumentException("Quantity is already present: " + quantity.getName());
 
+    registerQuantity(quantity);
+
+    boolean isClash = false;
+    for (Unit unit : quantity.getUnits())
+      isClash |= indexUnit(unit);
+
+    if (isClash)
+      rebuildIndexes();
+
+    invalidateCaches();
+  }
+
+  /**
+   * Make the specified quantity part of this manager. The unit indexes
+   * and caches are left for the caller to update.
+   *
+   * @param quantity  Quantity to register. Non-null. Not already present.
+   */
+  private synchronized void registerQuantity(Quantity quantity)
+  {
+    assert quantity != null : "quantity cannot be null";
+    assert !quantitiesByName_.containsKey(quantity.getName()) : "Quantity is already present: " + quantity.getName();
+
+    quantitiesByName_.put(quantity.getName(), quantity);
+    quantity.setUnitManager(this, quantities_.size());
     quantities_.add(quantity);
   }
 
+  /**
+   * Load the specified unit dictionaries, such as company specific
+   * dictionaries, in addition to the ones already loaded.
+   * <p>
+   * The dictionaries must be of the same format as the Energistics unit
+   * dictionary. They are parsed concurrently, each into an independent
+   * staging registry, so the time spent is bounded by the largest
+   * dictionary rather than the sum of them. The staged quantities are
+   * then merged into this manager in the order of the dictionaries:
+   * Quantities not already present are added, and units not already
+   * present are added to existing quantities of the same name without
+   * changing their base unit. The result is thereby the same as if the
+   * dictionaries were loaded one by one.
+   * <p>
+   * If any of the dictionaries cannot be parsed, or holds a unit without
+   * name or symbol or with a missing or invalid conversion, nothing is merged.
+   *
+   * @param streams  Streams of the unit dictionaries to load. Non-null.
+   *                 The streams are not closed.
+   * @throws IllegalArgumentException  If streams is null or contains null.
+   * @throws IOException  If a dictionary cannot be read or parsed, or holds
+   *                      an incomplete or invalid unit.
+   */
+  public void loadUnitDictionaries(List<InputStream> streams)
+    throws IOException
+  {
+    if (streams == null)
+      throw new IllegalArgumentException("streams cannot be null");
+
+    // Not contains(null), which immutable lists may reject with an exception
+    for (InputStream stream : streams) {
+      if (stream == null)
+        throw new IllegalArgumentException("streams cannot contain null");
+    }
+
+    List<List<Quantity>> stagedQuantities;
+
+    try {
+      // The collected list is in stream order regardless of the parallelism
+      stagedQuantities = IntStream.range(0, streams.size())
+        .parallel()
+        .mapToObj(i -> readUnitDictionary(streams.get(i)))
+        .collect(Collectors.toList());
+    }
+    catch (UncheckedIOException exception) {
+      throw exception.getCause();
+    }
+
+    mergeQuantities(stagedQuantities);
+  }
+
+  /**
+   * Read the unit dictionary of the specified stream into
+   * quantities that are not part of any unit manager.
+   *
+   * @param stream  Stream to read. Non-null. The stream is not closed.
+   * @return        The quantities of the dictionary, in document order. Never null.
+   * @throws UncheckedIOException  If the dictionary cannot be read or parsed.
+   */
+  private static List<Quantity> readUnitDictionary(InputStream stream)
+  {
+    assert stream != null : "stream cannot be null";
+
+    Map<String,Quantity> quantities = new LinkedHashMap<>();
+
+    try {
+      UnitDictionaryReader.read(stream, (quantityName, description) ->
+                                quantities.computeIfAbsent(quantityName, name -> new Quantity(name, description)));
+    }
+    catch (XMLStreamException exception) {
+      throw new UncheckedIOException(new IOException("Unable to read unit dictionary", exception));
+    }
+
+    return new ArrayList<>(quantities.values());
+  }
+
+  /**
+   * Merge the specified staged quantities into this manager, in order.
+   * <p>
+   * All units are added under the lock of this manager, and the indexes
+   * and caches are updated once for the whole merge rather than once
+   * per unit as through Quantity.addUnit().
+   *
+   * @param stagedQuantities  Quantities of each dictionary, in dictionary order. Non-null.
+   */
+  private synchronized void mergeQuantities(List<List<Quantity>> stagedQuantities)
+  {
+    assert stagedQuantities != null : "stagedQuantities cannot be null";
+
+    boolean isClash = false;
+
+    for (List<Quantity> quantities : stagedQuantities) {
+      for (Quantity stagedQuantity : quantities) {
+        Quantity quantity = quantitiesByName_.get(stagedQuantity.getName());
+
+        List<Unit> addedUnits;
+
+        if (quantity == null) {
+          // Copied while the quantity is still private to this thread
+          addedUnits = new ArrayList<>(stagedQuantity.getUnits());
+          registerQuantity(stagedQuantity);
+        }
+        else {
+          addedUnits = quantity.mergeUnits(stagedQuantity.getUnits());
+        }
+
+        for (Unit unit : addedUnits)
+          isClash |= indexUnit(unit);
+      }
+    }
+
+    if (isClash)
+      rebuildIndexes();
+
+    invalidateCaches();
+  }
+
   /**
    * Find quantity of the given name.
    *
@@ -169,12 +609,7 @@ public final class UnitManager
     if (quantityName == null)
       throw new IllegalArgumentException("quantityName cannot be null");
 
-    for (Quantity quantity : quantities_) {
-      if (quantity.getName().equals(quantityName))
-        return quantity;
-    }
-
-    return  null;
+    return quantitiesByName_.get(quantityName);
   }
 
   /**
@@ -198,35 +633,67 @@ public final class UnitManager
     if (actualUnitSymbol != null)
       unitSymbol = actualUnitSymbol;
 
-    // Loop over all units to see if there is a matching one
-    // with same case
-    for (Quantity quantity : quantities_) {
-      for (Unit unit : quantity.getUnits()) {
-        String symbol = unit.getSymbol();
-        if (unitSymbol.equals(symbol))
-          return unit;
-      }
-    }
+    // Check for a matching unit with same case
+    Unit unit = unitsBySymbol_.get(unitSymbol);
+    if (unit != null)
+      return unit;
 
     // Do the same, but case insensitive this time
-    for (Quantity quantity : quantities_) {
-      for (Unit unit : quantity.getUnits()) {
-        String symbol = unit.getSymbol();
-        String symbolLowerCase = symbol.toLowerCase(Locale.US);
-        if (lowerCase.equals(symbolLowerCase))
-          return unit;
-      }
-    }
+    return unitsByLowerCaseSymbol_.get(lowerCase);
+  }
+
+  /**
+   * Find the unit of the specified unit symbol, considering the alias
+   * mapping but matching case sensitive only.
+   *
+   * @param unitSymbol  Unit symbol to find unit for. Non-null.
+   * @return            Associated unit, or null if not found.
+   */
+  Unit findUnitExact(String unitSymbol)
+  {
+    assert unitSymbol != null : "unitSymbol cannot be null";
+
+    String actualUnitSymbol = unitAliases_.getProperty(unitSymbol.toLowerCase(Locale.US));
+    return unitsBySymbol_.get(actualUnitSymbol != null ? actualUnitSymbol : unitSymbol);
+  }
 
-    // Not found
-    return null;
+  /**
+   * Find or create the unit of the specified unit symbol, which may be a
+   * compound of dictionary units such as "klbf.ft/min", "m3/d/bar" or "uS/ft".
+   * <p>
+   * Dictionary units take precedence, as for findUnit(). Otherwise the symbol
+   * is parsed as components separated by "." and "/", each being a dictionary
+   * unit with an optional SI prefix and integer power, such as "cm2" or "s^-1".
+   * The resulting unit has the combined conversion factor and dimension of its
+   * components, and can be converted to dictionary units of the same dimension
+   * through getConverter(Unit,Unit). It is not part of any quantity.
+   * <p>
+   * Parse results are memoized, so repeated lookups of the same symbol
+   * costs a map lookup only.
+   *
+   * @param unitSymbol  Unit symbol to find or parse. Non-null.
+   * @return            Associated unit, or null if the symbol is neither a
+   *                    dictionary unit nor a valid compound of such.
+   * @throws IllegalArgumentException  If unitSymbol is null.
+   */
+  public Unit parseUnit(String unitSymbol)
+  {
+    if (unitSymbol == null)
+      throw new IllegalArgumentException("unitSymbol cannot be null");
+
+    Unit unit = findUnitExact(unitSymbol.trim());
+    if (unit != null)
+      return unit;
+
+    unit = unitParser_.parse(unitSymbol);
+    return unit != null ? unit : findUnit(unitSymbol);
   }
 
   /**
    * Return all units that are convertible with the specified unit.
    *
    * @param unit  Unit to consider. Non-null.
-   * @return      All convertible units. Never null.
+   * @return      All convertible units. Never null. The list is unmodifiable.
    * @throws IllegalArgumentException  If unit is null.
    */
   public List<Unit> findConvertibleUnits(Unit unit)
@@ -234,16 +701,7 @@ public final class UnitManager
     if (unit == null)
       throw new IllegalArgumentException("unit cannot be null");
 
-    Set<Unit> units = new HashSet<>();
-
-    for (Quantity quantity : quantities_) {
-      if (quantity.getUnits().contains(unit))
-        units.addAll(quantity.getUnits());
-    }
-
-    units.remove(unit);
-
-    return new ArrayList<>(units);
+    return getUnitEntry(unit).convertibleUnits_;
   }
 
   /**
@@ -251,19 +709,19 @@ public final class UnitManager
    * symbol.
    *
    * @param unitSymbol  Symbol of unit to consider. Null if unitless.
-   * @return            All convertible units. Never null.
+   * @return            All convertible units. Never null. The list is unmodifiable.
    */
   public List<Unit> findConvertibleUnits(String unitSymbol)
   {
     Unit unit = findUnit(unitSymbol);
-    return unit != null ? findConvertibleUnits(unit) : new ArrayList<>();
+    return unit != null ? findConvertibleUnits(unit) : Collections.emptyList();
   }
 
   /**
    * Return all quantities that includes the specified unit.
    *
    * @param unit  Unit to consider. Non-null.
-   * @return      Requested quantities. Never null.
+   * @return      Requested quantities. Never null. The list is unmodifiable.
    * @throws IllegalArgumentException  If unit is null.
    */
   public List<Quantity> findQuantities(Unit unit)
@@ -271,36 +729,19 @@ public final class UnitManager
     if (unit == null)
       throw new IllegalArgumentException("unit cannot be null");
 
-    List<Quantity> quantities = new ArrayList<>();
-
-    for (Quantity quantity : quantities_) {
-      if (quantity.getUnits().contains(unit))
-        quantities.add(quantity);
-    }
-
-    // If (one of) the quantities contains the Euclid unit (unitless)
-    // we add the dimensionless quantity as well.
-    Unit euclidUnit = findUnit("Euc");
-    for (Quantity quantity : quantities) {
-      if (quantity.getUnits().contains(euclidUnit)) {
-        quantities.add(findQuantity("dimensionless"));
-        break;
-      }
-    }
-
-    return quantities;
+    return getUnitEntry(unit).quantities_;
   }
 
   /**
    * Return all quantities that includes the unit of the specified symbol.
    *
    * @param unitSymbol  Unit symbol of unit to consider. Null if unitless.
-   * @return            Requested quantities. Never null.
+   * @return            Requested quantities. Never null. The list is unmodifiable.
    */
   public List<Quantity> findQuantities(String unitSymbol)
   {
     Unit unit = findUnit(unitSymbol);
-    return unit != null ? findQuantities(unit) : new ArrayList<>();
+    return unit != null ? findQuantities(unit) : Collections.emptyList();
   }
 
   /**
@@ -320,23 +761,7 @@ public final class UnitManager
     if (unit == null)
       throw new IllegalArgumentException("unit cannot be null");
 
-    List<Quantity> quantities = findQuantities(unit);
-
-    if (quantities.isEmpty())
-      return null;
-
-    else if (quantities.size() == 1)
-      return quantities.get(0);
-
-    else {
-      // Unit clash: "Siemens (S) - seconds (s)"
-      if (quantities.contains(findQuantity("time")))
-        return findQuantity("time");
-
-      // TODO: Others
-
-      return quantities.get(0);
-    }
+    return getUnitEntry(unit).quantity_;
   }
 
   /**
@@ -356,14 +781,7 @@ public final class UnitManager
     if (unit2 == null)
       throw new IllegalArgumentException("unit2 cannot be null");
 
-    List<Quantity> quantities1 = findQuantities(unit1);
-    List<Quantity> quantities2 = findQuantities(unit2);
-
-    for (Quantity quantity : quantities1)
-      if (quantities2.contains(quantity))
-        return true;
-
-    return false;
+    return getUnitEntry(unit1).quantityBits_.intersects(getUnitEntry(unit2).quantityBits_);
   }
 
   /**
@@ -412,60 +830,393 @@ public final class UnitManager
   }
 
   /**
-   * Convert the specified value between the two given units.
+   * Convert the specified range of values between the two given units.
+   * <p>
+   * The conversion is resolved once for all the values, and this method
+   * is preferred over convert(Unit,Unit,double) for arrays of values.
    * <p>
    * Note that it is the client responsibility to check if it makes sense to
-   * convert between the given units. This method simply converts the value
-   * to base of the from unit, and convert this result from base of the to unit,
-   * without considering the compatibility between the two.
+   * convert between the given units.
    *
-   * @param fromUnitSymbol  Unit symbol of current unit of value. Non-null.
-   * @param toUnitSymbol    Unit symbol of unit to convert to. Non-null.
-   * @param value           Value to convert.
-   * @return                Converted value, or the input value it unit symbols
-   *                        are unknown.
-   * @throws IllegalArgumentException  If fromUnitSymbol or toUnitSymbol is null.
+   * @param fromUnit           Current unit of values. Non-null.
+   * @param toUnit             Unit to convert to. Non-null.
+   * @param source             Values to convert. Non-null.
+   * @param sourceOffset       Index of first value to convert.
+   * @param destination        Array to write converted values to. Non-null.
+   *                           May be the same as source if the ranges are
+   *                           identical or doesn't overlap.
+   * @param destinationOffset  Index of first converted value in destination.
+   * @param length             Number of values to convert.
+   * @throws IllegalArgumentException   If fromUnit, toUnit, source or destination is null.
+   * @throws IndexOutOfBoundsException  If a range is outside its array.
    */
-  public double convert(String fromUnitSymbol, String toUnitSymbol, double value)
+  public static void convert(Unit fromUnit, Unit toUnit,
+                             double[] source, int sourceOffset,
+                             double[] destination, int destinationOffset,
+                             int length)
   {
-    if (fromUnitSymbol == null)
-      throw new IllegalArgumentException("fromUnitSymbol cannot be null");
-
-    if (toUnitSymbol == null)
-      throw new IllegalArgumentException("toUnitSymbol cannot be null");
+    getConverter(fromUnit, toUnit).convert(source, sourceOffset, destination, destinationOffset, length);
+  }
 
-    Unit fromUnit = findUnit(fromUnitSymbol);
-    Unit toUnit = findUnit(toUnitSymbol);
+  /**
+   * Convert the specified values between the two given units in place.
+   * <p>
+   * Note that it is the client responsibility to check if it makes sense to
+   * convert between the given units.
+   *
+   * @param fromUnit  Current unit of values. Non-null.
+   * @param toUnit    Unit to convert to. Non-null.
+   * @param values    Values to convert. Non-null.
+   * @throws IllegalArgumentException  If fromUnit, toUnit or values is null.
+   */
+  public static void convert(Unit fromUnit, Unit toUnit, double[] values)
+  {
+    getConverter(fromUnit, toUnit).convert(values);
+  }
 
-    return fromUnit != null && toUnit != null ? convert(fromUnit, toUnit, value) : value;
+  /**
+   * Convert the specified range of single precision values between the two
+   * given units.
+   * <p>
+   * The values are converted in double precision and rounded to float, so
+   * the result is identical to converting each widened value by
+   * convert(Unit,Unit,double[]) and casting it back to float.
+   * <p>
+   * Note that it is the client responsibility to check if it makes sense to
+   * convert between the given units.
+   *
+   * @param fromUnit           Current unit of values. Non-null.
+   * @param toUnit             Unit to convert to. Non-null.
+   * @param source             Values to convert. Non-null.
+   * @param sourceOffset       Index of first value to convert.
+   * @param destination        Array to write converted values to. Non-null.
+   *                           May be the same as source if the ranges are
+   *                           identical or doesn't overlap.
+   * @param destinationOffset  Index of first converted value in destination.
+   * @param length             Number of values to convert.
+   * @throws IllegalArgumentException   If fromUnit, toUnit, source or destination is null.
+   * @throws IndexOutOfBoundsException  If a range is outside its array.
+   */
+  public static void convert(Unit fromUnit, Unit toUnit,
+                             float[] source, int sourceOffset,
+                             float[] destination, int destinationOffset,
+                             int length)
+  {
+    getConverter(fromUnit, toUnit).convert(source, sourceOffset, destination, destinationOffset, length);
   }
 
   /**
-   * Return the display symbol for the corresponding unit symbol.
+   * Convert the specified single precision values between the two given
+   * units in place.
+   * <p>
+   * Note that it is the client responsibility to check if it makes sense to
+   * convert between the given units.
    *
-   * @param unitSymbol  Unit symbol to get display symbol of. As a convenience
-   *                    for the client, null is allowed, in case an empty string is
-   *                    returned.
-   * @return            Display symbol of specified unit symbol.
-   *                    Empty string if unitless. Never null.
+   * @param fromUnit  Current unit of values. Non-null.
+   * @param toUnit    Unit to convert to. Non-null.
+   * @param values    Values to convert. Non-null.
+   * @throws IllegalArgumentException  If fromUnit, toUnit or values is null.
    */
-  public String getDisplaySymbol(String unitSymbol)
+  public static void convert(Unit fromUnit, Unit toUnit, float[] values)
   {
-    // Convenience to avoid excessive tests in client code
-    if (unitSymbol == null)
-      return "";
+    getConverter(fromUnit, toUnit).convert(values);
+  }
 
-    //
-    // See if there is an explicit mapping
-    //
-    if (displaySymbols_.containsKey(unitSymbol))
-      return displaySymbols_.getProperty(unitSymbol);
+  /**
+   * Convert the specified values between the two given units in place,
+   * leaving values equal to the given null value unchanged.
+   * A NaN null value matches any NaN.
+   * <p>
+   * Note that it is the client responsibility to check if it makes sense to
+   * convert between the given units.
+   *
+   * @param fromUnit   Current unit of values. Non-null.
+   * @param toUnit     Unit to convert to. Non-null.
+   * @param values     Values to convert. Non-null.
+   * @param nullValue  Value representing missing data, such as -999.25.
+   * @throws IllegalArgumentException  If fromUnit, toUnit or values is null.
+   */
+  public static void convert(Unit fromUnit, Unit toUnit, double[] values, double nullValue)
+  {
+    if (values == null)
+      throw new IllegalArgumentException("values cannot be null");
 
-    if (unitSymbol.toLowerCase(Locale.US).equals("unitless"))
-      return "";
+    getConverter(fromUnit, toUnit).convert(values, 0, values, 0, values.length, new double[] {nullValue});
+  }
 
-    // Degree symbol in Celsius
-    unitSymbol = unitSymbol.replaceAll("(?i)degc", "\u00b0C"); // case insensitive
+  /**
+   * Convert the specified single precision values between the two given
+   * units in place, leaving values equal to the given null value unchanged.
+   * A NaN null value matches any NaN.
+   * <p>
+   * Note that it is the client responsibility to check if it makes sense to
+   * convert between the given units.
+   *
+   * @param fromUnit   Current unit of values. Non-null.
+   * @param toUnit     Unit to convert to. Non-null.
+   * @param values     Values to convert. Non-null.
+   * @param nullValue  Value representing missing data, such as -999.25.
+   * @throws IllegalArgumentException  If fromUnit, toUnit or values is null.
+   */
+  public static void convert(Unit fromUnit, Unit toUnit, float[] values, float nullValue)
+  {
+    if (values == null)
+      throw new IllegalArgumentException("values cannot be null");
+
+    getConverter(fromUnit, toUnit).convert(values, 0, values, 0, values.length, new float[] {nullValue});
+  }
+
+  /**
+   * Convert the specified values between the two given units in place,
+   * splitting large arrays into parallel tasks in the common fork-join pool.
+   * The result is identical to that of convert(Unit,Unit,double[]).
+   * <p>
+   * Use getConverter() and Converter.convertParallel() to control the pool
+   * and the task size.
+   *
+   * @param fromUnit  Current unit of values. Non-null.
+   * @param toUnit    Unit to convert to. Non-null.
+   * @param values    Values to convert. Non-null.
+   * @throws IllegalArgumentException  If fromUnit, toUnit or values is null.
+   */
+  public static void convertParallel(Unit fromUnit, Unit toUnit, double[] values)
+  {
+    getConverter(fromUnit, toUnit).convertParallel(values);
+  }
+
+  /**
+   * Convert the specified single precision values between the two given
+   * units in place, splitting large arrays into parallel tasks in the common
+   * fork-join pool. The result is identical to that of
+   * convert(Unit,Unit,float[]).
+   *
+   * @param fromUnit  Current unit of values. Non-null.
+   * @param toUnit    Unit to convert to. Non-null.
+   * @param values    Values to convert. Non-null.
+   * @throws IllegalArgumentException  If fromUnit, toUnit or values is null.
+   */
+  public static void convertParallel(Unit fromUnit, Unit toUnit, float[] values)
+  {
+    getConverter(fromUnit, toUnit).convertParallel(values);
+  }
+
+  /**
+   * Return a converter for converting values between the two given units.
+   * <p>
+   * The converter composes the conversion to base of the from unit and the
+   * conversion from base of the to unit into a single step, and is preferred
+   * over convert(Unit,Unit,double) when many values are converted between
+   * the same units.
+   * <p>
+   * Note that it is the client responsibility to check if it makes sense to
+   * convert between the given units.
+   *
+   * @param fromUnit  Unit to convert from. Non-null.
+   * @param toUnit    Unit to convert to. Non-null.
+   * @return          The requested converter. Never null.
+   * @throws IllegalArgumentException  If fromUnit or toUnit is null.
+   */
+  public static Converter getConverter(Unit fromUnit, Unit toUnit)
+  {
+    if (fromUnit == null)
+      throw new IllegalArgumentException("fromUnit cannot be null");
+
+    if (toUnit == null)
+      throw new IllegalArgumentException("toUnit cannot be null");
+
+    return Converter.newInstance(fromUnit, toUnit);
+  }
+
+  /**
+   * Convert the specified value between the two given units.
+   * <p>
+   * Note that it is the client responsibility to check if it makes sense to
+   * convert between the given units. This method simply converts the value
+   * to base of the from unit, and convert this result from base of the to unit,
+   * without considering the compatibility between the two.
+   *
+   * @param fromUnitSymbol  Unit symbol of current unit of value. Non-null.
+   * @param toUnitSymbol    Unit symbol of unit to convert to. Non-null.
+   * @param value           Value to convert.
+   * @return                Converted value, or the input value it unit symbols
+   *                        are unknown.
+   * @throws IllegalArgumentException  If fromUnitSymbol or toUnitSymbol is null.
+   */
+  public double convert(String fromUnitSymbol, String toUnitSymbol, double value)
+  {
+    if (fromUnitSymbol == null)
+      throw new IllegalArgumentException("fromUnitSymbol cannot be null");
+
+    if (toUnitSymbol == null)
+      throw new IllegalArgumentException("toUnitSymbol cannot be null");
+
+    Converter converter = converterCache_.get(fromUnitSymbol, toUnitSymbol, converterResolver_);
+    return converter != null ? converter.convert(value) : value;
+  }
+
+  /**
+   * Return a converter for converting values between the units of the
+   * two given unit symbols.
+   * <p>
+   * Converters are cached by symbol pair, so repeated requests for the same
+   * pair costs a lookup only. The cache is bounded, and the least
+   * frequently used pairs are evicted when it is full.
+   *
+   * @param fromUnitSymbol  Unit symbol of unit to convert from. Non-null.
+   * @param toUnitSymbol    Unit symbol of unit to convert to. Non-null.
+   * @return                The requested converter, or null if any of
+   *                        the unit symbols are unknown.
+   * @throws IllegalArgumentException  If fromUnitSymbol or toUnitSymbol is null.
+   */
+  public Converter getConverter(String fromUnitSymbol, String toUnitSymbol)
+  {
+    if (fromUnitSymbol == null)
+      throw new IllegalArgumentException("fromUnitSymbol cannot be null");
+
+    if (toUnitSymbol == null)
+      throw new IllegalArgumentException("toUnitSymbol cannot be null");
+
+    return converterCache_.get(fromUnitSymbol, toUnitSymbol, converterResolver_);
+  }
+
+  /**
+   * Convert the specified columns of values in place, each from its own
+   * unit to its own target unit. This is typically used for normalizing
+   * all the curves of a log in one call.
+   * <p>
+   * The converters are resolved once per column. Columns that convert to
+   * the same unit, or that have unknown unit symbols, are left unchanged
+   * without being traversed. Large tables are converted in parallel in
+   * the common fork-join pool, across columns, or within each column if
+   * there are fewer columns than threads.
+   *
+   * @param columns          Columns of values to convert. Non-null.
+   * @param fromUnitSymbols  Current unit symbol of each column. Non-null.
+   * @param toUnitSymbols    Unit symbol to convert each column to. Non-null.
+   * @return                 Number of columns that were converted.
+   * @throws IllegalArgumentException  If columns, fromUnitSymbols or toUnitSymbols is
+   *                         null or contains null, or if their lengths differ.
+   */
+  public int convert(double[][] columns, String[] fromUnitSymbols, String[] toUnitSymbols)
+  {
+    if (columns == null)
+      throw new IllegalArgumentException("columns cannot be null");
+
+    if (fromUnitSymbols == null)
+      throw new IllegalArgumentException("fromUnitSymbols cannot be null");
+
+    if (toUnitSymbols == null)
+      throw new IllegalArgumentException("toUnitSymbols cannot be null");
+
+    if (fromUnitSymbols.length != columns.length || toUnitSymbols.length != columns.length)
+      throw new IllegalArgumentException("Unit symbols must be given for all columns: " + columns.length);
+
+    int nColumns = columns.length;
+
+    // Resolve all converters up front, and leave out the identities
+    Converter[] converters = new Converter[nColumns];
+    int nConverted = 0;
+    long nValues = 0;
+
+    for (int i = 0; i < nColumns; i++) {
+      if (columns[i] == null)
+        throw new IllegalArgumentException("columns cannot contain null");
+
+      Converter converter = getConverter(fromUnitSymbols[i], toUnitSymbols[i]);
+      if (converter != null && !converter.isIdentity()) {
+        converters[i] = converter;
+        nConverted++;
+        nValues += columns[i].length;
+      }
+    }
+
+    if (nValues < Converter.DEFAULT_PARALLEL_THRESHOLD) {
+      for (int i = 0; i < nColumns; i++) {
+        if (converters[i] != null)
+          converters[i].convert(columns[i]);
+      }
+    }
+    else if (nConverted < ForkJoinPool.getCommonPoolParallelism()) {
+      for (int i = 0; i < nColumns; i++) {
+        if (converters[i] != null)
+          converters[i].convertParallel(columns[i]);
+      }
+    }
+    else {
+      IntStream.range(0, nColumns)
+        .parallel()
+        .filter(i -> converters[i] != null)
+        .forEach(i -> converters[i].convert(columns[i]));
+    }
+
+    return nConverted;
+  }
+
+  /**
+   * Return the number of symbol based converter lookups that have been
+   * found in the converter cache.
+   *
+   * @return  Number of converter cache hits.
+   */
+  public long getConverterCacheHitCount()
+  {
+    return converterCache_.getHitCount();
+  }
+
+  /**
+   * Return the number of symbol based converter lookups that have not
+   * been found in the converter cache.
+   *
+   * @return  Number of converter cache misses.
+   */
+  public long getConverterCacheMissCount()
+  {
+    return converterCache_.getMissCount();
+  }
+
+  /**
+   * Create a converter between the units of the two specified unit symbols.
+   *
+   * @param fromUnitSymbol  Unit symbol of unit to convert from. Non-null.
+   * @param toUnitSymbol    Unit symbol of unit to convert to. Non-null.
+   * @return                The requested converter, or null if any of
+   *                        the unit symbols are unknown.
+   */
+  private Converter newConverter(String fromUnitSymbol, String toUnitSymbol)
+  {
+    Unit fromUnit = findUnit(fromUnitSymbol);
+    Unit toUnit = findUnit(toUnitSymbol);
+
+    return fromUnit != null && toUnit != null ? Converter.newInstance(fromUnit, toUnit) : null;
+  }
+
+  /**
+   * Return the display symbol for the corresponding unit symbol.
+   *
+   * @param unitSymbol  Unit symbol to get display symbol of. As a convenience
+   *                    for the client, null is allowed, in case an empty string is
+   *                    returned.
+   * @return            Display symbol of specified unit symbol.
+   *                    Empty string if unitless. Never null.
+   */
+  public String getDisplaySymbol(String unitSymbol)
+  {
+    // Convenience to avoid excessive tests in client code
+    if (unitSymbol == null)
+      return "";
+
+    //
+    // See if there is an explicit mapping
+    //
+    Properties displaySymbols = getDisplaySymbols();
+    if (displaySymbols.containsKey(unitSymbol))
+      return displaySymbols.getProperty(unitSymbol);
+
+    if (unitSymbol.toLowerCase(Locale.US).equals("unitless"))
+      return "";
+
+    // Degree symbol in Celsius
+    unitSymbol = unitSymbol.replaceAll("(?i)degc", "\u00b0C"); // case insensitive
 
     // Degree symbol in Fahrenheit
     unitSymbol = unitSymbol.replaceAll("(?i)degf", "\u00b0F"); // case insensitive
@@ -545,6 +1296,145 @@ public final class UnitManager
     return unit != null ? getDisplaySymbol(unit.getSymbol()) : "";
   }
 
+  /**
+   * Set the specified unit system, replacing any existing one of the same name.
+   * <p>
+   * The preferred unit of a quantity in the unit system is the first of the
+   * given units that belongs to the quantity, or the base unit of the quantity
+   * if none of them do. An empty list thereby gives the base units throughout.
+   *
+   * @param unitSystem   Name of unit system, such as "oilfield". Non-null.
+   * @param unitSymbols  Preferred unit symbols in order of preference. Non-null.
+   *                     Unknown unit symbols are ignored.
+   * @throws IllegalArgumentException  If unitSystem or unitSymbols is null.
+   */
+  public synchronized void setUnitSystem(String unitSystem, List<String> unitSymbols)
+  {
+    if (unitSystem == null)
+      throw new IllegalArgumentException("unitSystem cannot be null");
+
+    if (unitSymbols == null)
+      throw new IllegalArgumentException("unitSymbols cannot be null");
+
+    getUnitSystemsByName().put(unitSystem, new ArrayList<>(unitSymbols));
+    unitSystemTables_ = null;
+  }
+
+  /**
+   * Return the names of all unit systems known by this unit manager.
+   *
+   * @return  Names of all unit systems, sorted. Never null.
+   */
+  public synchronized List<String> getUnitSystems()
+  {
+    List<String> unitSystems = new ArrayList<>(getUnitSystemsByName().keySet());
+    Collections.sort(unitSystems);
+    return unitSystems;
+  }
+
+  /**
+   * Return the preferred unit of the specified quantity in the given
+   * unit system. This is a constant time table lookup.
+   *
+   * @param unitSystem  Name of unit system. Non-null.
+   * @param quantity    Quantity to get preferred unit of. Non-null.
+   * @return            The preferred unit, or null if the unit system is unknown,
+   *                    the quantity is not part of this manager, or it has no units.
+   * @throws IllegalArgumentException  If unitSystem or quantity is null.
+   */
+  public Unit getPreferredUnit(String unitSystem, Quantity quantity)
+  {
+    if (unitSystem == null)
+      throw new IllegalArgumentException("unitSystem cannot be null");
+
+    if (quantity == null)
+      throw new IllegalArgumentException("quantity cannot be null");
+
+    Map<String,Unit[]> unitSystemTables = unitSystemTables_;
+    if (unitSystemTables == null)
+      unitSystemTables = buildUnitSystemTables();
+
+    Unit[] preferredUnits = unitSystemTables.get(unitSystem);
+    if (preferredUnits == null)
+      return null;
+
+    int ordinal = quantity.getOrdinal();
+    return ordinal >= 0 && ordinal < preferredUnits.length ? preferredUnits[ordinal] : null;
+  }
+
+  /**
+   * Return the preferred unit in the given unit system for values of
+   * the specified unit. This is the preferred unit of the quantity reported
+   * by findQuantity(Unit).
+   *
+   * @param unitSystem  Name of unit system. Non-null.
+   * @param unit        Unit to get preferred unit for. Non-null.
+   * @return            The preferred unit, or null if the unit system is unknown
+   *                    or the unit is not part of any quantity.
+   * @throws IllegalArgumentException  If unitSystem or unit is null.
+   */
+  public Unit getPreferredUnit(String unitSystem, Unit unit)
+  {
+    if (unitSystem == null)
+      throw new IllegalArgumentException("unitSystem cannot be null");
+
+    if (unit == null)
+      throw new IllegalArgumentException("unit cannot be null");
+
+    Quantity quantity = findQuantity(unit);
+    return quantity != null ? getPreferredUnit(unitSystem, quantity) : null;
+  }
+
+  /**
+   * Convert the specified columns of values in place to the preferred units
+   * of the given unit system. See convert(double[][],String[],String[]).
+   * <p>
+   * Columns of unknown unit symbols, or of units that are not part of any
+   * quantity, are left unchanged.
+   *
+   * @param columns          Columns of values to convert. Non-null.
+   * @param fromUnitSymbols  Current unit symbol of each column. Non-null.
+   * @param unitSystem       Name of unit system to convert to. Non-null.
+   * @return                 The unit symbols of the columns after conversion.
+   *                         Never null.
+   * @throws IllegalArgumentException  If columns, fromUnitSymbols or unitSystem is
+   *                         null, if columns or fromUnitSymbols contains null, if
+   *                         their lengths differ or if unitSystem is unknown.
+   */
+  public String[] convert(double[][] columns, String[] fromUnitSymbols, String unitSystem)
+  {
+    if (columns == null)
+      throw new IllegalArgumentException("columns cannot be null");
+
+    if (fromUnitSymbols == null)
+      throw new IllegalArgumentException("fromUnitSymbols cannot be null");
+
+    if (unitSystem == null)
+      throw new IllegalArgumentException("unitSystem cannot be null");
+
+    Map<String,Unit[]> unitSystemTables = unitSystemTables_;
+    if (unitSystemTables == null)
+      unitSystemTables = buildUnitSystemTables();
+
+    if (!unitSystemTables.containsKey(unitSystem))
+      throw new IllegalArgumentException("Unknown unit system: " + unitSystem);
+
+    String[] toUnitSymbols = new String[fromUnitSymbols.length];
+
+    for (int i = 0; i < fromUnitSymbols.length; i++) {
+      if (fromUnitSymbols[i] == null)
+        throw new IllegalArgumentException("fromUnitSymbols cannot contain null");
+
+      Unit fromUnit = findUnit(fromUnitSymbols[i]);
+      Unit toUnit = fromUnit != null ? getPreferredUnit(unitSystem, fromUnit) : null;
+      toUnitSymbols[i] = toUnit != null ? toUnit.getSymbol() : fromUnitSymbols[i];
+    }
+
+    convert(columns, fromUnitSymbols, toUnitSymbols);
+
+    return toUnitSymbols;
+  }
+
   /**
    * Find quantity of the specified name, or create it if it is not found.
    *
@@ -557,15 +1447,178 @@ public final class UnitManager
   {
     assert quantityName != null : "quantityName cannot be null";
 
-    Quantity quantity = findQuantity(quantityName);
+    Quantity quantity = quantitiesByName_.get(quantityName);
     if (quantity == null) {
       quantity = new Quantity(quantityName, description);
+      quantitiesByName_.put(quantityName, quantity);
       quantities_.add(quantity);
     }
 
     return quantity;
   }
 
+  /**
+   * Update the indexes of this manager with the specified unit that
+   * has been added to the given quantity.
+   * <p>
+   * Called by the quantity whenever a unit is added to it.
+   *
+   * @param quantity  Quantity the unit has been added to. Non-null.
+   * @param unit      Unit that has been added. Non-null.
+   */
+  synchronized void unitAdded(Quantity quantity, Unit unit)
+  {
+    assert quantity != null : "quantity cannot be null";
+    assert unit != null : "unit cannot be null";
+
+    if (indexUnit(unit))
+      rebuildIndexes();
+
+    invalidateCaches();
+  }
+
+  /**
+   * Add the specified unit to the symbol indexes of this manager.
+   *
+   * @param unit  Unit to index. Non-null.
+   * @return      True if a symbol of the unit is already taken by another
+   *              unit, in which case the indexes must be rebuilt, false otherwise.
+   */
+  private synchronized boolean indexUnit(Unit unit)
+  {
+    assert unit != null : "unit cannot be null";
+
+    String symbol = unit.getSymbol();
+    String lowerCaseSymbol = symbol.toLowerCase(Locale.US);
+
+    Unit existingUnit = unitsBySymbol_.putIfAbsent(symbol, unit);
+    Unit existingLowerCaseUnit = unitsByLowerCaseSymbol_.putIfAbsent(lowerCaseSymbol, unit);
+
+    // If the symbol is already taken by another unit, the new unit may or
+    // may not precede it in traversal order. Rare, so we simply rebuild.
+    return (existingUnit != null && !existingUnit.equals(unit)) ||
+           (existingLowerCaseUnit != null && !existingLowerCaseUnit.equals(unit));
+  }
+
+  /**
+   * Clear everything derived from the quantities and units of this
+   * manager, so that it is rebuilt on next access.
+   */
+  private synchronized void invalidateCaches()
+  {
+    unitIndex_ = null;
+    unitSystemTables_ = null;
+    converterCache_.clear();
+    unitParser_.clear();
+  }
+
+  /**
+   * Build the preferred unit tables of all unit systems from the present
+   * quantities, unless some other thread has done so in the meantime.
+   *
+   * @return  Preferred units by quantity ordinal by unit system. Never null.
+   */
+  private synchronized Map<String,Unit[]> buildUnitSystemTables()
+  {
+    if (unitSystemTables_ != null)
+      return unitSystemTables_;
+
+    Map<String,Unit[]> unitSystemTables = new HashMap<>();
+
+    for (Map.Entry<String,List<String>> entry : getUnitSystemsByName().entrySet()) {
+
+      // Rank of each preferred unit, lower is better
+      Map<Unit,Integer> ranks = new HashMap<>();
+      for (String unitSymbol : entry.getValue()) {
+        Unit unit = findUnit(unitSymbol);
+        if (unit != null)
+          ranks.putIfAbsent(unit, ranks.size());
+      }
+
+      Unit[] preferredUnits = new Unit[quantities_.size()];
+
+      for (Quantity quantity : quantities_) {
+        int ordinal = quantity.getOrdinal();
+        if (ordinal < 0 || ordinal >= preferredUnits.length)
+          continue;
+
+        Unit preferredUnit = quantity.getBaseUnit();
+        int bestRank = Integer.MAX_VALUE;
+
+        for (Unit unit : quantity.getUnits()) {
+          Integer rank = ranks.get(unit);
+          if (rank != null && rank < bestRank) {
+            preferredUnit = unit;
+            bestRank = rank;
+          }
+        }
+
+        preferredUnits[ordinal] = preferredUnit;
+      }
+
+      unitSystemTables.put(entry.getKey(), preferredUnits);
+    }
+
+    unitSystemTables_ = unitSystemTables;
+    return unitSystemTables;
+  }
+
+  /**
+   * Build the unit index from the present quantities, unless some other
+   * thread has done so in the meantime.
+   *
+   * @return  The unit index. Never null.
+   */
+  private synchronized UnitIndex buildUnitIndex()
+  {
+    if (unitIndex_ != null)
+      return unitIndex_;
+
+    UnitIndex unitIndex = new UnitIndex(quantities_, findUnit("Euc"),
+                                        findQuantity("dimensionless"), findQuantity("time"));
+
+    unitIndex_ = unitIndex;
+    return unitIndex;
+  }
+
+  /**
+   * Return the unit index entry of the specified unit.
+   * The entry is created on first access.
+   *
+   * @param unit  Unit to get entry of. Non-null.
+   * @return      Entry of the unit. Never null.
+   */
+  private UnitEntry getUnitEntry(Unit unit)
+  {
+    assert unit != null : "unit cannot be null";
+
+    UnitIndex unitIndex = unitIndex_;
+    if (unitIndex == null)
+      unitIndex = buildUnitIndex();
+
+    return unitIndex.getUnitEntry(unit);
+  }
+
+  /**
+   * Rebuild all unit indexes of this manager from the present quantities.
+   */
+  private synchronized void rebuildIndexes()
+  {
+    Map<String,Unit> unitsBySymbol = new ConcurrentHashMap<>();
+    Map<String,Unit> unitsByLowerCaseSymbol = new ConcurrentHashMap<>();
+
+    for (Quantity quantity : quantities_) {
+      for (Unit unit : quantity.getUnits()) {
+        String symbol = unit.getSymbol();
+        unitsBySymbol.putIfAbsent(symbol, unit);
+        unitsByLowerCaseSymbol.putIfAbsent(symbol.toLowerCase(Locale.US), unit);
+      }
+    }
+
+    unitsBySymbol_ = unitsBySymbol;
+    unitsByLowerCaseSymbol_ = unitsByLowerCaseSymbol;
+  }
+
   /**
    * Load all unit aliases from local properties file.
    */
@@ -593,10 +1646,35 @@ public final class UnitManager
   }
 
   /**
-   * Load all display symbols from local properties file.
+   * Return the display symbols of this manager, loading them on first access.
+   *
+   * @return  Display symbols by unit symbol. Never null.
    */
-  private void loadDisplaySymbols()
+  private Properties getDisplaySymbols()
   {
+    if (!isDisplaySymbolsLoaded_) {
+      synchronized (this) {
+        // Set when loaded, so other threads never see them partially loaded
+        if (!isDisplaySymbolsLoaded_) {
+          loadDisplaySymbols();
+          isDisplaySymbolsLoaded_ = true;
+        }
+      }
+    }
+
+    return displaySymbols_;
+  }
+
+  /**
+   * Load all display symbols from the tables or the local properties file.
+   */
+  private synchronized void loadDisplaySymbols()
+  {
+    if (isTablesUsed_) {
+      displaySymbols_.putAll(UnitSnapshot.displaySymbolsFromTables());
+      return;
+    }
+
     InputStream stream = null;
 
     try {
@@ -619,117 +1697,79 @@ public final class UnitManager
   }
 
   /**
-   * Load all quantity and unit information from local XML file.
+   * Return the unit systems of this manager, loading them on first access.
+   *
+   * @return  Preferred unit symbols by unit system name. Never null.
    */
-  private void loadEnergisticsQuantities()
+  private synchronized Map<String,List<String>> getUnitSystemsByName()
   {
-    String packageName = getClass().getPackage().getName();
-    String packageLocation = packageName.replace('.', '/');
-    String filePath = "/" + packageLocation + "/" + UNITS_FILE;
-
-    InputStream stream = UnitManager.class.getResourceAsStream(filePath);
+    if (!isUnitSystemsLoaded_) {
+      loadUnitSystems();
+      isUnitSystemsLoaded_ = true;
+    }
 
-    assert stream != null : "Missing resource: " + filePath;
+    return unitSystems_;
+  }
 
-    try {
-      Document document = XmlUtil.newDocument(stream);
+  /**
+   * Load all unit systems from the tables or the local properties file.
+   */
+  private synchronized void loadUnitSystems()
+  {
+    if (isTablesUsed_) {
+      unitSystems_.putAll(UnitSnapshot.unitSystemsFromTables());
+      return;
+    }
 
-      Element rootElement = document.getDocumentElement();
+    Properties unitSystems = new Properties();
+    InputStream stream = null;
 
-      //
-      // UnitOfMeasure elements
-      //
-      Element unitDefinitionsElement = XmlUtil.getChild(rootElement, "UnitsDefinition");
-      List<Element> unitOfMeasureElements = XmlUtil.findChildren(unitDefinitionsElement, "UnitOfMeasure");
-
-      for (Element unitOfMeasureElement : unitOfMeasureElements) {
-        List<Quantity> quantitiesForUnit = new ArrayList<>();
-
-        //
-        // Extract the BaseUnit element with its Description member
-        //
-        Element deprecatedElement = XmlUtil.getChild(unitOfMeasureElement, "Deprecated");
-        Element baseUnitElement = XmlUtil.getChild(unitOfMeasureElement, "BaseUnit");
-        boolean isBaseUnit = baseUnitElement != null && deprecatedElement == null;
-        String quantityDescription = baseUnitElement != null ? XmlUtil.getChildValue(baseUnitElement, "Description", null) : null;
-
-        //
-        // Identify all the quantities this unit appears in
-        //
-        List<Element> quantityTypeElements = XmlUtil.findChildren(unitOfMeasureElement, "QuantityType");
-        for (Element quantityTypeElement : quantityTypeElements) {
-          String quantityName = quantityTypeElement.getTextContent();
-          Quantity quantity = findOrCreateQuantity(quantityName, quantityDescription);
-
-          quantitiesForUnit.add(quantity);
+    try {
+      stream = UnitManager.class.getResourceAsStream(UNIT_SYSTEMS_FILE);
+      unitSystems.load(stream);
+    }
+    catch (IOException exception) {
+      // Ignore. If the file is not available we can run without
+    }
+    finally {
+      if (stream != null) {
+        try {
+          stream.close();
         }
+        catch (IOException exception) {
+          // Ignore.
+        }
+      }
+    }
 
-        String unitName = XmlUtil.getChildValue(unitOfMeasureElement, "Name", null);
-        String unitSymbol = XmlUtil.getChildValue(unitOfMeasureElement, "CatalogSymbol", null);
-
-        Element conversionElement = XmlUtil.getChild(unitOfMeasureElement, "ConversionToBaseUnit");
-
-        double a = 1.0;
-        double b = 0.0;
-        double c = 0.0;
-        double d = 1.0;
+    for (String unitSystem : unitSystems.stringPropertyNames()) {
+      List<String> unitSymbols = new ArrayList<>();
+      for (String unitSymbol : unitSystems.getProperty(unitSystem).split(",")) {
+        if (!unitSymbol.trim().isEmpty())
+          unitSymbols.add(unitSymbol.trim());
+      }
 
-        if (conversionElement != null) {
-          String factorText = XmlUtil.getChildValue(conversionElement, "Factor", null);
+      unitSystems_.put(unitSystem, unitSymbols);
+    }
+  }
 
-          Element fractionElement = XmlUtil.getChild(conversionElement, "Fraction");
-          Element formulaElement = XmlUtil.getChild(conversionElement, "Formula");
+  /**
+   * Load all quantity and unit information from local XML file.
+   */
+  private void loadEnergisticsQuantities()
+  {
+    String packageName = getClass().getPackage().getName();
+    String packageLocation = packageName.replace('.', '/');
+    String filePath = "/" + packageLocation + "/" + UNITS_FILE;
 
-          if (factorText != null) {
-            try {
-              a = Double.parseDouble(factorText);
-            }
-            catch (NumberFormatException exception) {
-              assert false : "Invalid numeric value: " + factorText;
-            }
-          }
-          else if (fractionElement != null) {
-            String numeratorText = XmlUtil.getChildValue(fractionElement, "Numerator", null);
-            String denominatorText = XmlUtil.getChildValue(fractionElement, "Denominator", null);
-
-            try {
-              double numerator = Double.parseDouble(numeratorText);
-              double denominator = Double.parseDouble(denominatorText);
-
-              a = numerator / denominator;
-            }
-            catch (NumberFormatException exception) {
-              assert false : "Invalid numeric value: " + numeratorText + "/" + denominatorText;
-            }
-          }
-          else if (formulaElement != null) {
-            String aText = XmlUtil.getChildValue(formulaElement, "A", null);
-            String bText = XmlUtil.getChildValue(formulaElement, "B", null);
-            String cText = XmlUtil.getChildValue(formulaElement, "C", null);
-            String dText = XmlUtil.getChildValue(formulaElement, "D", null);
-
-            try {
-              // NOTE: We have a different definition of a, b, c, d than Energistics
-              //       so the switch of order is intentional
-              b = Double.parseDouble(aText);
-              a = Double.parseDouble(bText);
-              d = Double.parseDouble(cText);
-              c = Double.parseDouble(dText);
-            }
-            catch (NumberFormatException exception) {
-              assert false : "Invalid numeric value: " + aText + "," + bText + "," + cText + "," + dText;
-            }
-          }
-        }
+    InputStream stream = UnitManager.class.getResourceAsStream(filePath);
 
-        Unit unit = new Unit(unitName, unitSymbol, a, b, c, d);
+    assert stream != null : "Missing resource: " + filePath;
 
-        for (Quantity quantity : quantitiesForUnit) {
-          quantity.addUnit(unit, isBaseUnit);
-        }
-      }
+    try {
+      UnitDictionaryReader.read(stream, this::findOrCreateQuantity);
     }
-    catch (SAXException | IOException exception) {
+    catch (XMLStreamException exception) {
       assert false : "Parse error: " + filePath;
     }
     finally {
@@ -742,6 +1782,38 @@ public final class UnitManager
     }
   }
 
+  /**
+   * Load quantities, units and aliases from the generated UnitTables class.
+   * This involves no resource reading or parsing at all. UnitSnapshotTest
+   * verifies that the tables are current.
+   */
+  private void loadTables()
+  {
+    List<Quantity> quantities = UnitSnapshot.quantitiesFromTables();
+
+    for (Quantity quantity : quantities)
+      quantitiesByName_.put(quantity.getName(), quantity);
+    quantities_.addAll(quantities);
+
+    unitAliases_.putAll(UnitSnapshot.unitAliasesFromTables());
+  }
+
+  /**
+   * Return a snapshot of the content of this manager. Used by the build
+   * for generating the UnitTables class.
+   *
+   * @return  Snapshot of the content of this manager. Never null.
+   */
+  synchronized UnitSnapshot getSnapshot()
+  {
+    Map<String,List<String>> unitSystems = new HashMap<>();
+    for (Map.Entry<String,List<String>> entry : getUnitSystemsByName().entrySet())
+      unitSystems.put(entry.getKey(), new ArrayList<>(entry.getValue()));
+
+    return new UnitSnapshot(new ArrayList<>(quantities_), (Properties) unitAliases_.clone(),
+                            (Properties) getDisplaySymbols().clone(), unitSystems);
+  }
+
   /** {@inheritDoc} */
   @Override
   public String toString()
@@ -753,7 +1825,10 @@ public final class UnitManager
     for (Quantity quantity : quantities_)
       nUnits += quantity.getUnits().size();
     s.append("Units.........: " + nUnits + "\n");
-    s.append("Unit aliases..: " + unitAliases_.size());
+    s.append("Unit aliases..: " + unitAliases_.size() + "\n");
+    s.append("Unit systems..: " + getUnitSystems() + "\n");
+    s.append("Cache hits....: " + converterCache_.getHitCount() + "\n");
+    s.append("Cache misses..: " + converterCache_.getMissCount());
 
     return s.toString();
   }
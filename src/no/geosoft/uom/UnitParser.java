@@ -0,0 +1,269 @@
+package no.geosoft.uom;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Parser of compound unit symbols such as "klbf.ft/min", "m3/d/bar"
+ * or "GW" that are not present in the unit dictionary.
+ * <p>
+ * A compound unit symbol is a sequence of components separated by
+ * "." (multiplication) or "/" (division), evaluated left to right.
+ * Each component is a unit symbol of the dictionary, optionally
+ * preceded by an SI prefix and followed by an integer power, such as
+ * "cm2" or "s^-1". Components must be linear units, i.e. units that
+ * convert to base by a factor only.
+ * <p>
+ * The resulting unit has the combined conversion factor and dimension
+ * of its components. It is not part of any quantity, but converts to
+ * and from dictionary units of the same dimension as the dictionary base
+ * units are coherent.
+ * <p>
+ * Results, including failures, are memoized per symbol, so a symbol is
+ * parsed only once. The memo is bounded and is cleared when exceeding its
+ * capacity and whenever the unit manager changes.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @author <a href="mailto:jacob.dreyer@geosoft.no">Jacob Dreyer</a>
+ */
+final class UnitParser
+{
+  /** SI prefixes. Longer prefixes precede their own first letter. */
+  private final static String[] PREFIXES = {
+    "Y", "Z", "E", "P", "T", "G", "M", "k", "h", "da",
+    "d", "c", "m", "u", "\u00b5", "n", "p", "f", "a", "z", "y"
+  };
+
+  /** Factors of the SI prefixes, in the same order as PREFIXES. */
+  private final static double[] PREFIX_FACTORS = {
+    1.0e24, 1.0e21, 1.0e18, 1.0e15, 1.0e12, 1.0e9, 1.0e6, 1.0e3, 1.0e2, 1.0e1,
+    1.0e-1, 1.0e-2, 1.0e-3, 1.0e-6, 1.0e-6, 1.0e-9, 1.0e-12, 1.0e-15, 1.0e-18, 1.0e-21, 1.0e-24
+  };
+
+  /** Marker of symbols that cannot be parsed, as the memo cannot hold null. */
+  private final static Unit UNRESOLVED = new Unit("unresolved", "", 1.0, 0.0, 0.0, 1.0);
+
+  /** The unit manager for looking up component units. Non-null. */
+  private final UnitManager unitManager_;
+
+  /** Maximum number of entries in the memo. */
+  private final int capacity_;
+
+  /** Parsed units by symbol. UNRESOLVED if the symbol cannot be parsed. */
+  private final Map<String,Unit> units_ = new ConcurrentHashMap<>();
+
+  /**
+   * Create a new unit parser.
+   *
+   * @param unitManager  Unit manager for looking up component units. Non-null.
+   * @param capacity     Maximum number of symbols to memoize. Must be positive.
+   */
+  UnitParser(UnitManager unitManager, int capacity)
+  {
+    assert unitManager != null : "unitManager cannot be null";
+    assert capacity > 0 : "Invalid capacity: " + capacity;
+
+    unitManager_ = unitManager;
+    capacity_ = capacity;
+  }
+
+  /**
+   * Return the unit of the specified compound unit symbol.
+   *
+   * @param unitSymbol  Compound unit symbol to parse. Non-null.
+   * @return            The associated unit, or null if the symbol
+   *                    cannot be parsed.
+   */
+  Unit parse(String unitSymbol)
+  {
+    assert unitSymbol != null : "unitSymbol cannot be null";
+
+    Unit unit = units_.get(unitSymbol);
+
+    if (unit == null) {
+      unit = parseCompound(unitSymbol.trim());
+      if (unit == null)
+        unit = UNRESOLVED;
+
+      // Simply start over when full, as each entry is cheap to recompute
+      if (units_.size() >= capacity_)
+        units_.clear();
+
+      units_.put(unitSymbol, unit);
+    }
+
+    return unit != UNRESOLVED ? unit : null;
+  }
+
+  /**
+   * Remove all memoized units.
+   */
+  void clear()
+  {
+    units_.clear();
+  }
+
+  /**
+   * Parse the specified compound unit symbol.
+   *
+   * @param unitSymbol  Unit symbol to parse. Non-null.
+   * @return            The associated unit, or null if it cannot be parsed.
+   */
+  private Unit parseCompound(String unitSymbol)
+  {
+    assert unitSymbol != null : "unitSymbol cannot be null";
+
+    if (unitSymbol.isEmpty())
+      return null;
+
+    double factor = 1.0;
+    Dimension dimension = Dimension.NONE;
+
+    int sign = 1;
+    int start = 0;
+
+    for (int i = 0; i <= unitSymbol.length(); i++) {
+      char c = i < unitSymbol.length() ? unitSymbol.charAt(i) : '.';
+      if (c != '.' && c != '/')
+        continue;
+
+      Component component = parseComponent(unitSymbol.substring(start, i));
+      if (component == null)
+        return null;
+
+      int power = sign * component.power_;
+      factor *= Math.pow(component.factor_, power);
+
+      if (dimension != null) {
+        Dimension componentDimension = component.unit_.getDimension();
+        try {
+          dimension = componentDimension != null ? dimension.multiply(componentDimension.power(power)) : null;
+        }
+        catch (IllegalArgumentException exception) {
+          // Exponent out of range. Leave the dimension unknown
+          dimension = null;
+        }
+      }
+
+      sign = c == '/' ? -1 : 1;
+      start = i + 1;
+    }
+
+    return new Unit(unitSymbol, unitSymbol, factor, 0.0, 0.0, 1.0, dimension);
+  }
+
+  /**
+   * A component of a compound unit symbol.
+   */
+  private static final class Component
+  {
+    /** The dictionary unit of the component. Non-null. */
+    private final Unit unit_;
+
+    /** Conversion factor of the prefixed unit to base. */
+    private final double factor_;
+
+    /** The power of the component. */
+    private final int power_;
+
+    /**
+     * Create a new component.
+     *
+     * @param unit    Dictionary unit of the component. Non-null.
+     * @param factor  Conversion factor of the prefixed unit to base.
+     * @param power   Power of the component.
+     */
+    private Component(Unit unit, double factor, int power)
+    {
+      assert unit != null : "unit cannot be null";
+
+      unit_ = unit;
+      factor_ = factor;
+      power_ = power;
+    }
+  }
+
+  /**
+   * Parse the specified component of a compound unit symbol.
+   *
+   * @param text  Text to parse. Non-null.
+   * @return      The associated component, or null if it cannot be parsed.
+   */
+  private Component parseComponent(String text)
+  {
+    assert text != null : "text cannot be null";
+
+    if (text.isEmpty())
+      return null;
+
+    // As is, such as "m3" or "klbf"
+    Component component = newComponent(unitManager_.findUnitExact(text), 1.0, 1);
+    if (component != null)
+      return component;
+
+    // Split off the power, such as "cm2" or "s^-1"
+    int powerStart = text.length();
+    while (powerStart > 0 && Character.isDigit(text.charAt(powerStart - 1)))
+      powerStart--;
+
+    String symbol = text;
+    int power = 1;
+
+    if (text.length() - powerStart > 2)
+      return null;
+
+    if (powerStart < text.length()) {
+      symbol = text.substring(0, powerStart);
+      if (symbol.endsWith("^-")) {
+        symbol = symbol.substring(0, symbol.length() - 2);
+        power = -Integer.parseInt(text.substring(powerStart));
+      }
+      else {
+        if (symbol.endsWith("^"))
+          symbol = symbol.substring(0, symbol.length() - 1);
+        power = Integer.parseInt(text.substring(powerStart));
+      }
+
+      if (symbol.isEmpty())
+        return null;
+
+      component = newComponent(unitManager_.findUnitExact(symbol), 1.0, power);
+      if (component != null)
+        return component;
+    }
+
+    // SI prefix, such as "uS" or "GW"
+    for (int i = 0; i < PREFIXES.length; i++) {
+      String prefix = PREFIXES[i];
+      if (symbol.length() > prefix.length() && symbol.startsWith(prefix)) {
+        component = newComponent(unitManager_.findUnitExact(symbol.substring(prefix.length())), PREFIX_FACTORS[i], power);
+        if (component != null)
+          return component;
+      }
+    }
+
+    // Last resort is a case insensitive match
+    return newComponent(unitManager_.findUnit(symbol), 1.0, power);
+  }
+
+  /**
+   * Create a component of the specified unit.
+   *
+   * @param unit          Unit of component. May be null.
+   * @param prefixFactor  Factor of SI prefix, 1.0 if none.
+   * @param power         Power of the component.
+   * @return              The requested component, or null if unit is null
+   *                      or not a linear unit.
+   */
+  private static Component newComponent(Unit unit, double prefixFactor, int power)
+  {
+    if (unit == null)
+      return null;
+
+    if (unit.getB() != 0.0 || unit.getC() != 0.0 || unit.getD() == 0.0)
+      return null;
+
+    return new Component(unit, prefixFactor * unit.getA() / unit.getD(), power);
+  }
+}
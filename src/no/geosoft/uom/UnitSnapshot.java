@@ -0,0 +1,197 @@
+package no.geosoft.uom;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * The fully resolved unit registry: quantities with their units, unit
+ * aliases, display symbols and unit systems.
+ * <p>
+ * A snapshot is either taken of a unit manager loaded from the unit
+ * dictionary and the property files, as done by UnitTableGenerator,
+ * or created from the generated UnitTables class, as done by the unit
+ * manager on startup. Units shared between quantities are stored once
+ * in the tables, so they are shared in the loaded registry as well.
+ *
+ * @author <a href="mailto:jacob.dreyer@geosoft.no">Jacob Dreyer</a>
+ */
+final class UnitSnapshot
+{
+  /**
+   * Packed dimension exponents of units without a specific dimension.
+   * Valid exponents never have the sign bit set.
+   */
+  final static long UNKNOWN_DIMENSION = Long.MIN_VALUE;
+
+  /** The quantities of the snapshot, in manager order. Non-null. */
+  private final List<Quantity> quantities_;
+
+  /** Unit aliases of the snapshot. Non-null. */
+  private final Properties unitAliases_;
+
+  /** Display symbols of the snapshot. Non-null. */
+  private final Properties displaySymbols_;
+
+  /** Unit systems of the snapshot by name. Non-null. */
+  private final Map<String,List<String>> unitSystems_;
+
+  /**
+   * Create a new snapshot instance.
+   *
+   * @param quantities      Quantities of snapshot. Non-null.
+   * @param unitAliases     Unit aliases of snapshot. Non-null.
+   * @param displaySymbols  Display symbols of snapshot. Non-null.
+   * @param unitSystems     Unit systems of snapshot. Non-null.
+   */
+  UnitSnapshot(List<Quantity> quantities,
+               Properties unitAliases,
+               Properties displaySymbols,
+               Map<String,List<String>> unitSystems)
+  {
+    assert quantities != null : "quantities cannot be null";
+    assert unitAliases != null : "unitAliases cannot be null";
+    assert displaySymbols != null : "displaySymbols cannot be null";
+    assert unitSystems != null : "unitSystems cannot be null";
+
+    quantities_ = quantities;
+    unitAliases_ = unitAliases;
+    displaySymbols_ = displaySymbols;
+    unitSystems_ = unitSystems;
+  }
+
+  /**
+   * Return the quantities of this snapshot. The quantities of a snapshot
+   * created from the tables are not yet part of any unit manager.
+   *
+   * @return  Quantities of this snapshot in manager order. Never null.
+   */
+  List<Quantity> getQuantities()
+  {
+    return quantities_;
+  }
+
+  /**
+   * Return the unit aliases of this snapshot.
+   *
+   * @return  Unit aliases of this snapshot. Never null.
+   */
+  Properties getUnitAliases()
+  {
+    return unitAliases_;
+  }
+
+  /**
+   * Return the display symbols of this snapshot.
+   *
+   * @return  Display symbols of this snapshot. Never null.
+   */
+  Properties getDisplaySymbols()
+  {
+    return displaySymbols_;
+  }
+
+  /**
+   * Return the unit systems of this snapshot.
+   *
+   * @return  Unit systems of this snapshot by name. Never null.
+   */
+  Map<String,List<String>> getUnitSystems()
+  {
+    return unitSystems_;
+  }
+
+  /**
+   * Create a snapshot from the generated UnitTables class.
+   *
+   * @return  The snapshot. Never null.
+   */
+  static UnitSnapshot fromTables()
+  {
+    return new UnitSnapshot(quantitiesFromTables(), unitAliasesFromTables(),
+                            displaySymbolsFromTables(), unitSystemsFromTables());
+  }
+
+  /**
+   * Return the quantities and units of the generated UnitTables class.
+   * The quantities are not yet part of any unit manager.
+   *
+   * @return  Quantities in manager order. Never null.
+   */
+  static List<Quantity> quantitiesFromTables()
+  {
+    double[] coefficients = UnitTables.UNIT_COEFFICIENTS;
+
+    Unit[] units = new Unit[UnitTables.UNIT_NAMES.length];
+    for (int i = 0; i < units.length; i++) {
+      long exponents = UnitTables.UNIT_DIMENSIONS[i];
+      Dimension dimension = exponents != UNKNOWN_DIMENSION ? Dimension.valueOf(exponents) : null;
+
+      units[i] = new Unit(UnitTables.UNIT_NAMES[i], UnitTables.UNIT_SYMBOLS[i],
+                          coefficients[4 * i], coefficients[4 * i + 1],
+                          coefficients[4 * i + 2], coefficients[4 * i + 3],
+                          dimension);
+    }
+
+    List<Quantity> quantities = new ArrayList<>();
+    for (int i = 0; i < UnitTables.QUANTITY_NAMES.length; i++) {
+      Quantity quantity = new Quantity(UnitTables.QUANTITY_NAMES[i], UnitTables.QUANTITY_DESCRIPTIONS[i]);
+
+      // Units are stored base unit first, so they are added in order
+      for (int unitIndex : UnitTables.QUANTITY_UNITS[i])
+        quantity.addUnit(units[unitIndex], false);
+
+      quantities.add(quantity);
+    }
+
+    return quantities;
+  }
+
+  /**
+   * Return the unit aliases of the generated UnitTables class.
+   *
+   * @return  Unit symbols by alias. Never null.
+   */
+  static Properties unitAliasesFromTables()
+  {
+    Properties unitAliases = new Properties();
+    for (String[] pair : UnitTables.UNIT_ALIASES)
+      unitAliases.setProperty(pair[0], pair[1]);
+
+    return unitAliases;
+  }
+
+  /**
+   * Return the display symbols of the generated UnitTables class.
+   * This does not initialize the unit tables.
+   *
+   * @return  Display symbols by unit symbol. Never null.
+   */
+  static Properties displaySymbolsFromTables()
+  {
+    Properties displaySymbols = new Properties();
+    for (String[] pair : UnitTables.DisplayTables.DISPLAY_SYMBOLS)
+      displaySymbols.setProperty(pair[0], pair[1]);
+
+    return displaySymbols;
+  }
+
+  /**
+   * Return the unit systems of the generated UnitTables class.
+   * This does not initialize the unit tables.
+   *
+   * @return  Preferred unit symbols by unit system name. Never null.
+   */
+  static Map<String,List<String>> unitSystemsFromTables()
+  {
+    Map<String,List<String>> unitSystems = new HashMap<>();
+    for (int i = 0; i < UnitTables.DisplayTables.UNIT_SYSTEM_NAMES.length; i++)
+      unitSystems.put(UnitTables.DisplayTables.UNIT_SYSTEM_NAMES[i],
+                      new ArrayList<>(Arrays.asList(UnitTables.DisplayTables.UNIT_SYSTEM_UNITS[i])));
+
+    return unitSystems;
+  }
+}
@@ -0,0 +1,377 @@
+package no.geosoft.uom;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.zip.CRC32;
+
+/**
+ * Generator of the UnitTables class from the unit dictionary and the
+ * property files.
+ * <p>
+ * UnitTables holds the fully resolved registry as static arrays of
+ * constants, so the unit manager can be initialized without any resource
+ * reading, XML parsing or reflective factory lookups. This makes the
+ * initialization suitable for build time initialization in native images
+ * and for class data sharing archives.
+ * <p>
+ * Each array is created by its own method, as the class initializer
+ * would otherwise exceed the maximum method size of the class file format.
+ * <p>
+ * The tables are not verified against the source resources at runtime.
+ * Instead they record a checksum of the sources, which UnitSnapshotTest
+ * compares to that of the present sources.
+ * <p>
+ * This is a build step. Run this class with the path of UnitTables.java
+ * as argument.
+ *
+ * @author <a href="mailto:jacob.dreyer@geosoft.no">Jacob Dreyer</a>
+ */
+final class UnitTableGenerator
+{
+  /** Maximum number of characters per line of array content. */
+  private final static int LINE_LENGTH = 100;
+
+  /**
+   * Private constructor to prevent client instantiation.
+   */
+  private UnitTableGenerator()
+  {
+    assert false : "This constructor should never be called";
+  }
+
+  /**
+   * Return the specified string as a Java string literal.
+   *
+   * @param s  String to quote. May be null.
+   * @return   The associated Java literal. Never null.
+   */
+  private static String toLiteral(String s)
+  {
+    if (s == null)
+      return "null";
+
+    StringBuilder literal = new StringBuilder("\"");
+    for (int i = 0; i < s.length(); i++) {
+      char c = s.charAt(i);
+      if (c == '"' || c == '\\')
+        literal.append('\\').append(c);
+      else if (c < 0x20 || c > 0x7e)
+        literal.append(String.format("\\u%04x", (int) c));
+      else
+        literal.append(c);
+    }
+
+    return literal.append('"').toString();
+  }
+
+  /**
+   * Return the specified value as a Java double literal.
+   *
+   * @param value  Value to convert.
+   * @return       The associated Java literal. Never null.
+   */
+  private static String toLiteral(double value)
+  {
+    if (Double.isNaN(value))
+      return "Double.NaN";
+
+    if (Double.isInfinite(value))
+      return value > 0.0 ? "Double.POSITIVE_INFINITY" : "Double.NEGATIVE_INFINITY";
+
+    // Double.toString() is exact when read back
+    return Double.toString(value);
+  }
+
+  /**
+   * Return a checksum of the resources the tables are generated from.
+   *
+   * @return  Checksum of the source resources.
+   * @throws IOException  If a resource is missing or cannot be read.
+   */
+  static long getSourceChecksum()
+    throws IOException
+  {
+    CRC32 checksum = new CRC32();
+
+    for (String fileName : UnitManager.TABLES_SOURCE_FILES) {
+      try (InputStream stream = UnitManager.class.getResourceAsStream(fileName)) {
+        if (stream == null)
+          throw new IOException("Missing resource: " + fileName);
+
+        checksum.update(stream.readAllBytes());
+      }
+
+      // Separate the resources so content can't move between them unnoticed
+      checksum.update(0);
+    }
+
+    return checksum.getValue();
+  }
+
+  /**
+   * Write a method creating an array of the specified literals.
+   *
+   * @param out         Writer to write to. Non-null.
+   * @param margin      Indentation of the method declaration. Non-null.
+   * @param type        Array type, such as "String[]". Non-null.
+   * @param methodName  Name of method. Non-null.
+   * @param literals    The array elements as Java literals. Non-null.
+   */
+  private static void writeArrayMethod(PrintWriter out, String margin, String type, String methodName, List<String> literals)
+  {
+    assert out != null : "out cannot be null";
+    assert margin != null : "margin cannot be null";
+    assert type != null : "type cannot be null";
+    assert methodName != null : "methodName cannot be null";
+    assert literals != null : "literals cannot be null";
+
+    String indent = margin + "    ";
+
+    out.println();
+    out.println(margin + "private static " + type + " " + methodName + "()");
+    out.println(margin + "{");
+    out.println(margin + "  return new " + type + " {");
+
+    StringBuilder line = new StringBuilder();
+    for (String literal : literals) {
+      if (line.length() > 0 && line.length() + literal.length() + 2 > LINE_LENGTH) {
+        out.println(indent + line.toString().trim());
+        line.setLength(0);
+      }
+
+      line.append(literal).append(", ");
+    }
+
+    if (line.length() > 0)
+      out.println(indent + line.toString().trim());
+
+    out.println(margin + "  };");
+    out.println(margin + "}");
+  }
+
+  /**
+   * Write the specified properties as a method creating an array
+   * of key/value pairs.
+   *
+   * @param out         Writer to write to. Non-null.
+   * @param margin      Indentation of the method declaration. Non-null.
+   * @param methodName  Name of method. Non-null.
+   * @param properties  Properties to write. Non-null.
+   */
+  private static void writePropertiesMethod(PrintWriter out, String margin, String methodName, Properties properties)
+  {
+    assert properties != null : "properties cannot be null";
+
+    List<String> literals = new ArrayList<>();
+    for (String key : properties.stringPropertyNames())
+      literals.add("{" + toLiteral(key) + ", " + toLiteral(properties.getProperty(key)) + "}");
+
+    writeArrayMethod(out, margin, "String[][]", methodName, literals);
+  }
+
+  /**
+   * Write the UnitTables class of the specified registry content.
+   *
+   * @param out       Writer to write to. Non-null.
+   * @param snapshot  Registry content to write. Non-null.
+   * @param checksum  Checksum of the source resources of the content.
+   */
+  private static void write(PrintWriter out, UnitSnapshot snapshot, long checksum)
+  {
+    assert out != null : "out cannot be null";
+    assert snapshot != null : "snapshot cannot be null";
+
+    //
+    // Collect the distinct units by identity
+    //
+    List<Unit> units = new ArrayList<>();
+    Map<Unit,Integer> unitIndices = new IdentityHashMap<>();
+    for (Quantity quantity : snapshot.getQuantities()) {
+      for (Unit unit : quantity.getUnits()) {
+        if (!unitIndices.containsKey(unit)) {
+          unitIndices.put(unit, units.size());
+          units.add(unit);
+        }
+      }
+    }
+
+    out.println("package no.geosoft.uom;");
+    out.println();
+    out.println("/**");
+    out.println(" * The unit registry as static arrays of constants.");
+    out.println(" * <p>");
+    out.println(" * Generated by UnitTableGenerator from the unit dictionary and the");
+    out.println(" * property files. Do not edit.");
+    out.println(" */");
+    out.println("final class UnitTables");
+    out.println("{");
+    out.println("  /** Checksum of the source resources the tables are generated from. */");
+    out.println("  final static long SOURCE_CHECKSUM = " + checksum + "L;");
+    out.println();
+    out.println("  /** Marker of units without a specific dimension. */");
+    out.println("  final static long UNKNOWN_DIMENSION = " + UnitSnapshot.UNKNOWN_DIMENSION + "L;");
+    out.println();
+    out.println("  /** Unit names, by unit index. */");
+    out.println("  final static String[] UNIT_NAMES = unitNames();");
+    out.println();
+    out.println("  /** Unit symbols, by unit index. */");
+    out.println("  final static String[] UNIT_SYMBOLS = unitSymbols();");
+    out.println();
+    out.println("  /** Conversion coefficients a, b, c, d of each unit, by unit index. */");
+    out.println("  final static double[] UNIT_COEFFICIENTS = unitCoefficients();");
+    out.println();
+    out.println("  /** Packed dimension exponents, by unit index. UNKNOWN_DIMENSION if none. */");
+    out.println("  final static long[] UNIT_DIMENSIONS = unitDimensions();");
+    out.println();
+    out.println("  /** Quantity names, in manager order. */");
+    out.println("  final static String[] QUANTITY_NAMES = quantityNames();");
+    out.println();
+    out.println("  /** Quantity descriptions, in manager order. */");
+    out.println("  final static String[] QUANTITY_DESCRIPTIONS = quantityDescriptions();");
+    out.println();
+    out.println("  /** Unit indices of each quantity, base unit first, in manager order. */");
+    out.println("  final static int[][] QUANTITY_UNITS = quantityUnits();");
+    out.println();
+    out.println("  /** Unit aliases as alias/unit symbol pairs. */");
+    out.println("  final static String[][] UNIT_ALIASES = unitAliases();");
+    out.println();
+    out.println("  /**");
+    out.println("   * Private constructor to prevent client instantiation.");
+    out.println("   */");
+    out.println("  private UnitTables()");
+    out.println("  {");
+    out.println("    assert false : \"This constructor should never be called\";");
+    out.println("  }");
+
+    List<String> names = new ArrayList<>();
+    List<String> symbols = new ArrayList<>();
+    List<String> coefficients = new ArrayList<>();
+    List<String> dimensions = new ArrayList<>();
+    for (Unit unit : units) {
+      names.add(toLiteral(unit.getName()));
+      symbols.add(toLiteral(unit.getSymbol()));
+      coefficients.add(toLiteral(unit.getA()));
+      coefficients.add(toLiteral(unit.getB()));
+      coefficients.add(toLiteral(unit.getC()));
+      coefficients.add(toLiteral(unit.getD()));
+
+      Dimension dimension = unit.getDimension();
+      long exponents = dimension != null ? dimension.getPackedExponents() : UnitSnapshot.UNKNOWN_DIMENSION;
+      dimensions.add(exponents + "L");
+    }
+
+    writeArrayMethod(out, "  ", "String[]", "unitNames", names);
+    writeArrayMethod(out, "  ", "String[]", "unitSymbols", symbols);
+    writeArrayMethod(out, "  ", "double[]", "unitCoefficients", coefficients);
+    writeArrayMethod(out, "  ", "long[]", "unitDimensions", dimensions);
+
+    List<String> quantityNames = new ArrayList<>();
+    List<String> quantityDescriptions = new ArrayList<>();
+    List<String> quantityUnits = new ArrayList<>();
+    for (Quantity quantity : snapshot.getQuantities()) {
+      quantityNames.add(toLiteral(quantity.getName()));
+      quantityDescriptions.add(toLiteral(quantity.getDescription()));
+
+      StringBuilder indices = new StringBuilder("{");
+      for (Unit unit : quantity.getUnits()) {
+        if (indices.length() > 1)
+          indices.append(", ");
+        indices.append(unitIndices.get(unit));
+      }
+      quantityUnits.add(indices.append("}").toString());
+    }
+
+    writeArrayMethod(out, "  ", "String[]", "quantityNames", quantityNames);
+    writeArrayMethod(out, "  ", "String[]", "quantityDescriptions", quantityDescriptions);
+    writeArrayMethod(out, "  ", "int[][]", "quantityUnits", quantityUnits);
+
+    writePropertiesMethod(out, "  ", "unitAliases", snapshot.getUnitAliases());
+
+    //
+    // The display tables of the nested class
+    //
+    out.println();
+    out.println("  /**");
+    out.println("   * Display symbols and unit systems. These are not needed for finding");
+    out.println("   * units, and are held by a nested class so that they are initialized");
+    out.println("   * on first access rather than along with the unit tables.");
+    out.println("   */");
+    out.println("  static final class DisplayTables");
+    out.println("  {");
+    out.println("    /** Display symbols as unit symbol/display symbol pairs. */");
+    out.println("    final static String[][] DISPLAY_SYMBOLS = displaySymbols();");
+    out.println();
+    out.println("    /** Unit system names. */");
+    out.println("    final static String[] UNIT_SYSTEM_NAMES = unitSystemNames();");
+    out.println();
+    out.println("    /** Preferred unit symbols of each unit system, in the order of UNIT_SYSTEM_NAMES. */");
+    out.println("    final static String[][] UNIT_SYSTEM_UNITS = unitSystemUnits();");
+    out.println();
+    out.println("    /**");
+    out.println("     * Private constructor to prevent client instantiation.");
+    out.println("     */");
+    out.println("    private DisplayTables()");
+    out.println("    {");
+    out.println("      assert false : \"This constructor should never be called\";");
+    out.println("    }");
+
+    writePropertiesMethod(out, "    ", "displaySymbols", snapshot.getDisplaySymbols());
+
+    List<String> unitSystemNames = new ArrayList<>();
+    List<String> unitSystemUnits = new ArrayList<>();
+    for (Map.Entry<String,List<String>> entry : snapshot.getUnitSystems().entrySet()) {
+      unitSystemNames.add(toLiteral(entry.getKey()));
+
+      StringBuilder unitSymbols = new StringBuilder("{");
+      for (String unitSymbol : entry.getValue()) {
+        if (unitSymbols.length() > 1)
+          unitSymbols.append(", ");
+        unitSymbols.append(toLiteral(unitSymbol));
+      }
+      unitSystemUnits.add(unitSymbols.append("}").toString());
+    }
+
+    writeArrayMethod(out, "    ", "String[]", "unitSystemNames", unitSystemNames);
+    writeArrayMethod(out, "    ", "String[][]", "unitSystemUnits", unitSystemUnits);
+
+    out.println("  }");
+    out.println("}");
+  }
+
+  /**
+   * Generate UnitTables.java from the unit dictionary and the property files.
+   *
+   * @param arguments  Path of the Java file to write.
+   */
+  public static void main(String[] arguments)
+  {
+    if (arguments.length != 1) {
+      System.err.println("Usage: java no.geosoft.uom.UnitTableGenerator <UnitTables.java>");
+      System.exit(1);
+    }
+
+    try {
+      UnitSnapshot snapshot = new UnitManager(false).getSnapshot();
+      long checksum = getSourceChecksum();
+
+      try (PrintWriter out = new PrintWriter(new OutputStreamWriter(new FileOutputStream(arguments[0]), StandardCharsets.US_ASCII))) {
+        write(out, snapshot, checksum);
+        if (out.checkError())
+          throw new IOException("Write failed");
+      }
+    }
+    catch (IOException exception) {
+      System.err.println("Unable to write " + arguments[0] + ": " + exception.getMessage());
+      System.exit(1);
+    }
+  }
+}
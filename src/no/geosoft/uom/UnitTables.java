@@ -0,0 +1,1411 @@
+package no.geosoft.uom;
+
+/**
+ * The unit registry as static arrays of constants.
+ * <p>
+ * Generated by UnitTableGenerator from the unit dictionary and the
+ * property files. Do not edit.
+ */
+final class UnitTables
+{
+  /** Checksum of the source resources the tables are generated from. */
+  final static long SOURCE_CHECKSUM = 495228973L;
+
+  /** Marker of units without a specific dimension. */
+  final static long UNKNOWN_DIMENSION = -9223372036854775808L;
+
+  /** Unit names, by unit index. */
+  final static String[] UNIT_NAMES = unitNames();
+
+  /** Unit symbols, by unit index. */
+  final static String[] UNIT_SYMBOLS = unitSymbols();
+
+  /** Conversion coefficients a, b, c, d of each unit, by unit index. */
+  final static double[] UNIT_COEFFICIENTS = unitCoefficients();
+
+  /** Packed dimension exponents, by unit index. UNKNOWN_DIMENSION if none. */
+  final static long[] UNIT_DIMENSIONS = unitDimensions();
+
+  /** Quantity names, in manager order. */
+  final static String[] QUANTITY_NAMES = quantityNames();
+
+  /** Quantity descriptions, in manager order. */
+  final static String[] QUANTITY_DESCRIPTIONS = quantityDescriptions();
+
+  /** Unit indices of each quantity, base unit first, in manager order. */
+  final static int[][] QUANTITY_UNITS = quantityUnits();
+
+  /** Unit aliases as alias/unit symbol pairs. */
+  final static String[][] UNIT_ALIASES = unitAliases();
+
+  /**
+   * Private constructor to prevent client instantiation.
+   */
+  private UnitTables()
+  {
+    assert false : "This constructor should never be called";
+  }
+
+  private static String[] unitNames()
+  {
+    return new String[] {
+      "inverse henry", "per Kelvin", "per degree Celsius", "per degree Fahrenheit", "per degree Rankine",
+      "part per million per degree Celsius", "part per million per degree Fahrenheit",
+      "inches/inch degree Fahrenheit", "metres/metre Kelvin", "millimetres/millimetre degree Kelvin",
+      "per kilogram", "per gram", "per pound", "per metre", "per angstrom", "per centimetre", "per foot",
+      "per inch", "per mile", "per millimetre", "per nanometre", "per yard", "barns/cubic centimetre",
+      "capture unit", "square feet/cubic inch", "square metres/cubic centimetre",
+      "square metres/cubic metre", "capture unit", "per square metre", "per square foot",
+      "per square kilometre", "per square mile", "feet/barrel", "feet/cubic foot", "feet/US gallon",
+      "kilometres/cubic decimetre", "kilometres/litre", "metres/cubic metre", "miles/UK gallon",
+      "miles/US gallon", "per cubic metre", "per barrel", "per cubic foot", "per UK gallon",
+      "per US gallon", "per litre", "per Newton", "per pound force", "per Pascal", "per bar",
+      "per kilopascal", "per pico pascal", "per pounds/square inch", "per micro pounds per square inch",
+      "per second", "per annum", "per day", "per hour", "per minute", "per week", "thousand per second",
+      "flops", "megaflops", "hertz", "cycles/second", "gigahertz", "kilohertz", "megahertz",
+      "millihertz", "microhertz", "barrels/day acre foot", "per Volt", "per microvolt", "ampere",
+      "kiloampere", "milliamp", "megaampere", "nanoampere", "picoampere", "microampere",
+      "amperes metres squared", "amperes/metre", "Ampere/millimetre", "gamma", "oersted",
+      "amperes/square metre", "ampere per square centimeter", "ampere per square foot",
+      "Ampere/square millimetre", "milliampere per square centimeter", "milliampere per square foot",
+      "microampere per square centimeter", "microampere per square inch", "bel", "decibel", "bels/metre",
+      "decibels/foot", "decibels/metre", "decibels/kilometre", "euclid", "bels/octave",
+      "decibels/octave", "bits per second", "baud", "becquerel", "curie", "curie", "gigabecquerel",
+      "megabecquerel", "", "millicurie", "", "nanocurie", "", "picocurie", "terabecquerel", "",
+      "microcurie", "becquerel per kilogram", "picocurie per gram", "byte", "bit", "kilobyte",
+      "megabyte", "coulomb", "Ampere hour", "femtocoulomb", "kilocoulombs", "millicoulomb",
+      "nanocoulomb", "picocoulomb", "microcoulomb", "coulomb metres", "coulomb per kilogram",
+      "coulomb per gram", "coulombs/square metre", "Coulombs/square centimetre",
+      "Coulombs/square millimetre", "millicoulombs/square metre", "coulombs/cubic metre",
+      "Coulombs/cubic centimeter", "Coulombs/cubic millimetre", "candela", "kilocandela",
+      "candelas/square metre", "equivalent", "milliequivalent", "equivalent per kilogram",
+      "milliequivalents/ hectogram", "milliequivalents/ gram", "equivalents per cubic metre",
+      "equivalents/ Liter", "milliequivalents/ cubic centimeter", "percent", "per unit", "centiEuclid",
+      "milliEuclid", "nanoeuclid", "microEuclids", "unitless", "gas unit", "per mille",
+      "parts per ten thousand", "parts per thousand", "parts per million", "grams/kilogram",
+      "kilograms/kilogram", "kilogram per 94 pound sack", "milligrams/kilogram", "weight percent",
+      "weight parts per million", "feet per 100 feet", "feet per feet", "feet/metre", "feet/mile",
+      "metres per thirty metres", "metres/kilometre", "metres/metre", "square inches/square foot",
+      "square inches/square inch", "square metres/square metre", "square millimetres/square millimetre",
+      "Btus/brake-horsepower hour", "watts/kilowatt", "watts/watt", "kilogram force per kilogram force",
+      "pound force per pound force", "feet/inch", "kilometre/ centimetre", "metres/ centimetre",
+      "miles/inch", "thousand cubic feet per barrel", "barrel per hundred barrel", "barrel/acre foot",
+      "barrel/barrel", "barrel per cubic foot", "barrel per thousand cubic feet",
+      "barrel per million cubic feet", "cubic centimeters/ cubic centimetres",
+      "cubic centimetre/cubic metre", "cubic decimetres/cubic metre", "cubic feet/barrel",
+      "cubic feet/cubic foot", "UK gallons/cubic foot", "UK gallons per thousand UK gallons",
+      "UK gallons/1000 barrels", "US gallons per ten barrels", "US gallons/barrels",
+      "US gallons/cubic foot", "US gallons per thousand US gallons", "US gallons/1000 barrels",
+      "1000 std cubic metres/ std cubic metre", "liter per ten barrel", "litres/cubic metre",
+      "million cubic feet per acre-foot", "cubic metres/hectare metre", "cubic metres/cubic metre",
+      "millilitres/UK gallon", "millilitres/US gallon", "milliliter per milliliter",
+      "million barrels/acre foot", "million std cu ft/ stock tank barrel",
+      "thousand std cu ft/ stock tank barrel", "UK pints/1000 barrels", "US pint per ten barrel",
+      "std cubic metres / stock tank barrel", "std cubic metres/ 1000 std cubic metre",
+      "std cubic metres/ std cubic metres", "stock tank barrels/ million std cu ft",
+      "stock tank barrels/ million std cu mts", "stock tank barrels/ 1000 std cu ft",
+      "stock tank barrels/ 1000 std cu metres", "stock tank barrels/ std cu metres", "volume percent",
+      "volume parts per million", "milliseconds/second", "farad", "picrofarads", "microfarads",
+      "farads/metre", "microfarads/metre", "API gamma ray units", "gray", "milligray", "rad", "henry",
+      "millihenries", "nanohenry", "microhenry", "henries/metre", "microhenries/metre", "joule",
+      "decanewton metres", "decinewton metres", "foot pounds force", "thousand foot pounds force",
+      "kilogram force metres", "kilonewton metres", "foot pounds force", "inch pounds force",
+      "pounds mass square feet/second squared", "newton metre", "foot poundal", "US tons force feet",
+      "US tons force miles", "attojoule", "British thermal unit", "calorie", "ch hours", "chus",
+      "CV hours", "exajoule", "ergs", "electron volts", "billions of electron volts", "gigajoule",
+      "gigawatt hour", "horsepower hour", "kilocalories", "kiloelectron volts", "kilojoules",
+      "kilowatt hours", "millions of electron volts", "megajoules", "millijoules", "megawatt hours",
+      "nanojoules", "quads", "tera electron volts", "therms", "terajoules", "terrawatt hours",
+      "microjoules", "joules per delta kelvin", "joules/kilogram", "British thermal units/pound mass",
+      "calories/gram", "calories/kilogram", "calories/pound mass", "ergs/gram", "ergs/kilogram",
+      "foot pounds force/pound mass", "horsepower hours/pound mass", "joules/gram", "kilocalories/gram",
+      "kilocalories/kilogram", "kilojoule/kilogram", "kilowatt hours/kilogram",
+      "foot pounds force/pound mass", "megajoules/kilogram", "megawatt hours/kilogram",
+      "therms/pound mass", "joules/kilogram degree kelvin", "British thermal units/pound mass deg F",
+      "British thermal units/pound mass deg R", "calories/gram degree Kelvin",
+      "joules/gram degree Kelvin", "kilocalories/kilogram degree Celsius",
+      "kilojoules/kilogram degree Kelvin", "kilowatt hours/kilogram degree C", "joules/cubic metre",
+      "British thermal units/barrel", "British thermal units/cubic foot",
+      "British thermal units/U.K. gallon", "British thermal units/U.S. gallon",
+      "calories/cubic centimetre", "calories/milliliter", "calories/cubic millimetre",
+      "ergs/cubic centimetre", "ergs/cubic metre", "foot pounds force/barrel",
+      "foot pounds force/US gallon", "horsepower hours/barrel", "joules/cubic decimetre",
+      "kilocalories/cubic centimetre", "kilocalroies/cubic metre", "kilojoules/cubic decimetre",
+      "kilojoule/cubic metre", "kilowatt hours/decimetre", "kilowatt hours/cubic metres",
+      "foot pounds force/barrel", "megajoules/cubic metre", "megawatt hours/cubic metre",
+      "therms/cubic foot", "therms/UK gallon", "US ton force miles/barrel", "joules/mole",
+      "British thermal units/pound mass mol", "British thermal units/pound mass mol",
+      "kilocalories/mole (gram)", "kilocalories/mole (gram)", "kilojoule/mole (kilogram)",
+      "kilojoule/mole (kilogram)", "megajoules/mole (kilogram)", "megajoules/mole (kilogram)",
+      "joules/mole degree kelvin", "Btus/pound mass mol deg F", "Btus/pound mass mol deg F",
+      "calories/gram mol degree celsius", "calories/gram mol degree celsius",
+      "kilojoules/mole (kilogram) deg K", "kilojoules/mole (kilogram) deg K", "kelvin",
+      "degrees Celsius", "degree Fahrenheit", "degrees Rankine", "change in degrees Celsius",
+      "change in degrees Fahrenheit", "change in degrees Kelvin", "change in degrees Rankine",
+      "kelvin metres squared/watt", "degrees C square metres hours/kilocal",
+      "degrees F square feet hours/Btu", "degrees Kelvin square metres/kilowatt", "degrees kelvin/metre",
+      "degrees Celsius per hundred metre", "degrees Celsius per foot", "degrees Celsius/kilometre",
+      "degrees Celsius/metre", "degrees Fahrenheit/100 feet.", "degrees Fahrenheit/foot",
+      "degrees Fahrenheit/100 feet.", "degrees Fahrenheit per meter", "millidegrees Kelvin/metre",
+      "kelvin per second", "degrees Celsius per hour", "degrees Celsius per minute",
+      "degrees Celsius per second", "degrees Fahrenheit per hour", "degrees Fahrenheit per minute",
+      "degrees Fahrenheit per second", "delta kelvin per watt", "kilogram", "attogram", "carat",
+      "UK hundredweight", "US hundredweight", "gram", "grain", "thousand pounds mass", "pounds mass",
+      "megagram", "milligram", "avoirdupois ounces", "troy ounces", "ounce mass", "sacks", "tonne",
+      "UK tons", "US tons", "micrograms", "meter-kilogram", "foot-pound mass", "kilogram metres/second",
+      "foot pounds mass/second", "kilogram metres squared", "pounds mass square feet", "kilograms/joule",
+      "kilograms/kilowatt hour", "kilograms/megajoule", "pounds mass/horsepower hour",
+      "milligrams/joule", "kilograms/metre", "thousand pounds mass per inch", "pounds mass/foot",
+      "thousand kilograms per inch", "kilogram metres/square centimetre", "kilograms/square metre",
+      "pounds mass per hundred square foot", "pounds mass/square foot", "megagrams/square metre",
+      "US tons/square foot", "kilograms/square metre seconds", "gram feet/cubic centimetre second",
+      "kilopascal seconds/metre", "pounds mass/hour square foot", "pounds mass/second square foot",
+      "megapascal seconds/metre (megarayl)", "kilograms/cubic metre",
+      "ten thousand kilograms per cubic metre", "API gravity", "grams/cubic centimetre",
+      "grams/cubic decimetre", "grams/UK gallon", "grams/US gallon", "grams/litre", "grams/cubic metre",
+      "grains/100 cubic feet", "grains/cubic foot", "grains/100 cubic feet", "grains/US gallon",
+      "kilograms/cubic decimetre", "kilogram per litre", "pounds mass/1000 UK gallons",
+      "pounds mass/1000 US gallons", "pounds mass per 10 barrel", "pounds mass/barrel",
+      "pounds mass/cubic foot", "pounds mass/UK gallon", "pounds mass/1000 UK gallons",
+      "pounds mass/US gallon", "pounds mass/1000 US gallons", "pounds mass/cubic inch",
+      "pounds mass/1000 barrels", "milligrams/cubic decimetre", "milligrams/US gallon",
+      "milligram per litre", "milligrams/cubic metre", "thousand kilograms per cubic metre",
+      "micrograms/cubic centimetre", "kilogram/metre fourth", "grams/centimetre fourth",
+      "kilograms/decimetre fourth", "pounds mass/foot fourth", "pounds mass/UK gallon foot",
+      "pounds mass/US gallon foot", "kilograms/second", "grams/second", "kilogram per day",
+      "kilograms/hour", "kilogram per min", "million pounds mass/year", "pound mass per day",
+      "pounds mass/hour", "pounds mass/minute", "pounds mass/second", "megagrams/year", "megagrams/day",
+      "megagrams/hour", "million pounds mass/year", "tonnes/year", "tonnes/day", "tonnes/hour",
+      "tonnes per minute", "UK tons/year", "UK tons/day", "UK tons/hour", "UK tons/minute",
+      "US tons/year", "US tons/day", "US tons/hour", "US tons/minute", "lumen", "lumen second", "talbot",
+      "lumens/watt", "lux", "footcandles", "kilolux", "lumens/square metre", "lux seconds",
+      "footcandle seconds", "metre", "Angstrom", "Benoit chain (1895 A)", "Benoit chain (1895 B)",
+      "Clarke chain", "Sears chain", "US Survey chain", "centimetre", "decimetre", "fathoms",
+      "femtometer", "foot", "British Foot (Benoit 1895 A)", "British Foot (Benoit 1895 B)",
+      "British Foot 1865", "Imperial Foot", "Gold Coast Foot", "Indian Foot", "Indian Foot, 1937",
+      "Indian Foot, 1962", "Indian Foot, 1975", "Modified American Foot", "Sears Foot", "US Survey Foot",
+      "inch", "tenth of an inch", "16th of an inch", "32nd of an inch", "64th of an inch",
+      "US Survey inch", "kilometre", "British link 1895 A", "British link 1895 B", "Clarke link",
+      "Sears link", "US Survey link", "German legal metre", "mile", "mil, a thousandth of an inch",
+      "U.S. Survey mile", "millimetres", "megameter", "nautical mile", "nanometres", "picometer",
+      "microns", "yards", "Benoits yard (1895 A)", "Benoits yard (1895 B)", "Clarkes yard",
+      "imperial yard", "Indian yard", "Indian yard (1937)", "Indian yard (1962)", "Indian yard (1975)",
+      "Sears yard", "barrels/acre", "cubic meter per square meter", "metres/degree kelvin",
+      "feet/degree Fahrenheit", "metres/second", "centimeter per year", "centimetre/second",
+      "decimeter per second", "feet/day", "feet/hour", "feet/minute", "foot per millisecond",
+      "feet/second", "foot per microsecond", "inches/year", "inches/minute", "inches/second",
+      "thousand feet per hour", "thousand feet per second", "kilometres/hour", "kilometer per second",
+      "knots", "metres/day", "metres/hour", "meter per minute", "metres/millisecond", "miles/hour",
+      "mils/year", "millimetres/year", "millimetres/second", "nanometer per second",
+      "micrometer per second", "cubic feet/min square foot", "cubic feet/second square foot",
+      "UK gallons/hour square foot", "UK gallons/hour square inch", "UK gallons/minute square foot",
+      "US gallons/hour square foot", "US gallons/hour square inch", "US gallons/minute square foot",
+      "cubic metres/second square metre", "metres/second squared", "centimetre/second squared",
+      "feet/second squared", "galileo", "gravity", "milligalileo", "milligravity", "square metres",
+      "acre", "barn", "square centimetre", "square foot", "hectare", "square inches",
+      "square kilometres", "square miles", "U.S. Survey square mile", "square millimetres",
+      "square feet", "square inches", "square miles", "square yards", "square microns", "square yards",
+      "barrel/foot", "barrel/inch", "barrel/mile", "cubic decimetres/100 kilometres",
+      "cubic decimetres/100 kilometres", "cubic decimetres/metre", "cubic feet/foot", "UK gallons/mile",
+      "US gallons/foot", "US gallons/mile", "cubic inches/foot", "litres/100 kilometres",
+      "litres/100 kilometres", "litres/metre", "cubic metres/kilometre", "cubic metres/metre", "darcy",
+      "millidarcy", "square metres/kilogram", "centimetres squared/gram", "square metres/gram",
+      "square metres/mol", "barns/electron", "square metres/second Pascal",
+      "barrels/day foot pounds/sq in", "cubic feet/day foot psi", "square metres/day kiloPascal",
+      "millidarcy sq feet/pound force second", "millidarcy sq inches/pound force second",
+      "millidarcies/centipoise", "millidarcies/Pascal second", "square metres/second",
+      "centimetres squared/second", "centiStoke", "square feet/hour", "square feet/second",
+      "square inches/second", "square metres/hour", "square millimetres/second",
+      "thousand cubic feet per day per foot", "thousand cubic meter per day per meter",
+      "thousand cubic meters per hour per meter", "barrels/day foot", "UK gallons/hour foot",
+      "UK gallons/hour inch", "UK gallons/minute foot", "US gallons/foot hour", "US gallons/hour inch",
+      "US gallons/minute foot", "cubic meter per day per meter", "cubic meter per hour per meter",
+      "cubic meter per second per foot", "cubic metres/second metre", "cubic metres",
+      "thousand cubic feet", "acre foot", "barrel", "billion cubic feet", "cubic centimetre",
+      "cubic feet", "cubic inch", "cubic yard", "cubic mile", "cubic decimetre", "UK fluid ounce",
+      "US fluid ounces", "UK fluid ounce", "US fluid ounces", "cubic feet", "UK gallon", "US gallons",
+      "hectare metres", "hectoliter", "cubic inches", "cubic kilometres", "litre", "million cubic feet",
+      "million cubic meters", "thousand barrels", "thousand cubic feet", "cubic mile", "millilitre",
+      "cubic millimetres", "million barrels", "million cubic feet", "UK pint", "US pints", "UK quarts",
+      "US quarts", "trillion cubic feet", "square micron metres", "cubic yard", "darcy foot",
+      "darcy metre", "millidarcy foot", "millidarcy metres", "cubic metres/joule",
+      "cubic decimetres/kilowatt hour", "cubic decimetres/megajoule", "cubic metres/kilowatt hour",
+      "cubic millimetres/joule", "UK pints/horsepower hour", "cubic metres/kilogram",
+      "barrel per U.K. ton", "barrel per U.S. ton", "cubic centimetres/gram",
+      "cubic decimetres/kilogram", "cubic decimetres/ton", "cubic feet per kilogram",
+      "cubic feet/pound mass", "cubic feet per 94 pound sack", "US gallons/94 lb sack",
+      "UK gallons/pound mass", "US gallons/pound mass", "US gallons/94 lb sack", "US gallons/UK ton",
+      "US gallons/US ton", "liter per hundred kilogram", "liter per kilogram", "litres/tonne",
+      "liter per UK ton", "cubic metres/gram", "cubic metres/tonne", "cubic meters per UK ton",
+      "cubic meters per US ton", "cubic metres/mole", "cubic decimetres/kilogram mole",
+      "cubic decimetres/kilogram mole", "cubic feet/mole (pound mass)", "cubic feet/mole (pound mass)",
+      "litres/mole (gram)", "litres/mole (gram)", "litres/mole (kilogram)", "litres/mole (kilogram)",
+      "cubic metres/mole (kilogram)", "cubic metres/mole (kilogram)", "(cubic metres/second) per pascal",
+      "cubic metres/second pascal", "thousand cubic feet per day per psi",
+      "barrel/day pounds/square inch", "barrel per day per kilopascal", "barrel per day per psi",
+      "litres per minute per bar", "cubic meter per day per bar", "cubic meter per hour per bar",
+      "cubic meter per minute per bar", "cubic metres/day kilopascal",
+      "cubic meter per day per kilopascal", "(cubic metres per hour) per kilopascal",
+      "cubic meter per day per (pound per square inch)", "cubic metres/pascal second squared",
+      "barrels/centiPoise day psi", "cubic metres/centiPoise day kiloPascal",
+      "cubic metres/centiPoise Pascal second", "cubic metres/second", "thousand cubic feet per day",
+      "thousand cubic metres per day", "thousand cubic metres per hour", "barrel/day", "barrel/hour",
+      "barrel per minute", "cubic centimeter per thirty minutes", "cubic centimeter per hour",
+      "cubic centimeter per minute", "cubic centimeter per second", "cubic decimetres/second",
+      "cubic feet/day", "cubic feet/hour", "cubic feet/minute", "cubic feet/second",
+      "UK gallons per day", "UK gallons/hour", "UK gallons/minute", "US gallons per day",
+      "US gallons/hour", "US gallons/minute", "thousand barrels per day", "liter per hour",
+      "liter per minute", "litres/second", "million cubic feet per day", "million cubic metres per day",
+      "cubic metres/day", "cubic metres/hour", "cubic meter per minute", "thousand barrels/day",
+      "cubic metres/seconds squared", "barrels/day per day", "barrels/hour/hour",
+      "cubic decimetres/second/second", "cubic feet/day/day", "cubic feet/hour/hour",
+      "cubic feet/minute/minute", "cubic feet/second/second", "UK gallons/hour/hour",
+      "UK gallons/minute/minute", "US gallons/hour/hour", "US gallons/minute/minute",
+      "litres/second/second", "cubic metres/day/day", "cubic metres/std cubic metres, 15 deg C",
+      "cubic metres/std cubic metres, 0 deg C", "acre feet/million stbs, 60 deg F",
+      "barrels/million std cubic feet, 60 degF", "barrels/stock tank barrel, 60 deg F",
+      "cubic feet/std cubic foot, 60 deg F", "US gals/1000 std cubic feet, 60 deg F", "metres fourth",
+      "centimetres fourth", "inches to the fourth", "metres fourth/second",
+      "thousand (cubic meter per day)-meter", "thousand barrel feet/day", "mole", "kilomole",
+      "cubic metres at std condition (0 deg C)", "cubic metres at std condition (15 deg C)", "millimole",
+      "mole (gram)", "mole (kilogram)", "moles (pounds mass)", "moles (pounds mass)", "micromole",
+      "moles/square metre", "moles/square metre second", "moles (pounds mass)/hour square foot",
+      "moles (pounds mass)/hour square foot", "moles (pounds mass)/second square foot",
+      "moles (pounds mass)/second square foot", "moles/cubic metre", "moles (kilogram)/cubic metre",
+      "moles (kilogram)/cubic metre", "moles (pounds mass)/cubic foot", "moles (pounds mass)/cubic foot",
+      "moles (pounds mass)/UK gallon", "moles (pounds mass)/UK gallon", "moles (pounds mass)/US gallon",
+      "moles (pounds mass)/US gallon", "moles/second", "moles (kilogram)/hour", "moles (kilogram)/hour",
+      "moles (kilogram)/second", "moles (kilogram)/second", "moles (pounds mass)/hour",
+      "moles (pounds mass)/hour", "moles (pounds mass)/second", "moles (pounds mass)/second", "newton",
+      "decanewtons", "dynes", "gram force", "kilkodynes", "kilogram force", "thousand pounds force",
+      "kilonewtons", "pounds force", "thousand kilograms force", "meganewtons", "millinewtons",
+      "ounce force", "poundals", "UK tons force", "US tons force", "micronewtons",
+      "kilograms force metres/metre", "pounds force feet/inch", "pounds force inches/inch",
+      "newton metres/metre", "US tons force miles/foot", "joules/metre", "megajoules/metre",
+      "kilocalorie metres/square centimetre", "newton square metres", "dyne centimetre squared",
+      "kilogram force metres squared", "kilonewton metres squared", "pounds force inches squared",
+      "millinewton metres squared", "poundal centimetre squared", "UK ton feet squared",
+      "US tons force feet squared", "newtons/metre", "dynes/centimetre", "kilograms force/centimetre",
+      "kilonewtons/metre", "pounds force per hundred foot", "pounds force per thirty meters",
+      "pounds force per foot", "pounds force/inch", "millinewtons/kilometre", "millinewtons/metre",
+      "newton per thirty meters", "poundals/centimetre", "UK tons force/foot", "US tons force/foot",
+      "ergs/square centimetre", "joules/square centimetre", "joules/square metre",
+      "kilogram force metres/square centimetre", "foot pounds force/square inch",
+      "millijoules/square centimetre", "millijoules/square metre", "pascals/metre",
+      "newtons/cubic metre", "Atmospheres per ft", "Atmospheres per hundred metre", "Atmospheres/metre",
+      "bar per kilometer", "bar per meter", "gigapascal per centimeter", "kilopascal per hundred meter",
+      "kilopascals/metre", "pounds force/cubic foot", "kilogram force/cubic meters",
+      "gram force/cubic centimeters", "pounds force/US gallon", "megapascal per meter",
+      "pounds/square inch per 100 feet", "pounds/square inch per foot",
+      "pounds/square inch per 100 feet", "pounds/square inch per thousand feet",
+      "pound per square inch per meter", "newtons fourth metres/kilogram",
+      "dynes/centimetre fourth/gram cm cubed", "newton/metre fourth/kilogram metre cubed",
+      "API neutron units", "octave", "ohm", "gigaohm", "kilohm", "megaohm", "milliohm", "nanohm",
+      "teraohm", "microohm", "ohm metre", "kilo ohm metre", "ohm centimetres", "ohm per metre",
+      "microhm per foot", "microhm per meter", "pascal", "Technical atmosphere", "Atmosphere", "bar",
+      "cm of water at 4 degC.", "dynes/square centimetre", "gigapascal", "hectobar",
+      "inches of water at 39.2 deg F", "inches of water at 60 deg F", "inches of mercury at 32 deg F",
+      "inches of mercury at 60 deg F", "kilogram force per square centimeter",
+      "kilogram force per square meter", "gram force per square meter",
+      "gram force per square centimeter", "kilogram force/square millimetre", "kilonewtons/square metre",
+      "kilopascals", "thousand pounds per square inch", "pounds force/100 square foot",
+      "pounds force/square foot", "pounds force/100 square foot", "pounds force/square inch", "millibar",
+      "millimetres of Mercury at 0 deg C", "millipascal", "megapascals", "mega pounds per square inch",
+      "newtons/square metre", "newtons/square millimetre", "pascal gauge", "picopascal",
+      "pounds/square foot", "pounds/square inch", "pounds/square inch absolute",
+      "pounds/square inch gauge", "US tons force/square foot", "US tons force/square inch", "torr",
+      "microbars", "microns of Mercury at 0 deg C", "micropascal", "micropounds/square inch",
+      "UK tons force/square foot", "pascal seconds", "centipoise", "dyne seconds/square centimetre",
+      "kilograms force seconds/square metre", "pounds force seconds/square foot",
+      "pounds force seconds/square inch", "millipascal seconds", "newton seconds/metre squared", "poise",
+      "pound per square inch second", "kilograms/metre second", "pounds mass/foot hour",
+      "pounds mass/foot second", "pounds mass/hour foot", "pounds mass/second foot",
+      "pascal seconds/cubic metre", "pounds per square inch days/barrel",
+      "pascal second /cubic metre squared", "(psi days/cubic foot)squared/centipoise",
+      "(psi days/cubic foot)squared/centipoise", "pascals/cubic metre",
+      "psi squared days/ centipoise cubic foot", "psi squared days/ centipoise cubic foot",
+      "pascal/ second", "atmosphere per hour", "bar per hour", "kilopascal per hour",
+      "kilopascal per min", "megapascal per hour", "pascal per hour", "pound per square inch per hour",
+      "pound per square inch per minute", "bar squared per centipoise",
+      "kilopascal squared per centipoise", "kilopascal squared per thousand centipoise",
+      "pounds/square inch squared/ centipoise", "pascal squared", "bar squared", "gigapascal squared",
+      "kilopascal squared", "thousand pound per square inch, squared", "pound per square inch squared",
+      "pH", "radian", "cycle", "centesimal second", "centesimal minute", "degree of an angle", "gons",
+      "grad", "gigaradian", "kiloradian", "mil_6400", "minutes angular", "milliradian", "megaradian",
+      "milliseconds angular", "seconds angular", "microradian", "radians/metre",
+      "degrees of an angle/100 feet", "degrees of an angle per thirty feet",
+      "degrees of an angle/30 metres", "degrees of an angle/foot", "degrees of an angle/100 feet",
+      "degrees of an angle/metre", "degrees of an angle/30 metres", "radians per foot",
+      "radians per cubic metre", "radians per cubic foot", "radians/second",
+      "degrees of an angle per hour", "degrees of an angle/minute", "degrees of an angle per second",
+      "revolutions/minute", "revolutions/second", "revolutions/minute", "radians/second squared",
+      "revolutions/minute per second", "siemens", "gigasiemens", "kilosiemens", "mhos", "millisiemen",
+      "picosiemens", "microsiemens", "second", "100000 years", "annum", "ten milli second", "day",
+      "gigayears", "hour", "hundred seconds", "megayears", "minutes", "milliseconds",
+      "half a millisecond", "megayears", "nanoseconds", "picosecond", "microsecond", "weeks",
+      "100000 years", "siemens/metre", "mhos/metre", "millimhos/metre", "millisiemens/metre",
+      "seconds/metre", "hour per thousand foot", "hour per kilometer", "minute per foot",
+      "minute per meter", "milliseconds/centimetre", "millisecond per foot", "milliseconds/inch",
+      "millisecond per meter", "nanoseconds/foot", "nanoseconds/metre", "seconds/centimetre",
+      "seconds/foot", "seconds/inch", "microseconds/foot", "microseconds/metre", "seconds/cubic metre",
+      "day per barrel", "days/cubic foot", "day per thousand cubic feet", "days/cubic metre",
+      "hours/cubic foot", "hour per cubic meter", "second per cubic foot", "second per litre",
+      "second per UK quart", "second per US quart", "standard cubic metres at 15 deg Celsius",
+      "standard cubic metres at 0 deg Celsius", "cubic feet at standard conditions",
+      "giga standard cubic metres 15C", "kilo standard cubic metres 15C",
+      "million standard cubic feet at 60 deg F", "million standard cubic metres 15C",
+      "million stock tank barrels 60 deg F", "thousand cubic feet at 60 deg F",
+      "mega standard cubic metres 15C", "thousand stock tank barrels 60 F", "std cubic feet at 60 deg F",
+      "stock tank barrel at 60 deg F", "std cubic metres, 0 deg C/square metre",
+      "std cubic metres, 0 deg C/cubic metre", "million stbs, 60 deg F/acre foot",
+      "std cubic feet at 60 deg F/barrel", "std cubic feet at 60 deg Ft/cubic foot",
+      "stock tank barrels, 60 deg F/barrel", "std cubic metres, 15 deg C/square metre",
+      "million stock tank barrels 60 deg F/acre", "std cubic feet at 60 deg F/square foot",
+      "stock tank barrels, 60 deg F/acre", "std cubic metres, 15 deg C/cubic metre",
+      "std cubic metres, 15 deg C/second", "thousand std cubic metres/ day",
+      "million standard cubic feet/day", "million std cubic metres, 15 degC/day",
+      "million stock tank barrels, 60 deg F/day", "thousand standard cubic feet/day",
+      "thousand std cubic metres, 15 degC/day", "thousand stock tank barrels,60 deg F/day",
+      "standard cubic feet/day", "std cubic metres at 15 deg C/day", "stock tank barrels, 60 deg F/day",
+      "steradian", "sievert", "milli-rem", "millisievert", "rem", "sievert per second",
+      "milli-rems per hour", "millisieverts per hour", "rems per hour", "sieverts per hour", "tesla",
+      "gauss", "milligauss", "milliteslas", "nanoteslas", "microteslas", "volt", "kilovolt", "megavolt",
+      "millivolts", "microvolts", "volts/Bel", "volts/decibel", "volts/metre", "millivolt per foot",
+      "millivolt per meter", "microvolt per foot", "microvolt per meter", "watt", "ch", "cheval vapeur",
+      "electric horsepower", "gigawatt", "hydraulic horsepower", "horsepower", "kilocalories/hour",
+      "kilowatts", "megajoules/year", "megawatts", "milliwatt", "nanowatts", "tons of refrigeration",
+      "terawatts", "microwatts", "million Btus/hour", "British thermal unit/hour",
+      "British thermal units/minute", "British thermal units/second", "exajoules/year", "ergs/year",
+      "foot pounds force/minute", "foot pounds force/second", "million Btus/hour", "quads/year",
+      "terajoules/year", "Watts per delta kelvin", "watts/metre kelvin",
+      "Btus/hour foot squared deg F per inch", "kilojoule metres/hour sq metre deg K",
+      "British thermal units/hour foot deg F", "calories/hour centimetre degree Celsius",
+      "calories/second centimetre deg C", "kilocalories/hour metre degree Celsius", "watts/square metre",
+      "Btus/hour per square foot", "British thermal units/second square foot",
+      "calories/hour centimetre squared", "(hydraulic) horsepower per square inch",
+      "horsepower per square inch", "kilowatts/square centimetre", "kilowatts/square metre",
+      "milliwatts/square metres", "microcalories/second square centimetre", "watts/square centimetre",
+      "watts per square millimeter", "watts/square metre kelvin", "Btus/hour foot squared deg F",
+      "Btus/hour foot squared deg R", "Btus/hour metre squared deg C",
+      "Btus/second per square foot deg F", "calories/hour square centimetre deg C",
+      "calories/second square centimetre deg C", "joules/second square metre deg C",
+      "kilocalorie/hour square metre deg C", "kilojoules/hour square metre deg K",
+      "kilowatts/square metre degree Kelvin", "watts/square metre steradian", "watts/cubic metre",
+      "British thermal units/hour cubic foot", "Btus/second per cubic foot",
+      "calories/hour cubic centimetre", "calories/second cubic centimetre", "horsepower/cubic foot",
+      "kilowatts/cubic metre", "microwatts/cubic metre", "watts/cubic metre kelvin",
+      "Btus/hour foot cubed deg F", "Btus/second per cubic foot deg F",
+      "killowatts/cubic metre degree Kelvin", "watts/steradian", "weber", "milliwebers", "microwebers",
+      "weber metres", "webers/metre", "webers/millimetre",
+    };
+  }
+
+  private static String[] unitSymbols()
+  {
+    return new String[] {
+      "1/H", "1/K", "1/degC", "1/degF", "1/degR", "ppm/degC", "ppm/degF", "in/in.degF", "m/m.K",
+      "mm/mm.K", "1/kg", "1/g", "1/lbm", "1/m", "1/angstrom", "1/cm", "1/ft", "1/in", "1/mi", "1/mm",
+      "1/nm", "1/yd", "b/cm3", "cu", "ft2/in3", "m2/cm3", "m2/m3", "sigma", "1/m2", "1/ft2", "1/km2",
+      "1/mi2", "ft/bbl", "ft/ft3", "ft/galUS", "km/dm3", "km/L", "m/m3", "mi/galUK", "mi/galUS", "1/m3",
+      "1/bbl", "1/ft3", "1/galUK", "1/galUS", "1/L", "1/N", "1/lbf", "1/Pa", "1/bar", "1/kPa", "1/pPa",
+      "1/psi", "1/upsi", "1/s", "1/a", "1/d", "1/h", "1/min", "1/wk", "kEuc/s", "flops", "Mflops", "Hz",
+      "c/s", "GHz", "kHz", "MHz", "mHz", "uHz", "bbl/d.acre.ft", "1/V", "1/uV", "A", "kA", "mA", "MA",
+      "nA", "pA", "uA", "A.m2", "A/m", "A/mm", "gamma", "Oe", "A/m2", "A/cm2", "A/ft2", "A/mm2",
+      "mA/cm2", "mA/ft2", "uA/cm2", "uA/in2", "B", "dB", "B/m", "dB/ft", "dB/m", "dB/km", "Euc", "B/O",
+      "dB/O", "bps", "Bd", "Bq", "Ci", "curie", "GBq", "MBq", "mCi", "mcurie", "nCi", "ncurie", "pCi",
+      "pcurie", "TBq", "uCi", "ucurie", "Bq/kg", "pCi/g", "byte", "bit", "kbyte", "Mbyte", "C", "A.h",
+      "fC", "kC", "mC", "nC", "pC", "uC", "C.m", "C/kg", "C/g", "C/m2", "C/cm2", "C/mm2", "mC/m2",
+      "C/m3", "C/cm3", "C/mm3", "cd", "kcd", "cd/m2", "eq", "meq", "eq/kg", "meq/100g", "meq/g", "eq/m3",
+      "eq/L", "meq/cm3", "%", "pu", "cEuc", "mEuc", "nEuc", "uEuc", "unitless", "gu", "permil", "ppdk",
+      "ppk", "ppm", "g/kg", "kg/kg", "kg/sack94", "mg/kg", "wtpercent", "wtppm", "ft/100ft", "ft/ft",
+      "ft/m", "ft/mi", "m/30m", "m/km", "m/m", "in2/ft2", "in2/in2", "m2/m2", "mm2/mm2", "Btu/bhp.hr",
+      "W/kW", "W/W", "kgf/kgf", "lbf/lbf", "ft/in", "km/cm", "m/cm", "mi/in", "1000ft3/bbl",
+      "bbl/100bbl", "bbl/acre.ft", "bbl/bbl", "bbl/ft3", "bbl/k(ft3)", "bbl/M(ft3)", "cm3/cm3", "cm3/m3",
+      "dm3/m3", "ft3/bbl", "ft3/ft3", "galUK/ft3", "galUK/kgalUK", "galUK/Mbbl", "galUS/10bbl",
+      "galUS/bbl", "galUS/ft3", "galUS/kgalUS", "galUS/Mbbl", "ksm3/sm3", "L/10bbl", "L/m3",
+      "M(ft3)/acre.ft", "m3/ha.m", "m3/m3", "mL/galUK", "mL/galUS", "mL/mL", "MMbbl/acre.ft",
+      "MMscf60/stb60", "Mscf60/stb60", "ptUK/Mbbl", "ptUS/10bbl", "scm15/stb60", "sm3/ksm3", "sm3/sm3",
+      "stb60/MMscf60", "stb60/MMscm15", "stb60/Mscf60", "stb60/Mscm15", "stb60/scm15", "volpercent",
+      "volppm", "ms/s", "F", "pF", "uF", "F/m", "uF/m", "gAPI", "Gy", "mGy", "rd", "H", "mH", "nH", "uH",
+      "H/m", "uH/m", "J", "daN.m", "dN.m", "ft.lbf", "kft.lbf", "kgf.m", "kN.m", "lbf.ft", "lbf.in",
+      "lbm.ft2/s2", "N.m", "pdl.ft", "tonfUS.ft", "tonfUS.mi", "aJ", "Btu", "cal", "ch.h", "Chu", "CV.h",
+      "EJ", "erg", "eV", "GeV", "GJ", "GW.h", "hp.hr", "kcal", "keV", "kJ", "kW.h", "MeV", "MJ", "mJ",
+      "MW.h", "nJ", "quad", "TeV", "therm", "TJ", "TW.h", "uJ", "J/K", "J/kg", "Btu/lbm", "cal/g",
+      "cal/kg", "cal/lbm", "erg/g", "erg/kg", "ft.lbf/lbm", "hp.hr/lbm", "J/g", "kcal/g", "kcal/kg",
+      "kJ/kg", "kW.h/kg", "lbf.ft/lbm", "MJ/kg", "MW.h/kg", "therm/lbm", "J/kg.K", "Btu/lbm.degF",
+      "Btu/lbm.degR", "cal/g.K", "J/g.K", "kcal/kg.degC", "kJ/kg.K", "kW.h/kg.degC", "J/m3", "Btu/bbl",
+      "Btu/ft3", "Btu/galUK", "Btu/galUS", "cal/cm3", "cal/mL", "cal/mm3", "erg/cm3", "erg/m3",
+      "ft.lbf/bbl", "ft.lbf/galUS", "hp.hr/bbl", "J/dm3", "kcal/cm3", "kcal/m3", "kJ/dm3", "kJ/m3",
+      "kW.h/dm3", "kW.h/m3", "lbf.ft/bbl", "MJ/m3", "MW.h/m3", "therm/ft3", "therm/galUK",
+      "tonfUS.mi/bbl", "J/mol", "Btu/lbmole", "Btu/mol(lbm)", "kcal/mol", "kcal/mol(g)", "kJ/kmol",
+      "kJ/mol(kg)", "MJ/kmol", "MJ/mol(kg)", "J/mol.K", "Btu/lbmole.F", "Btu/mol(lbm).F", "cal/mol.degC",
+      "cal/mol(g).degC", "kJ/kmol.K", "kJ/mol(kg).K", "K", "degC", "degF", "degR", "ddegC", "ddegF",
+      "ddegK", "ddegR", "K.m2/W", "degC.m2.h/kcal", "degF.ft2.h/Btu", "K.m2/kW", "K/m", "degC/100m",
+      "degC/ft", "degC/km", "degC/m", "degF/100ft", "degF/ft", "degF/ft(100)", "degF/m", "mK/m", "K/s",
+      "degC/h", "degC/min", "degC/s", "degF/h", "degF/min", "degF/s", "K/W", "kg", "ag", "ct", "cwtUK",
+      "cwtUS", "g", "grain", "klbm", "lbm", "Mg", "mg", "oz(av)", "oz(troy)", "ozm", "sack94", "t",
+      "tonUK", "tonUS", "ug", "kg.m", "ft.lbm", "kg.m/s", "lbm.ft/s", "kg.m2", "lbm.ft2", "kg/J",
+      "kg/kW.h", "kg/MJ", "lbm/hp.h", "mg/J", "kg/m", "klbm/in", "lbm/ft", "Mg/in", "kg.m/cm2", "kg/m2",
+      "lbm/100ft2", "lbm/ft2", "Mg/m2", "tonUS/ft2", "kg/m2.s", "g.ft/cm3.s", "kPa.s/m", "lbm/h.ft2",
+      "lbm/s.ft2", "MPa.s/m", "kg/m3", "10Mg/m3", "dAPI", "g/cm3", "g/dm3", "g/galUK", "g/galUS", "g/L",
+      "g/m3", "grain/100ft3", "grain/ft3", "grain/ft3(100)", "grain/galUS", "kg/dm3", "kg/L",
+      "lbm/1000galUK", "lbm/1000galUS", "lbm/10bbl", "lbm/bbl", "lbm/ft3", "lbm/galUK",
+      "lbm/galUK(1000)", "lbm/galUS", "lbm/galUS(1000)", "lbm/in3", "lbm/Mbbl", "mg/dm3", "mg/galUS",
+      "mg/L", "mg/m3", "Mg/m3", "ug/cm3", "kg/m4", "g/cm4", "kg/dm4", "lbm/ft4", "lbm/galUK.ft",
+      "lbm/galUS.ft", "kg/s", "g/s", "kg/d", "kg/h", "kg/min", "lbm(million)/yr", "lbm/d", "lbm/h",
+      "lbm/min", "lbm/s", "Mg/a", "Mg/d", "Mg/h", "Mlbm/yr", "t/a", "t/d", "t/h", "t/min", "tonUK/a",
+      "tonUK/d", "tonUK/h", "tonUK/min", "tonUS/a", "tonUS/d", "tonUS/h", "tonUS/min", "lm", "lm.s",
+      "talbot", "lm/W", "lx", "footcandle", "klx", "lm/m2", "lx.s", "footcandle.s", "m", "angstrom",
+      "chBnA", "chBnB", "chCla", "chSe", "chUS", "cm", "dm", "fathom", "fm", "ft", "ftBnA", "ftBnB",
+      "ftBr(65)", "ftCla", "ftGC", "ftInd", "ftInd(37)", "ftInd(62)", "ftInd(75)", "ftMA", "ftSe",
+      "ftUS", "in", "in/10", "in/16", "in/32", "in/64", "inUS", "km", "lkBnA", "lkBnB", "lkCla", "lkSe",
+      "lkUS", "mGer", "mi", "mil", "miUS", "mm", "Mm", "nautmi", "nm", "pm", "um", "yd", "ydBnA",
+      "ydBnB", "ydCla", "ydIm", "ydInd", "ydInd(37)", "ydInd(62)", "ydInd(75)", "ydSe", "bbl/acre",
+      "m3/m2", "m/K", "ft/degF", "m/s", "cm/a", "cm/s", "dm/s", "ft/d", "ft/h", "ft/min", "ft/ms",
+      "ft/s", "ft/us", "in/a", "in/min", "in/s", "kft/h", "kft/s", "km/h", "km/s", "knot", "m/d", "m/h",
+      "m/min", "m/ms", "mi/h", "mil/yr", "mm/a", "mm/s", "nm/s", "um/s", "ft3/min.ft2", "ft3/s.ft2",
+      "galUK/hr.ft2", "galUK/hr.in2", "galUK/min.ft2", "galUS/hr.ft2", "galUS/hr.in2", "galUS/min.ft2",
+      "m3/s.m2", "m/s2", "cm/s2", "ft/s2", "Gal", "gn", "mGal", "mgn", "m2", "acre", "b", "cm2", "ft2",
+      "ha", "in2", "km2", "mi2", "miUS2", "mm2", "sq ft", "sq in", "sq mi", "sq yd", "um2", "yd2",
+      "bbl/ft", "bbl/in", "bbl/mi", "dm3/100km", "dm3/km(100)", "dm3/m", "ft3/ft", "galUK/mi",
+      "galUS/ft", "galUS/mi", "in3/ft", "L/100km", "L/km(100)", "L/m", "m3/km", "m3/m", "D", "mD",
+      "m2/kg", "cm2/g", "m2/g", "m2/mol", "b/elec", "m2/Pa.s", "bbl/d.ft.psi", "ft3/d.ft.psi",
+      "m2/d.kPa", "mD.ft2/lbf.s", "mD.in2/lbf.s", "mD/cP", "mD/Pa.s", "m2/s", "cm2/s", "cSt", "ft2/h",
+      "ft2/s", "in2/s", "m2/h", "mm2/s", "1000ft3/d.ft", "1000m3/d.m", "1000m3/h.m", "bbl/d.ft",
+      "galUK/hr.ft", "galUK/hr.in", "galUK/min.ft", "galUS/hr.ft", "galUS/hr.in", "galUS/min.ft",
+      "m3/d.m", "m3/h.m", "m3/s.ft", "m3/s.m", "m3", "1000ft3", "acre.ft", "bbl", "bcf", "cm3", "cu ft",
+      "cu in", "cu yd", "cubem", "dm3", "fl ozUK", "fl ozUS", "flozUK", "flozUS", "ft3", "galUK",
+      "galUS", "ha.m", "hL", "in3", "km3", "L", "M(ft3)", "M(m3)", "Mbbl", "Mcf", "mi3", "mL", "mm3",
+      "MMbbl", "MMcf", "ptUK", "ptUS", "qtUK", "qtUS", "tcf", "um2.m", "yd3", "D.ft", "D.m", "mD.ft",
+      "mD.m", "m3/J", "dm3/kW.h", "dm3/MJ", "m3/kW.h", "mm3/J", "ptUK/hp.hr", "m3/kg", "bbl/tonUK",
+      "bbl/tonUS", "cm3/g", "dm3/kg", "dm3/t", "ft3/kg", "ft3/lbm", "ft3/sack94", "gal/sack",
+      "galUK/lbm", "galUS/lbm", "galUS/sack94", "galUS/tonUK", "galUS/tonUS", "L/100kg", "L/kg", "L/t",
+      "L/tonUK", "m3/g", "m3/t", "m3/tonUK", "m3/tonUS", "m3/mol", "dm3/kmol", "dm3/mol(kg)",
+      "ft3/lbmole", "ft3/mol(lbm)", "L/mol", "L/mol(g)", "L/kmol", "L/mol(kg)", "m3/kmol", "m3/mol(kg)",
+      "m3/Pa/s", "m3/Pa.s", "1000ft3/psi.d", "bbl/d.psi", "bbl/kPa.d", "bbl/psi.d", "L/bar.min",
+      "m3/bar.d", "m3/bar.h", "m3/bar.min", "m3/d.kPa", "m3/kPa.d", "m3/kPa.h", "m3/psi.d", "m3/Pa2.s2",
+      "bbl/cP.d.psi", "m3/cP.d.kPa", "m3/cP.Pa.s", "m3/s", "1000ft3/d", "1000m3/d", "1000m3/h", "bbl/d",
+      "bbl/hr", "bbl/min", "cm3/30min", "cm3/h", "cm3/min", "cm3/s", "dm3/s", "ft3/d", "ft3/h",
+      "ft3/min", "ft3/s", "galUK/d", "galUK/hr", "galUK/min", "galUS/d", "galUS/hr", "galUS/min",
+      "kbbl/d", "L/h", "L/min", "L/s", "M(ft3)/d", "M(m3)/d", "m3/d", "m3/h", "m3/min", "Mbbl/d",
+      "m3/s2", "bbl/d2", "bbl/hr2", "dm3/s2", "ft3/d2", "ft3/h2", "ft3/min2", "ft3/s2", "galUK/hr2",
+      "galUK/min2", "galUS/hr2", "galUS/min2", "L/s2", "m3/d2", "m3/scm(15C)", "m3/scm(0C)",
+      "acre.ft/MMstb", "bbl/MMscf(60F)", "bbl/stb(60F)", "ft3/scf(60F)", "galUS/Mscf(60F)", "m4", "cm4",
+      "in4", "m4/s", "1000m4/d", "Mbbl.ft/d", "mol", "kmol", "m3(std,0C)", "m3(std,15C)", "mmol",
+      "mol(g)", "mol(kg)", "lbmole", "mol(lbm)", "umol", "mol/m2", "mol/m2.s", "mol(lbm)/h.ft2",
+      "lbmole/h.ft2", "lbmole/s.ft2", "mol(lbm)/s.ft2", "mol/m3", "kmol/m3", "mol(kg)/m3", "lbmole/ft3",
+      "mol(lbm)/ft3", "lbmole/galUK", "mol(lbm)/galUK", "lbmole/galUS", "mol(lbm)/galUS", "mol/s",
+      "kmol/h", "mol(kg)/h", "kmol/s", "mol(kg)/s", "lbmole/h", "mol(lbm)/h", "lbmole/s", "mol(lbm)/s",
+      "N", "daN", "dyne", "gf", "kdyne", "kgf", "klbf", "kN", "lbf", "Mgf", "MN", "mN", "ozf", "pdl",
+      "tonfUK", "tonfUS", "uN", "kgf.m/m", "lbf.ft/in", "lbf.in/in", "N.m/m", "tonfUS.mi/ft", "J/m",
+      "MJ/m", "kcal.m/cm2", "N.m2", "dyne.cm2", "kgf.m2", "kN.m2", "lbf.in2", "mN.m2", "pdl.cm2",
+      "tonfUK.ft2", "tonfUS.ft2", "N/m", "dyne/cm", "kgf/cm", "kN/m", "lbf/100ft", "lbf/30m", "lbf/ft",
+      "lbf/in", "mN/km", "mN/m", "N/30m", "pdl/cm", "tonfUK/ft", "tonfUS/ft", "erg/cm2", "J/cm2", "J/m2",
+      "kgf.m/cm2", "lbf.ft/in2", "mJ/cm2", "mJ/m2", "Pa/m", "N/m3", "atm/ft", "atm/hm", "atm/m",
+      "bar/km", "bar/m", "GPa/cm", "kPa/100m", "kPa/m", "lbf/ft3", "kgf/m3", "gf/cm3", "lbf/galUS",
+      "MPa/m", "psi/100ft", "psi/ft", "psi/ft(100)", "psi/kft", "psi/m", "N4/kg.m7", "(dyne/cm)4/gcm3",
+      "(N/m)4/kg.m3", "nAPI", "O", "ohm", "Gohm", "kohm", "Mohm", "mohm", "nohm", "Tohm", "uohm",
+      "ohm.m", "kohm.m", "ohm.cm", "ohm/m", "uohm/ft", "uohm/m", "Pa", "at", "atm", "bar",
+      "cmH2O(4degC)", "dyne/cm2", "GPa", "hbar", "inH2O(39.2F)", "inH2O(60F)", "inHg(32F)", "inHg(60F)",
+      "kgf/cm2", "kgf/m2", "gf/m2", "gf/cm2", "kgf/mm2", "kN/m2", "kPa", "kpsi", "lbf/100ft2", "lbf/ft2",
+      "lbf/ft2(100)", "lbf/in2", "mbar", "mmHg(0C)", "mPa", "MPa", "Mpsi", "N/m2", "N/mm2", "Pa(g)",
+      "pPa", "psf", "psi", "psia", "psig", "tonfUS/ft2", "tonfUS/in2", "torr", "ubar", "umHg(0C)", "uPa",
+      "upsi", "tonfUK/ft2", "Pa.s", "cP", "dyne.s/cm2", "kgf.s/m2", "lbf.s/ft2", "lbf.s/in2", "mPa.s",
+      "N.s/m2", "P", "psi.s", "kg/m.s", "lbm/ft.h", "lbm/ft.s", "lbm/h.ft", "lbm/s.ft", "Pa.s/m3",
+      "psi.d/bbl", "Pa.s/m6", "psi2.d2/cP.ft6", "psi2.d2/cp.ft6", "Pa/m3", "psi2.d/cP.ft3",
+      "psi2.d/cp.ft3", "Pa/s", "atm/h", "bar/h", "kPa/h", "kPa/min", "MPa/h", "Pa/h", "psi/h", "psi/min",
+      "bar2/cP", "kPa2/cP", "kPa2/kcP", "psi2/cP", "Pa2", "bar2", "GPa2", "kPa2", "kpsi2", "psi2", "pH",
+      "rad", "c", "ccgr", "cgr", "dega", "gon", "gr", "Grad", "krad", "mila", "mina", "mrad", "Mrad",
+      "mseca", "seca", "urad", "rad/m", "dega/100ft", "dega/30ft", "dega/30m", "dega/ft", "dega/ft(100)",
+      "dega/m", "dega/m(30)", "rad/ft", "rad/m3", "rad/ft3", "rad/s", "dega/h", "dega/min", "dega/s",
+      "rev/min", "rev/s", "rpm", "rad/s2", "rpm/s", "S", "GS", "kS", "mho", "mS", "pS", "uS", "s",
+      "100ka", "a", "cs", "d", "Ga", "h", "hs", "Ma", "min", "ms", "ms/2", "MY", "ns", "ps", "us", "wk",
+      "yr(100k)", "S/m", "mho/m", "mmho/m", "mS/m", "s/m", "h/kft", "h/km", "min/ft", "min/m", "ms/cm",
+      "ms/ft", "ms/in", "ms/m", "ns/ft", "ns/m", "s/cm", "s/ft", "s/in", "us/ft", "us/m", "s/m3",
+      "d/bbl", "d/ft3", "d/k(ft3)", "d/m3", "h/ft3", "h/m3", "s/ft3", "s/L", "s/qtUK", "s/qtUS",
+      "scm(15C)", "scm(0C)", "ft3(std,60F)", "Gsm3", "ksm3", "MMscf(60F)", "MMscm(15C)", "MMstb(60F)",
+      "Mscf(60F)", "Msm3", "Mstb(60F)", "scf(60F)", "stb(60F)", "scm(0C)/m2", "scm(0C)/m3",
+      "MMstb/acre.ft", "scf(60F)/bbl", "scf(60F)/ft3", "stb(60F)/bbl", "scm(15C)/m2", "MMstb/acre",
+      "scf(60F)/ft2", "stb(60F)/acre", "scm(15C)/m3", "scm(15C)/s", "ksm3/d", "MMscf(60F)/d",
+      "MMscm(15C)/d", "MMstb(60F)/d", "Mscf(60F)/d", "Mscm(15C)/d", "Mstb(60F)/d", "scf(60F)/d",
+      "scm(15C)/d", "stb(60F)/d", "sr", "Sv", "mrem", "mSv", "rem", "Sv/s", "mrem/h", "mSv/h", "rem/h",
+      "Sv/h", "T", "gauss", "mgauss", "mT", "nT", "uT", "V", "kV", "MV", "mV", "uV", "V/B", "V/dB",
+      "V/m", "mV/ft", "mV/m", "uV/ft", "uV/m", "W", "ch", "CV", "ehp", "GW", "hhp", "hp", "kcal/h", "kW",
+      "MJ/a", "MW", "mW", "nW", "ton of refrig", "TW", "uW", "Btu(million)/hr", "Btu/hr", "Btu/min",
+      "Btu/s", "EJ/a", "erg/a", "ft.lbf/min", "ft.lbf/s", "MBtu/hr", "quad/yr", "TJ/a", "W/K", "W/m.K",
+      "Btu.in/hr.ft2.F", "kJ.m/h.m2.K", "Btu/hr.ft.degF", "cal/h.cm.degC", "cal/s.cm.degC",
+      "kcal/h.m.degC", "W/m2", "Btu/hr.ft2", "Btu/s.ft2", "cal/h.cm2", "hhp/in2", "hp/in2", "kW/cm2",
+      "kW/m2", "mW/m2", "ucal/s.cm2", "W/cm2", "W/mm2", "W/m2.K", "Btu/hr.ft2.degF", "Btu/hr.ft2.degR",
+      "Btu/hr.m2.degC", "Btu/s.ft2.degF", "cal/h.cm2.degC", "cal/s.cm2.degC", "J/s.m2.degC",
+      "kcal/h.m2.degC", "kJ/h.m2.K", "kW/m2.K", "W/m2.sr", "W/m3", "Btu/hr.ft3", "Btu/s.ft3",
+      "cal/h.cm3", "cal/s.cm3", "hp/ft3", "kW/m3", "uW/m3", "W/m3.K", "Btu/hr.ft3.degF",
+      "Btu/s.ft3.degF", "kW/m3.K", "W/sr", "Wb", "mWb", "uWb", "Wb.m", "Wb/m", "Wb/mm",
+    };
+  }
+
+  private static double[] unitCoefficients()
+  {
+    return new double[] {
+      1.0, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 1.8, 0.0, 0.0, 1.0, 1.8, 0.0, 0.0, 1.0,
+      1.0E-6, 0.0, 0.0, 1.0, 1.8E-6, 0.0, 0.0, 1.0, 1.8, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 1.0, 0.0,
+      0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 1000.0, 0.0, 0.0, 1.0, 2.2046224760379585, 0.0, 0.0, 1.0, 1.0, 0.0,
+      0.0, 1.0, 1.0E10, 0.0, 0.0, 1.0, 100.0, 0.0, 0.0, 1.0, 3.280839895013123, 0.0, 0.0, 1.0,
+      39.37007874015748, 0.0, 0.0, 1.0, 6.213711922373339E-4, 0.0, 0.0, 1.0, 1000.0, 0.0, 0.0, 1.0,
+      1.0E9, 0.0, 0.0, 1.0, 1.0936132983377078, 0.0, 0.0, 1.0, 1.0E34, 0.0, 0.0, 1.0, 0.1, 0.0, 0.0, 1.0,
+      5669.291, 0.0, 0.0, 1.0, 1000000.0, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 0.1, 0.0, 0.0, 1.0, 1.0,
+      0.0, 0.0, 1.0, 10.763910416709722, 0.0, 0.0, 1.0, 1.0E-6, 0.0, 0.0, 1.0, 3.86102158592535E-7, 0.0,
+      0.0, 1.0, 1.917134, 0.0, 0.0, 1.0, 10.76391, 0.0, 0.0, 1.0, 80.51964, 0.0, 0.0, 1.0, 1000000.0,
+      0.0, 0.0, 1.0, 1000000.0, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 354006.0341937647, 0.0, 0.0, 1.0,
+      425143.68317107885, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 6.28981056977507, 0.0, 0.0, 1.0,
+      35.31466247128476, 0.0, 0.0, 1.0, 219.25401015584572, 0.0, 0.0, 1.0, 264.1720372841846, 0.0, 0.0,
+      1.0, 1000.0, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 0.22480892365533914, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0,
+      1.0, 1.0E-6, 0.0, 0.0, 1.0, 0.001, 0.0, 0.0, 1.0, 1.0E12, 0.0, 0.0, 1.0, 1.4503774389728312E-4,
+      0.0, 0.0, 1.0, 145.03774389728312, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 3.168753554945395E-8, 0.0,
+      0.0, 1.0, 1.1574074074074073E-5, 0.0, 0.0, 1.0, 2.777777777777778E-4, 0.0, 0.0, 1.0,
+      0.016666666666666666, 0.0, 0.0, 1.0, 1.6534391534391535E-6, 0.0, 0.0, 1.0, 1000.0, 0.0, 0.0, 1.0,
+      1.0, 0.0, 0.0, 1.0, 1000000.0, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 6.283185307, 0.0, 0.0, 1.0,
+      6.283185307E9, 0.0, 0.0, 1.0, 6283.185307, 0.0, 0.0, 1.0, 6283185.307, 0.0, 0.0, 1.0,
+      0.006283185307, 0.0, 0.0, 1.0, 6.283185307E-6, 0.0, 0.0, 1.0, 1.4918096392675662E-9, 0.0, 0.0, 1.0,
+      1.0, 0.0, 0.0, 1.0, 1000000.0, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 1000.0, 0.0, 0.0, 1.0, 0.001,
+      0.0, 0.0, 1.0, 1000000.0, 0.0, 0.0, 1.0, 1.0E-9, 0.0, 0.0, 1.0, 1.0E-12, 0.0, 0.0, 1.0, 1.0E-6,
+      0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 1000.0, 0.0, 0.0, 1.0, 7.957747E-4, 0.0,
+      0.0, 1.0, 79.57747, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 10000.0, 0.0, 0.0, 1.0, 10.763910416709722,
+      0.0, 0.0, 1.0, 1000000.0, 0.0, 0.0, 1.0, 10.0, 0.0, 0.0, 1.0, 0.010763910416709722, 0.0, 0.0, 1.0,
+      0.01, 0.0, 0.0, 1.0, 0.0015500031000062, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 0.1, 0.0, 0.0, 1.0,
+      1.0, 0.0, 0.0, 1.0, 0.32808398950131235, 0.0, 0.0, 1.0, 0.1, 0.0, 0.0, 1.0, 1.0E-4, 0.0, 0.0, 1.0,
+      1.0, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 0.1, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0,
+      1.0, 0.0, 0.0, 1.0, 3.7E10, 0.0, 0.0, 1.0, 3.7E10, 0.0, 0.0, 1.0, 1.0E9, 0.0, 0.0, 1.0, 1000000.0,
+      0.0, 0.0, 1.0, 3.7E7, 0.0, 0.0, 1.0, 37000.0, 0.0, 0.0, 1.0, 37.0, 0.0, 0.0, 1.0, 37.0, 0.0, 0.0,
+      1.0, 0.037, 0.0, 0.0, 1.0, 0.037, 0.0, 0.0, 1.0, 1.0E12, 0.0, 0.0, 1.0, 37000.0, 0.0, 0.0, 1.0,
+      37000.0, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 37.0, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 0.125, 0.0,
+      0.0, 1.0, 1024.0, 0.0, 0.0, 1.0, 1048576.0, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 3600.0, 0.0, 0.0,
+      1.0, 1.0E-15, 0.0, 0.0, 1.0, 1000.0, 0.0, 0.0, 1.0, 0.001, 0.0, 0.0, 1.0, 1.0E-9, 0.0, 0.0, 1.0,
+      1.0E-12, 0.0, 0.0, 1.0, 1.0E-6, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 1000.0, 0.0,
+      0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 10000.0, 0.0, 0.0, 1.0, 1000000.0, 0.0, 0.0, 1.0, 0.001, 0.0, 0.0,
+      1.0, 1.0, 0.0, 0.0, 1.0, 1000000.0, 0.0, 0.0, 1.0, 9.999999999999999E8, 0.0, 0.0, 1.0, 1.0, 0.0,
+      0.0, 1.0, 1000.0, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 0.001, 0.0, 0.0, 1.0, 1.0,
+      0.0, 0.0, 1.0, 100.0, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 1000.0, 0.0, 0.0, 1.0,
+      1000.0, 0.0, 0.0, 1.0, 0.01, 0.0, 0.0, 1.0, 0.01, 0.0, 0.0, 1.0, 0.01, 0.0, 0.0, 1.0, 0.001, 0.0,
+      0.0, 1.0, 1.0E-9, 0.0, 0.0, 1.0, 1.0E-6, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0,
+      0.001, 0.0, 0.0, 1.0, 1.0E-4, 0.0, 0.0, 1.0, 0.001, 0.0, 0.0, 1.0, 1.0E-6, 0.0, 0.0, 1.0, 0.001,
+      0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 0.023453428175869755, 0.0, 0.0, 1.0, 1.0E-6, 0.0, 0.0, 1.0,
+      0.01, 0.0, 0.0, 1.0, 1.0E-6, 0.0, 0.0, 1.0, 0.01, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 0.3048, 0.0,
+      0.0, 1.0, 1.893939393939394E-4, 0.0, 0.0, 1.0, 0.03333333333333333, 0.0, 0.0, 1.0, 0.001, 0.0, 0.0,
+      1.0, 1.0, 0.0, 0.0, 1.0, 0.006944444444444444, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0,
+      1.0, 1.0, 0.0, 0.0, 1.0, 3.930148E-4, 0.0, 0.0, 1.0, 0.001, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 1.0,
+      0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 12.0, 0.0, 0.0, 1.0, 100000.0, 0.0, 0.0, 1.0, 100.0, 0.0, 0.0,
+      1.0, 63360.0, 0.0, 0.0, 1.0, 178.10760099706079, 0.0, 0.0, 1.0, 0.01, 0.0, 0.0, 1.0,
+      1.288923533164868E-4, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 5.614582836720892, 0.0, 0.0, 1.0,
+      0.005614582836720892, 0.0, 0.0, 1.0, 5.614582836720892E-6, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0,
+      1.0E-6, 0.0, 0.0, 1.0, 0.001, 0.0, 0.0, 1.0, 0.1781076224327352, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0,
+      0.1605437, 0.0, 0.0, 1.0, 0.001, 0.0, 0.0, 1.0, 2.859406E-5, 0.0, 0.0, 1.0, 0.002380952381, 0.0,
+      0.0, 1.0, 0.02380952381, 0.0, 0.0, 1.0, 0.1336806, 0.0, 0.0, 1.0, 0.001, 0.0, 0.0, 1.0,
+      2.380952E-5, 0.0, 0.0, 1.0, 1000.0, 0.0, 0.0, 1.0, 6.289810569775069E-4, 0.0, 0.0, 1.0, 0.001, 0.0,
+      0.0, 1.0, 22.95684113865932, 0.0, 0.0, 1.0, 1.0E-4, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 2.199692E-4,
+      0.0, 0.0, 1.0, 2.64172E-4, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 128.8923533164868, 0.0, 0.0, 1.0,
+      177764.87178535643, 0.0, 0.0, 1.0, 177.76487178535646, 0.0, 0.0, 1.0, 3.574257189096236E-6, 0.0,
+      0.0, 1.0, 29.761905510691737, 0.0, 0.0, 1.0, 6.28981056977507, 0.0, 0.0, 1.0, 0.001, 0.0, 0.0, 1.0,
+      1.0, 0.0, 0.0, 1.0, 5.625408383313536E-6, 0.0, 0.0, 1.0, 1.589873E-7, 0.0, 0.0, 1.0,
+      0.005625408383313536, 0.0, 0.0, 1.0, 1.589873E-4, 0.0, 0.0, 1.0, 0.1589873, 0.0, 0.0, 1.0, 0.01,
+      0.0, 0.0, 1.0, 1.0E-6, 0.0, 0.0, 1.0, 0.001, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 1.0E-12, 0.0, 0.0,
+      1.0, 1.0E-6, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 1.0E-6, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 1.0,
+      0.0, 0.0, 1.0, 0.001, 0.0, 0.0, 1.0, 0.01, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 0.001, 0.0, 0.0, 1.0,
+      1.0E-9, 0.0, 0.0, 1.0, 1.0E-6, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 1.0E-6, 0.0, 0.0, 1.0, 1.0, 0.0,
+      0.0, 1.0, 10.0, 0.0, 0.0, 1.0, 0.1, 0.0, 0.0, 1.0, 1.355818, 0.0, 0.0, 1.0, 1355.818, 0.0, 0.0,
+      1.0, 9.80665, 0.0, 0.0, 1.0, 1000.0, 0.0, 0.0, 1.0, 1.355818, 0.0, 0.0, 1.0, 0.1129848, 0.0, 0.0,
+      1.0, 0.04214011, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 0.04214012, 0.0, 0.0, 1.0, 2711.636, 0.0, 0.0,
+      1.0, 1.431744E7, 0.0, 0.0, 1.0, 1.0E-18, 0.0, 0.0, 1.0, 1055.056, 0.0, 0.0, 1.0, 4.184, 0.0, 0.0,
+      1.0, 2647796.0, 0.0, 0.0, 1.0, 1899.101, 0.0, 0.0, 1.0, 2647796.0, 0.0, 0.0, 1.0, 1.0E18, 0.0, 0.0,
+      1.0, 1.0E-7, 0.0, 0.0, 1.0, 1.602177E-19, 0.0, 0.0, 1.0, 1.60219E-10, 0.0, 0.0, 1.0, 1.0E9, 0.0,
+      0.0, 1.0, 3.6E12, 0.0, 0.0, 1.0, 2684520.0, 0.0, 0.0, 1.0, 4184.0, 0.0, 0.0, 1.0, 1.60217733E-16,
+      0.0, 0.0, 1.0, 1000.0, 0.0, 0.0, 1.0, 3600000.0, 0.0, 0.0, 1.0, 1.60219E-13, 0.0, 0.0, 1.0,
+      1000000.0, 0.0, 0.0, 1.0, 0.001, 0.0, 0.0, 1.0, 3.6E9, 0.0, 0.0, 1.0, 1.0E-9, 0.0, 0.0, 1.0,
+      1.055056E18, 0.0, 0.0, 1.0, 1.602177E-7, 0.0, 0.0, 1.0, 1.055056E8, 0.0, 0.0, 1.0, 1.0E12, 0.0,
+      0.0, 1.0, 3.6E15, 0.0, 0.0, 1.0, 1.0E-6, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0,
+      2326.0, 0.0, 0.0, 1.0, 4184.0, 0.0, 0.0, 1.0, 4.184, 0.0, 0.0, 1.0, 9.224141, 0.0, 0.0, 1.0,
+      1.0E-4, 0.0, 0.0, 1.0, 1.0E-7, 0.0, 0.0, 1.0, 2.9890668362168324, 0.0, 0.0, 1.0, 5918353.12937342,
+      0.0, 0.0, 1.0, 1000.0, 0.0, 0.0, 1.0, 4184000.0, 0.0, 0.0, 1.0, 4184.0, 0.0, 0.0, 1.0, 1000.0, 0.0,
+      0.0, 1.0, 3600000.0, 0.0, 0.0, 1.0, 2.9890668362168324, 0.0, 0.0, 1.0, 1000000.0, 0.0, 0.0, 1.0,
+      3.6E9, 0.0, 0.0, 1.0, 2.326000171078704E8, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 4186.8, 0.0, 0.0,
+      1.0, 4186.8, 0.0, 0.0, 1.0, 4184.0, 0.0, 0.0, 1.0, 1000.0, 0.0, 0.0, 1.0, 4184.0, 0.0, 0.0, 1.0,
+      1000.0, 0.0, 0.0, 1.0, 3600000.0, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 6636.102380504607, 0.0, 0.0,
+      1.0, 37258.95, 0.0, 0.0, 1.0, 232080.0, 0.0, 0.0, 1.0, 278716.3, 0.0, 0.0, 1.0, 4184000.0000000005,
+      0.0, 0.0, 1.0, 4184000.0, 0.0, 0.0, 1.0, 4.184E9, 0.0, 0.0, 1.0, 0.1, 0.0, 0.0, 1.0, 1.0E-7, 0.0,
+      0.0, 1.0, 8.527838387091295, 0.0, 0.0, 1.0, 358.1692, 0.0, 0.0, 1.0, 1.6885122270772573E7, 0.0,
+      0.0, 1.0, 1000.0, 0.0, 0.0, 1.0, 4.184E9, 0.0, 0.0, 1.0, 4184.0, 0.0, 0.0, 1.0, 1000000.0, 0.0,
+      0.0, 1.0, 1000.0, 0.0, 0.0, 1.0, 3.6E9, 0.0, 0.0, 1.0, 3600000.0, 0.0, 0.0, 1.0, 8.527838387091295,
+      0.0, 0.0, 1.0, 1000000.0, 0.0, 0.0, 1.0, 3.6E9, 0.0, 0.0, 1.0, 3.725894652830382E9, 0.0, 0.0, 1.0,
+      2.3208E10, 0.0, 0.0, 1.0, 9.005398544412038E7, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 2.326, 0.0, 0.0,
+      1.0, 2326.0, 0.0, 0.0, 1.0, 4184.0, 0.0, 0.0, 1.0, 4184000.0, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0,
+      1000.0, 0.0, 0.0, 1.0, 1000.0, 0.0, 0.0, 1.0, 1000000.0, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 4.1868,
+      0.0, 0.0, 1.0, 4186.8, 0.0, 0.0, 1.0, 4.184, 0.0, 0.0, 1.0, 4184.0, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0,
+      1.0, 1000.0, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 1.0, 273.15, 0.0, 1.0, 5.0, 2298.35, 0.0, 9.0,
+      0.5555555555555556, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 0.5555555555555556, 0.0, 0.0, 1.0, 1.0, 0.0,
+      0.0, 1.0, 0.5555555555555556, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 0.8604208, 0.0, 0.0, 1.0,
+      0.1761102, 0.0, 0.0, 1.0, 0.001, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 0.01, 0.0, 0.0, 1.0,
+      3.280839895013123, 0.0, 0.0, 1.0, 0.001, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 0.01822689, 0.0, 0.0,
+      1.0, 1.822689, 0.0, 0.0, 1.0, 0.01822689, 0.0, 0.0, 1.0, 0.5555555555555556, 0.0, 0.0, 1.0, 0.001,
+      0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 2.777777777777778E-4, 0.0, 0.0, 1.0, 0.016666666666666666, 0.0,
+      0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 1.5432098765432098E-4, 0.0, 0.0, 1.0, 0.009259259259259259, 0.0, 0.0,
+      1.0, 0.5555555555555556, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 1.0E-21, 0.0, 0.0,
+      1.0, 2.0E-4, 0.0, 0.0, 1.0, 50.80235, 0.0, 0.0, 1.0, 45.35924, 0.0, 0.0, 1.0, 0.001, 0.0, 0.0, 1.0,
+      6.479891E-5, 0.0, 0.0, 1.0, 453.5924, 0.0, 0.0, 1.0, 0.4535924, 0.0, 0.0, 1.0, 1000.0, 0.0, 0.0,
+      1.0, 1.0E-6, 0.0, 0.0, 1.0, 0.02834952, 0.0, 0.0, 1.0, 0.03110348, 0.0, 0.0, 1.0, 0.028349525, 0.0,
+      0.0, 1.0, 42.63769, 0.0, 0.0, 1.0, 1000.0, 0.0, 0.0, 1.0, 1016.047, 0.0, 0.0, 1.0, 907.1847, 0.0,
+      0.0, 1.0, 1.0E-9, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 0.1382549, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0,
+      0.138255, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 0.04214011, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0,
+      2.7777777777777776E-7, 0.0, 0.0, 1.0, 1.0E-6, 0.0, 0.0, 1.0, 1.689659E-7, 0.0, 0.0, 1.0, 1.0E-6,
+      0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 17857.96850393701, 0.0, 0.0, 1.0, 1.4881640419947506, 0.0, 0.0,
+      1.0, 39370.078740157485, 0.0, 0.0, 1.0, 10000.0, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 0.04882428,
+      0.0, 0.0, 1.0, 4.882428, 0.0, 0.0, 1.0, 1000.0, 0.0, 0.0, 1.0, 9764.855, 0.0, 0.0, 1.0, 1.0, 0.0,
+      0.0, 1.0, 304.8, 0.0, 0.0, 1.0, 1000.0, 0.0, 0.0, 1.0, 0.00135623, 0.0, 0.0, 1.0, 4.882428, 0.0,
+      0.0, 1.0, 1000000.0, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 10000.0, 0.0, 0.0, 1.0, 0.0, 141500.0, 1.0,
+      131.5, 1000.0, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 0.2199692, 0.0, 0.0, 1.0, 0.264172, 0.0, 0.0,
+      1.0, 1.0, 0.0, 0.0, 1.0, 0.001, 0.0, 0.0, 1.0, 2.288352E-5, 0.0, 0.0, 1.0, 0.002288352, 0.0, 0.0,
+      1.0, 2.288352E-5, 0.0, 0.0, 1.0, 0.01711806, 0.0, 0.0, 1.0, 1000.0, 0.0, 0.0, 1.0, 1000.0, 0.0,
+      0.0, 1.0, 0.09977633, 0.0, 0.0, 1.0, 0.11982640000000001, 0.0, 0.0, 1.0, 0.28530102718896416, 0.0,
+      0.0, 1.0, 2.8530102718896417, 0.0, 0.0, 1.0, 16.01846, 0.0, 0.0, 1.0, 99.77633, 0.0, 0.0, 1.0,
+      0.09977633, 0.0, 0.0, 1.0, 119.8264, 0.0, 0.0, 1.0, 0.11982640000000001, 0.0, 0.0, 1.0,
+      27679.906540915446, 0.0, 0.0, 1.0, 0.00285301, 0.0, 0.0, 1.0, 0.001, 0.0, 0.0, 1.0, 2.64172E-4,
+      0.0, 0.0, 1.0, 0.001, 0.0, 0.0, 1.0, 1.0E-6, 0.0, 0.0, 1.0, 1000000.0, 0.0, 0.0, 1.0, 0.001, 0.0,
+      0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 100000.0, 0.0, 0.0, 1.0, 10000.0, 0.0, 0.0, 1.0, 52.55400262467192,
+      0.0, 0.0, 1.0, 327.35016404199473, 0.0, 0.0, 1.0, 393.13123359580055, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0,
+      1.0, 0.001, 0.0, 0.0, 1.0, 1.1574074074074073E-5, 0.0, 0.0, 1.0, 2.777777777777778E-4, 0.0, 0.0,
+      1.0, 0.016666666666666666, 0.0, 0.0, 1.0, 0.014373225299962135, 0.0, 0.0, 1.0,
+      5.249912037037037E-6, 0.0, 0.0, 1.0, 1.2599788888888888E-4, 0.0, 0.0, 1.0, 0.007559873333333333,
+      0.0, 0.0, 1.0, 0.4535924, 0.0, 0.0, 1.0, 3.168753554945394E-5, 0.0, 0.0, 1.0, 0.011574074074074073,
+      0.0, 0.0, 1.0, 0.2777777777777778, 0.0, 0.0, 1.0, 0.014373225299962135, 0.0, 0.0, 1.0,
+      3.168753554945394E-5, 0.0, 0.0, 1.0, 0.011574074074074073, 0.0, 0.0, 1.0, 0.2777777777777778, 0.0,
+      0.0, 1.0, 16.666666666666668, 0.0, 0.0, 1.0, 3.2196025432416035E-5, 0.0, 0.0, 1.0,
+      0.01175980324074074, 0.0, 0.0, 1.0, 0.2822352777777778, 0.0, 0.0, 1.0, 16.934116666666668, 0.0,
+      0.0, 1.0, 2.8746447431170712E-5, 0.0, 0.0, 1.0, 0.010499822916666667, 0.0, 0.0, 1.0, 0.25199575,
+      0.0, 0.0, 1.0, 15.119745, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0,
+      1.0, 1.0, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 10.76391, 0.0, 0.0, 1.0, 1000.0, 0.0, 0.0, 1.0, 1.0,
+      0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 10.76391, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 1.0E-10, 0.0, 0.0,
+      1.0, 20.1167824, 0.0, 0.0, 1.0, 20.116782494375872, 0.0, 0.0, 1.0, 20.11661949, 0.0, 0.0, 1.0,
+      20.116765121552632, 0.0, 0.0, 1.0, 20.11684023368047, 0.0, 0.0, 1.0, 0.01, 0.0, 0.0, 1.0, 0.1, 0.0,
+      0.0, 1.0, 1.8288, 0.0, 0.0, 1.0, 1.0E-15, 0.0, 0.0, 1.0, 0.3048, 0.0, 0.0, 1.0, 0.3047997333333333,
+      0.0, 0.0, 1.0, 0.30479973476327077, 0.0, 0.0, 1.0, 0.30480083333333335, 0.0, 0.0, 1.0, 0.304797265,
+      0.0, 0.0, 1.0, 0.3047997101815088, 0.0, 0.0, 1.0, 0.30479951024814694, 0.0, 0.0, 1.0, 0.30479841,
+      0.0, 0.0, 1.0, 0.3047996, 0.0, 0.0, 1.0, 0.3047995, 0.0, 0.0, 1.0, 0.304812253, 0.0, 0.0, 1.0,
+      0.3047994715386762, 0.0, 0.0, 1.0, 0.30480060960121924, 0.0, 0.0, 1.0, 0.0254, 0.0, 0.0, 1.0,
+      0.00254, 0.0, 0.0, 1.0, 0.0015875, 0.0, 0.0, 1.0, 7.9375E-4, 0.0, 0.0, 1.0, 3.96875E-4, 0.0, 0.0,
+      1.0, 0.025400050800101603, 0.0, 0.0, 1.0, 1000.0, 0.0, 0.0, 1.0, 0.201167824, 0.0, 0.0, 1.0,
+      0.2011678249437587, 0.0, 0.0, 1.0, 0.20116619497596572, 0.0, 0.0, 1.0, 0.2011676512155263, 0.0,
+      0.0, 1.0, 0.2011684023368047, 0.0, 0.0, 1.0, 1.000014, 0.0, 0.0, 1.0, 1609.344, 0.0, 0.0, 1.0,
+      2.54E-5, 0.0, 0.0, 1.0, 1609.347, 0.0, 0.0, 1.0, 0.001, 0.0, 0.0, 1.0, 1000000.0, 0.0, 0.0, 1.0,
+      1852.0, 0.0, 0.0, 1.0, 1.0E-9, 0.0, 0.0, 1.0, 1.0E-12, 0.0, 0.0, 1.0, 1.0E-6, 0.0, 0.0, 1.0,
+      0.9144, 0.0, 0.0, 1.0, 0.9143992, 0.0, 0.0, 1.0, 0.9143992042898124, 0.0, 0.0, 1.0, 0.914391795,
+      0.0, 0.0, 1.0, 0.914391795, 0.0, 0.0, 1.0, 0.9143985307444408, 0.0, 0.0, 1.0, 0.91439523, 0.0, 0.0,
+      1.0, 0.9143988, 0.0, 0.0, 1.0, 0.9143985, 0.0, 0.0, 1.0, 0.9143984146160287, 0.0, 0.0, 1.0,
+      3.9286398234293635E-5, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 0.54864, 0.0, 0.0,
+      1.0, 1.0, 0.0, 0.0, 1.0, 3.168753554945395E-10, 0.0, 0.0, 1.0, 0.01, 0.0, 0.0, 1.0, 0.1, 0.0, 0.0,
+      1.0, 3.527777777777778E-6, 0.0, 0.0, 1.0, 8.466666666666667E-5, 0.0, 0.0, 1.0, 0.00508, 0.0, 0.0,
+      1.0, 304.8, 0.0, 0.0, 1.0, 0.3048, 0.0, 0.0, 1.0, 304800.0, 0.0, 0.0, 1.0, 8.048634029561302E-10,
+      0.0, 0.0, 1.0, 4.2333333333333334E-4, 0.0, 0.0, 1.0, 0.0254, 0.0, 0.0, 1.0, 0.08466666666666667,
+      0.0, 0.0, 1.0, 304.8, 0.0, 0.0, 1.0, 0.2777777777777778, 0.0, 0.0, 1.0, 1000.0, 0.0, 0.0, 1.0,
+      0.5144444444444445, 0.0, 0.0, 1.0, 1.1574074074074073E-5, 0.0, 0.0, 1.0, 2.777777777777778E-4, 0.0,
+      0.0, 1.0, 0.016666666666666666, 0.0, 0.0, 1.0, 1000.0, 0.0, 0.0, 1.0, 0.44704, 0.0, 0.0, 1.0,
+      8.048634029561303E-13, 0.0, 0.0, 1.0, 3.168753554945395E-11, 0.0, 0.0, 1.0, 0.001, 0.0, 0.0, 1.0,
+      1.0E-9, 0.0, 0.0, 1.0, 1.0E-6, 0.0, 0.0, 1.0, 0.00508, 0.0, 0.0, 1.0, 0.3048, 0.0, 0.0, 1.0,
+      1.35927E-5, 0.0, 0.0, 1.0, 0.001957349, 0.0, 0.0, 1.0, 8.155621E-4, 0.0, 0.0, 1.0, 1.131829E-5,
+      0.0, 0.0, 1.0, 0.001629833, 0.0, 0.0, 1.0, 6.790972E-4, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 1.0,
+      0.0, 0.0, 1.0, 0.01, 0.0, 0.0, 1.0, 0.3048, 0.0, 0.0, 1.0, 0.01, 0.0, 0.0, 1.0, 9.80665, 0.0, 0.0,
+      1.0, 1.0E-5, 0.0, 0.0, 1.0, 0.00980665, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 4046.873, 0.0, 0.0, 1.0,
+      1.0E28, 0.0, 0.0, 1.0, 1.0E-4, 0.0, 0.0, 1.0, 0.09290304, 0.0, 0.0, 1.0, 10000.0, 0.0, 0.0, 1.0,
+      6.4516E-4, 0.0, 0.0, 1.0, 1000000.0, 0.0, 0.0, 1.0, 2589988.0, 0.0, 0.0, 1.0, 2589998.0, 0.0, 0.0,
+      1.0, 1.0E-6, 0.0, 0.0, 1.0, 0.09290304, 0.0, 0.0, 1.0, 6.4516E-4, 0.0, 0.0, 1.0, 2589988.0, 0.0,
+      0.0, 1.0, 0.8361274, 0.0, 0.0, 1.0, 1.0E-12, 0.0, 0.0, 1.0, 0.83612736, 0.0, 0.0, 1.0,
+      0.52161187664042, 0.0, 0.0, 1.0, 6.259342519685039, 0.0, 0.0, 1.0, 9.879012815159468E-5, 0.0, 0.0,
+      1.0, 1.0E-8, 0.0, 0.0, 1.0, 1.0E-8, 0.0, 0.0, 1.0, 0.001, 0.0, 0.0, 1.0, 0.09290304, 0.0, 0.0, 1.0,
+      2.824810606060606E-6, 0.0, 0.0, 1.0, 0.012419330708661417, 0.0, 0.0, 1.0, 2.352145967549511E-6,
+      0.0, 0.0, 1.0, 5.376333333333333E-5, 0.0, 0.0, 1.0, 1.0E-9, 0.0, 0.0, 1.0, 1.0E-9, 0.0, 0.0, 1.0,
+      0.001, 0.0, 0.0, 1.0, 0.001, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 9.86923E-13, 0.0, 0.0, 1.0,
+      9.86932E-16, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 0.1, 0.0, 0.0, 1.0, 1000.0, 0.0, 0.0, 1.0, 1.0,
+      0.0, 0.0, 1.0, 6.023E-5, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 8.756181692913386E-10, 0.0, 0.0, 1.0,
+      1.5595433108612482E-11, 0.0, 0.0, 1.0, 1.1574074074074074E-8, 0.0, 0.0, 1.0,
+      2.0612502939624808E-17, 0.0, 0.0, 1.0, 1.4314239066003343E-19, 0.0, 0.0, 1.0, 9.86932E-13, 0.0,
+      0.0, 1.0, 9.86932E-16, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 1.0E-4, 0.0, 0.0, 1.0, 1.0E-6, 0.0, 0.0,
+      1.0, 2.58064E-5, 0.0, 0.0, 1.0, 0.09290304, 0.0, 0.0, 1.0, 6.4516E-4, 0.0, 0.0, 1.0,
+      2.777777777777778E-4, 0.0, 0.0, 1.0, 1.0E-6, 0.0, 0.0, 1.0, 0.0010752666666666668, 0.0, 0.0, 1.0,
+      0.011574074074074073, 0.0, 0.0, 1.0, 0.2777777777777778, 0.0, 0.0, 1.0, 6.037174498153008E-6, 0.0,
+      0.0, 1.0, 4.143055E-6, 0.0, 0.0, 1.0, 4.971667E-5, 0.0, 0.0, 1.0, 2.485333E-4, 0.0, 0.0, 1.0,
+      3.449814E-6, 0.0, 0.0, 1.0, 4.139776E-5, 0.0, 0.0, 1.0, 2.069888E-4, 0.0, 0.0, 1.0,
+      1.1574074074074073E-5, 0.0, 0.0, 1.0, 2.777777777777778E-4, 0.0, 0.0, 1.0, 3.280839895013123, 0.0,
+      0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 28.316846592, 0.0, 0.0, 1.0, 1233.489, 0.0, 0.0,
+      1.0, 0.1589873, 0.0, 0.0, 1.0, 2.831685E7, 0.0, 0.0, 1.0, 1.0E-6, 0.0, 0.0, 1.0, 0.02831685, 0.0,
+      0.0, 1.0, 1.638706E-5, 0.0, 0.0, 1.0, 0.7645549, 0.0, 0.0, 1.0, 4.168182E9, 0.0, 0.0, 1.0, 0.001,
+      0.0, 0.0, 1.0, 2.841308E-5, 0.0, 0.0, 1.0, 2.957353E-5, 0.0, 0.0, 1.0, 2.841308E-5, 0.0, 0.0, 1.0,
+      2.957353E-5, 0.0, 0.0, 1.0, 0.02831685, 0.0, 0.0, 1.0, 0.004546092, 0.0, 0.0, 1.0, 0.003785412,
+      0.0, 0.0, 1.0, 10000.0, 0.0, 0.0, 1.0, 0.1, 0.0, 0.0, 1.0, 1.638706E-5, 0.0, 0.0, 1.0, 1.0E9, 0.0,
+      0.0, 1.0, 0.001, 0.0, 0.0, 1.0, 28316.846592, 0.0, 0.0, 1.0, 1.0E-9, 0.0, 0.0, 1.0, 158.9873, 0.0,
+      0.0, 1.0, 28.316846592, 0.0, 0.0, 1.0, 4.168182E9, 0.0, 0.0, 1.0, 1.0E-6, 0.0, 0.0, 1.0, 1.0E-9,
+      0.0, 0.0, 1.0, 158987.3, 0.0, 0.0, 1.0, 28316.85, 0.0, 0.0, 1.0, 5.682615E-4, 0.0, 0.0, 1.0,
+      4.731765E-4, 0.0, 0.0, 1.0, 0.001136523, 0.0, 0.0, 1.0, 9.463529E-4, 0.0, 0.0, 1.0, 2.831685E10,
+      0.0, 0.0, 1.0, 1.0E-12, 0.0, 0.0, 1.0, 0.7645549, 0.0, 0.0, 1.0, 3.008141E-13, 0.0, 0.0, 1.0,
+      9.86923E-13, 0.0, 0.0, 1.0, 3.008141E-16, 0.0, 0.0, 1.0, 9.86932E-16, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0,
+      1.0, 2.777778E-10, 0.0, 0.0, 1.0, 1.0E-9, 0.0, 0.0, 1.0, 2.7777777777777776E-7, 0.0, 0.0, 1.0,
+      1.0E-9, 0.0, 0.0, 1.0, 2.116809E-10, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 156.4763, 0.0, 0.0, 1.0,
+      175.2535, 0.0, 0.0, 1.0, 0.001, 0.0, 0.0, 1.0, 0.001, 0.0, 0.0, 1.0, 1.0E-6, 0.0, 0.0, 1.0,
+      0.02831685, 0.0, 0.0, 1.0, 0.06242796, 0.0, 0.0, 1.0, 6.641272076418775E-4, 0.0, 0.0, 1.0,
+      8.878088845807547E-5, 0.0, 0.0, 1.0, 0.01002242, 0.0, 0.0, 1.0, 0.008345404, 0.0, 0.0, 1.0,
+      8.878088845807547E-5, 0.0, 0.0, 1.0, 3.725627E-6, 0.0, 0.0, 1.0, 4.172702E-6, 0.0, 0.0, 1.0,
+      1.0E-5, 0.0, 0.0, 1.0, 0.001, 0.0, 0.0, 1.0, 1.0E-6, 0.0, 0.0, 1.0, 9.842064392690496E-7, 0.0, 0.0,
+      1.0, 1000.0, 0.0, 0.0, 1.0, 0.001, 0.0, 0.0, 1.0, 9.842064392690496E-4, 0.0, 0.0, 1.0,
+      0.001102311359527999, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 1.0E-6, 0.0, 0.0, 1.0, 0.001, 0.0, 0.0,
+      1.0, 6.242796E-5, 0.0, 0.0, 1.0, 0.06242796, 0.0, 0.0, 1.0, 0.001, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0,
+      1.0, 1.0E-6, 0.0, 0.0, 1.0, 0.001, 0.0, 0.0, 1.0, 0.001, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 1.0,
+      0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 4.7534861554140985E-8, 0.0, 0.0, 1.0, 2.66888418E-10, 0.0, 0.0,
+      1.0, 1.840130787037037E-9, 0.0, 0.0, 1.0, 2.668884178277838E-10, 0.0, 0.0, 1.0,
+      1.6666666666666666E-10, 0.0, 0.0, 1.0, 1.1574074074074074E-10, 0.0, 0.0, 1.0, 2.777777777777778E-9,
+      0.0, 0.0, 1.0, 1.6666666666666668E-7, 0.0, 0.0, 1.0, 1.1574074074074074E-8, 0.0, 0.0, 1.0,
+      1.1574074074074074E-8, 0.0, 0.0, 1.0, 2.7777777777777776E-7, 0.0, 0.0, 1.0, 1.6786775914037398E-9,
+      0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 2.668884199782779E-7, 0.0, 0.0, 1.0, 1.1574074074074073E-5, 0.0,
+      0.0, 1.0, 1000.0, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 3.277413194444444E-4, 0.0, 0.0, 1.0,
+      0.011574074074074073, 0.0, 0.0, 1.0, 0.2777777777777778, 0.0, 0.0, 1.0, 1.840130787037037E-6, 0.0,
+      0.0, 1.0, 4.4163138888888885E-5, 0.0, 0.0, 1.0, 0.0026497883333333333, 0.0, 0.0, 1.0,
+      5.555555555555555E-10, 0.0, 0.0, 1.0, 2.7777777777777777E-10, 0.0, 0.0, 1.0, 1.6666666666666667E-8,
+      0.0, 0.0, 1.0, 1.0E-6, 0.0, 0.0, 1.0, 0.001, 0.0, 0.0, 1.0, 3.2774131944444445E-7, 0.0, 0.0, 1.0,
+      7.865791666666667E-6, 0.0, 0.0, 1.0, 4.719475E-4, 0.0, 0.0, 1.0, 0.02831685, 0.0, 0.0, 1.0,
+      5.265152777777778E-8, 0.0, 0.0, 1.0, 1.2636366666666667E-6, 0.0, 0.0, 1.0, 7.58182E-5, 0.0, 0.0,
+      1.0, 4.381263888888889E-8, 0.0, 0.0, 1.0, 1.0515033333333334E-6, 0.0, 0.0, 1.0,
+      6.309020000000001E-5, 0.0, 0.0, 1.0, 0.001840130787037037, 0.0, 0.0, 1.0, 2.7777777777777776E-7,
+      0.0, 0.0, 1.0, 1.6666666666666667E-5, 0.0, 0.0, 1.0, 0.001, 0.0, 0.0, 1.0, 0.3277413194444444, 0.0,
+      0.0, 1.0, 11.574074074074074, 0.0, 0.0, 1.0, 1.1574074074074073E-5, 0.0, 0.0, 1.0,
+      2.777777777777778E-4, 0.0, 0.0, 1.0, 0.016666666666666666, 0.0, 0.0, 1.0, 0.001840130787037037,
+      0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 2.12978E-11, 0.0, 0.0, 1.0, 1.2267538580246913E-8, 0.0, 0.0,
+      1.0, 0.001, 0.0, 0.0, 1.0, 3.793302308384774E-12, 0.0, 0.0, 1.0, 2.1849421296296298E-9, 0.0, 0.0,
+      1.0, 7.865791666666667E-6, 0.0, 0.0, 1.0, 0.02831685, 0.0, 0.0, 1.0, 3.507787037037037E-10, 0.0,
+      0.0, 1.0, 1.2628033333333332E-6, 0.0, 0.0, 1.0, 2.920842592592593E-10, 0.0, 0.0, 1.0,
+      1.0515033333333334E-6, 0.0, 0.0, 1.0, 0.001, 0.0, 0.0, 1.0, 1.3395919067215363E-10, 0.0, 0.0, 1.0,
+      1.0, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 0.0077584121499012825, 0.0, 0.0, 1.0, 5.625408383313536E-6,
+      0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 1.3393829821058449E-4, 0.0, 0.0, 1.0, 1.0,
+      0.0, 0.0, 1.0, 1.0E-8, 0.0, 0.0, 1.0, 4.162314E-7, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0,
+      0.011574074074074073, 0.0, 0.0, 1.0, 5.60871875E-4, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 1000.0, 0.0,
+      0.0, 1.0, 0.0446158, 0.0, 0.0, 1.0, 0.0422932, 0.0, 0.0, 1.0, 0.001, 0.0, 0.0, 1.0, 0.001, 0.0,
+      0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 453.5924, 0.0, 0.0, 1.0, 0.4535924, 0.0, 0.0, 1.0, 1.0E-6, 0.0, 0.0,
+      1.0, 1.0, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 0.0013562299886945453, 0.0, 0.0, 1.0,
+      1.3562299886945453, 0.0, 0.0, 1.0, 4882.427959300363, 0.0, 0.0, 1.0, 4.8824279593003626, 0.0, 0.0,
+      1.0, 1.0, 0.0, 0.0, 1.0, 1000.0, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 16018.46, 0.0, 0.0, 1.0,
+      16.01846, 0.0, 0.0, 1.0, 99776.33537, 0.0, 0.0, 1.0, 99.77633, 0.0, 0.0, 1.0, 119826.4, 0.0, 0.0,
+      1.0, 119.8264, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 0.2777777777777778, 0.0, 0.0, 1.0,
+      2.777777777777778E-4, 0.0, 0.0, 1.0, 1000.0, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0,
+      0.12599788888888888, 0.0, 0.0, 1.0, 1.2599788888888888E-4, 0.0, 0.0, 1.0, 453.5924, 0.0, 0.0, 1.0,
+      0.4535924, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 10.0, 0.0, 0.0, 1.0, 1.0E-5, 0.0, 0.0, 1.0,
+      0.00980665, 0.0, 0.0, 1.0, 0.01, 0.0, 0.0, 1.0, 9.80665, 0.0, 0.0, 1.0, 4448.222, 0.0, 0.0, 1.0,
+      1000.0, 0.0, 0.0, 1.0, 4.448222, 0.0, 0.0, 1.0, 4448222.0, 0.0, 0.0, 1.0, 1000000.0, 0.0, 0.0, 1.0,
+      0.001, 0.0, 0.0, 1.0, 0.278013875, 0.0, 0.0, 1.0, 0.138255, 0.0, 0.0, 1.0, 9964.016, 0.0, 0.0, 1.0,
+      8896.443, 0.0, 0.0, 1.0, 1.0E-6, 0.0, 0.0, 1.0, 9.80665, 0.0, 0.0, 1.0, 53.37866141732284, 0.0,
+      0.0, 1.0, 4.448222, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 4.697322834645669E7, 0.0, 0.0, 1.0, 1.0,
+      0.0, 0.0, 1.0, 1000000.0, 0.0, 0.0, 1.0, 4.184E7, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 1.0E-9, 0.0,
+      0.0, 1.0, 9.80665, 0.0, 0.0, 1.0, 1000.0, 0.0, 0.0, 1.0, 0.002869815, 0.0, 0.0, 1.0, 0.001, 0.0,
+      0.0, 1.0, 1.38255E-5, 0.0, 0.0, 1.0, 925.6874, 0.0, 0.0, 1.0, 826.5067, 0.0, 0.0, 1.0, 1.0, 0.0,
+      0.0, 1.0, 0.001, 0.0, 0.0, 1.0, 980.665, 0.0, 0.0, 1.0, 1000.0, 0.0, 0.0, 1.0, 0.14593904199475066,
+      0.0, 0.0, 1.0, 0.14827406666666668, 0.0, 0.0, 1.0, 14.593904199475066, 0.0, 0.0, 1.0,
+      175.1268503937008, 0.0, 0.0, 1.0, 1.0E-6, 0.0, 0.0, 1.0, 0.001, 0.0, 0.0, 1.0, 0.03333333333333333,
+      0.0, 0.0, 1.0, 13.825499999999998, 0.0, 0.0, 1.0, 32690.34120734908, 0.0, 0.0, 1.0,
+      29187.80511811023, 0.0, 0.0, 1.0, 0.001, 0.0, 0.0, 1.0, 10000.0, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0,
+      98066.5, 0.0, 0.0, 1.0, 2101.522, 0.0, 0.0, 1.0, 10.0, 0.0, 0.0, 1.0, 0.001, 0.0, 0.0, 1.0, 1.0,
+      0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 332431.1023622047, 0.0, 0.0, 1.0, 1013.25, 0.0, 0.0, 1.0,
+      101325.0, 0.0, 0.0, 1.0, 100.0, 0.0, 0.0, 1.0, 100000.0, 0.0, 0.0, 1.0, 1.0E11, 0.0, 0.0, 1.0,
+      10.0, 0.0, 0.0, 1.0, 1000.0, 0.0, 0.0, 1.0, 157.08745852734327, 0.0, 0.0, 1.0, 9.80665, 0.0, 0.0,
+      1.0, 9806.65, 0.0, 0.0, 1.0, 1175.0958680323304, 0.0, 0.0, 1.0, 1000000.0, 0.0, 0.0, 1.0,
+      226.20593832020995, 0.0, 0.0, 1.0, 22620.593832020993, 0.0, 0.0, 1.0, 226.20593832020995, 0.0, 0.0,
+      1.0, 22.620593832020994, 0.0, 0.0, 1.0, 6894.757, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 0.001, 0.0,
+      0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 1.0E9,
+      0.0, 0.0, 1.0, 1000.0, 0.0, 0.0, 1.0, 1000000.0, 0.0, 0.0, 1.0, 0.001, 0.0, 0.0, 1.0, 1.0E-9, 0.0,
+      0.0, 1.0, 1.0E12, 0.0, 0.0, 1.0, 1.0E-6, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 1000.0, 0.0, 0.0, 1.0,
+      0.01, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 3.280839895013123E-6, 0.0, 0.0, 1.0, 1.0E-6, 0.0, 0.0,
+      1.0, 1.0, 0.0, 0.0, 1.0, 98066.5, 0.0, 0.0, 1.0, 101325.0, 0.0, 0.0, 1.0, 100000.0, 0.0, 0.0, 1.0,
+      98.0638, 0.0, 0.0, 1.0, 0.1, 0.0, 0.0, 1.0, 1.0E9, 0.0, 0.0, 1.0, 1.0E7, 0.0, 0.0, 1.0, 249.082,
+      0.0, 0.0, 1.0, 248.84, 0.0, 0.0, 1.0, 3386.38, 0.0, 0.0, 1.0, 3376.85, 0.0, 0.0, 1.0,
+      98066.49999999999, 0.0, 0.0, 1.0, 9.80665, 0.0, 0.0, 1.0, 0.00980665, 0.0, 0.0, 1.0,
+      98.06649999999999, 0.0, 0.0, 1.0, 9806650.0, 0.0, 0.0, 1.0, 1000.0, 0.0, 0.0, 1.0, 1000.0, 0.0,
+      0.0, 1.0, 6894757.0, 0.0, 0.0, 1.0, 0.4788026, 0.0, 0.0, 1.0, 47.88026, 0.0, 0.0, 1.0, 0.4788026,
+      0.0, 0.0, 1.0, 6894.757, 0.0, 0.0, 1.0, 100.0, 0.0, 0.0, 1.0, 133.3224, 0.0, 0.0, 1.0, 0.001, 0.0,
+      0.0, 1.0, 1000000.0, 0.0, 0.0, 1.0, 6.894757E9, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 1000000.0, 0.0,
+      0.0, 1.0, 1.0, 101325.0, 0.0, 1.0, 1.0E-12, 0.0, 0.0, 1.0, 47.88026, 0.0, 0.0, 1.0, 6894.757, 0.0,
+      0.0, 1.0, 6894.757, 0.0, 0.0, 1.0, 6894.757, 101325.0, 0.0, 1.0, 95760.52, 0.0, 0.0, 1.0,
+      1.378951E7, 0.0, 0.0, 1.0, 133.3224, 0.0, 0.0, 1.0, 0.1, 0.0, 0.0, 1.0, 0.1333224, 0.0, 0.0, 1.0,
+      1.0E-6, 0.0, 0.0, 1.0, 0.006894757, 0.0, 0.0, 1.0, 107251.77561466233, 0.0, 0.0, 1.0, 1.0, 0.0,
+      0.0, 1.0, 0.001, 0.0, 0.0, 1.0, 0.1, 0.0, 0.0, 1.0, 9.80665, 0.0, 0.0, 1.0, 47.88026, 0.0, 0.0,
+      1.0, 6894.757, 0.0, 0.0, 1.0, 0.001, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 0.1, 0.0, 0.0, 1.0,
+      6894.757, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 4.133789E-4, 0.0, 0.0, 1.0, 1.488164, 0.0, 0.0, 1.0,
+      4.133789E-4, 0.0, 0.0, 1.0, 1.488164, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 0.04336671413876308, 0.0,
+      0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 4.425637306792171E23, 0.0, 0.0, 1.0, 4.425637306792171E23, 0.0, 0.0,
+      1.0, 1.0, 0.0, 0.0, 1.0, 1.45046340833568064E17, 0.0, 0.0, 1.0, 1.45046340833568064E17, 0.0, 0.0,
+      1.0, 1.0, 0.0, 0.0, 1.0, 28.145833333333332, 0.0, 0.0, 1.0, 27.77777777777778, 0.0, 0.0, 1.0,
+      0.2777777777777778, 0.0, 0.0, 1.0, 16.666666666666668, 0.0, 0.0, 1.0, 277.77777777777777, 0.0, 0.0,
+      1.0, 2.777777777777778E-4, 0.0, 0.0, 1.0, 1.9152102777777777, 0.0, 0.0, 1.0, 114.91261666666666,
+      0.0, 0.0, 1.0, 1.0E13, 0.0, 0.0, 1.0, 1.0E9, 0.0, 0.0, 1.0, 1000000.0, 0.0, 0.0, 1.0, 4.75376409E9,
+      0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 1.0E10, 0.0, 0.0, 1.0, 1.0E18, 0.0, 0.0, 1.0, 1000000.0, 0.0,
+      0.0, 1.0, 4.7537674E13, 0.0, 0.0, 1.0, 4.7537674E7, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 1.0, 0.0,
+      0.0, 1.0, 6.283185307, 0.0, 0.0, 1.0, 1.5707963267949E-6, 0.0, 0.0, 1.0, 1.5707963267949E-4, 0.0,
+      0.0, 1.0, 0.01745329, 0.0, 0.0, 1.0, 0.015707963268, 0.0, 0.0, 1.0, 0.015707963268, 0.0, 0.0, 1.0,
+      1.0E9, 0.0, 0.0, 1.0, 1000.0, 0.0, 0.0, 1.0, 9.817477042468126E-4, 0.0, 0.0, 1.0, 2.9088821E-4,
+      0.0, 0.0, 1.0, 0.001, 0.0, 0.0, 1.0, 1000000.0, 0.0, 0.0, 1.0, 4.84814E-9, 0.0, 0.0, 1.0,
+      4.84814E-6, 0.0, 0.0, 1.0, 1.0E-6, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 5.72614501312336E-4, 0.0,
+      0.0, 1.0, 0.0019087150043744531, 0.0, 0.0, 1.0, 5.817763333333334E-4, 0.0, 0.0, 1.0,
+      0.05726145013123359, 0.0, 0.0, 1.0, 5.72614501312336E-4, 0.0, 0.0, 1.0, 0.01745329, 0.0, 0.0, 1.0,
+      5.817763333333334E-4, 0.0, 0.0, 1.0, 3.280839895013123, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0,
+      35.31466672148859, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 4.848136111111111E-6, 0.0, 0.0, 1.0,
+      2.908881666666667E-4, 0.0, 0.0, 1.0, 0.01745329, 0.0, 0.0, 1.0, 0.10471975511666667, 0.0, 0.0, 1.0,
+      6.283185307, 0.0, 0.0, 1.0, 0.10471975511666667, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0,
+      0.10471975511666667, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 1.0E9, 0.0, 0.0, 1.0, 1000.0, 0.0, 0.0,
+      1.0, 1.0, 0.0, 0.0, 1.0, 0.001, 0.0, 0.0, 1.0, 1.0E-9, 0.0, 0.0, 1.0, 1.0E-6, 0.0, 0.0, 1.0, 1.0,
+      0.0, 0.0, 1.0, 3.155815E12, 0.0, 0.0, 1.0, 3.155815E7, 0.0, 0.0, 1.0, 0.01, 0.0, 0.0, 1.0, 86400.0,
+      0.0, 0.0, 1.0, 3.155815E16, 0.0, 0.0, 1.0, 3600.0, 0.0, 0.0, 1.0, 100.0, 0.0, 0.0, 1.0,
+      3.155815E13, 0.0, 0.0, 1.0, 60.0, 0.0, 0.0, 1.0, 0.001, 0.0, 0.0, 1.0, 5.0E-4, 0.0, 0.0, 1.0,
+      3.155815E13, 0.0, 0.0, 1.0, 1.0E-9, 0.0, 0.0, 1.0, 1.0E-12, 0.0, 0.0, 1.0, 1.0E-6, 0.0, 0.0, 1.0,
+      604800.0, 0.0, 0.0, 1.0, 3.155815E12, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 0.001,
+      0.0, 0.0, 1.0, 0.001, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 11.811023622047244, 0.0, 0.0, 1.0, 3.6,
+      0.0, 0.0, 1.0, 196.85039370078738, 0.0, 0.0, 1.0, 60.0, 0.0, 0.0, 1.0, 0.1, 0.0, 0.0, 1.0,
+      0.0032808398950131233, 0.0, 0.0, 1.0, 0.03937007874015748, 0.0, 0.0, 1.0, 0.001, 0.0, 0.0, 1.0,
+      3.2808398950131233E-9, 0.0, 0.0, 1.0, 1.0E-9, 0.0, 0.0, 1.0, 100.0, 0.0, 0.0, 1.0,
+      3.280839895013123, 0.0, 0.0, 1.0, 39.37007874015748, 0.0, 0.0, 1.0, 3.280839895013123E-6, 0.0, 0.0,
+      1.0, 1.0E-6, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 543439.633228566, 0.0, 0.0, 1.0, 3051187.204736614,
+      0.0, 0.0, 1.0, 3051.187204736614, 0.0, 0.0, 1.0, 86400.0, 0.0, 0.0, 1.0, 127132.80019735893, 0.0,
+      0.0, 1.0, 3600.0, 0.0, 0.0, 1.0, 35.31466672148859, 0.0, 0.0, 1.0, 1000.0, 0.0, 0.0, 1.0,
+      879.8766061047598, 0.0, 0.0, 1.0, 1056.6882607957348, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 1.0, 0.0,
+      0.0, 1.0, 0.0011953, 0.0, 0.0, 1.0, 1.0E9, 0.0, 0.0, 1.0, 1000.0, 0.0, 0.0, 1.0, 28262.357, 0.0,
+      0.0, 1.0, 1000000.0, 0.0, 0.0, 1.0, 158987.3, 0.0, 0.0, 1.0, 28.262357, 0.0, 0.0, 1.0, 1000000.0,
+      0.0, 0.0, 1.0, 158.9873, 0.0, 0.0, 1.0, 0.028262357, 0.0, 0.0, 1.0, 0.1589873, 0.0, 0.0, 1.0, 1.0,
+      0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 128.8923533164868, 0.0, 0.0, 1.0, 0.17776487178535644, 0.0, 0.0,
+      1.0, 0.9980757, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 39.28645648133756, 0.0, 0.0,
+      1.0, 0.3042134789130689, 0.0, 0.0, 1.0, 3.928645648133756E-5, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0,
+      1.0, 0.0, 0.0, 1.0, 0.011574074074074073, 0.0, 0.0, 1.0, 0.3271106134259259, 0.0, 0.0, 1.0,
+      11.574074074074074, 0.0, 0.0, 1.0, 1.840130787037037, 0.0, 0.0, 1.0, 3.271106134259259E-4, 0.0,
+      0.0, 1.0, 0.011574074074074073, 0.0, 0.0, 1.0, 0.001840130787037037, 0.0, 0.0, 1.0,
+      3.271106134259259E-7, 0.0, 0.0, 1.0, 1.1574074074074073E-5, 0.0, 0.0, 1.0, 1.840130787037037E-6,
+      0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 1.0E-5, 0.0, 0.0, 1.0, 0.001, 0.0, 0.0, 1.0,
+      0.01, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 2.777777777777778E-9, 0.0, 0.0, 1.0,
+      2.7777777777777776E-7, 0.0, 0.0, 1.0, 2.777777777777778E-6, 0.0, 0.0, 1.0, 2.777777777777778E-4,
+      0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 1.0E-4, 0.0, 0.0, 1.0, 1.0E-7, 0.0, 0.0, 1.0, 0.001, 0.0, 0.0,
+      1.0, 1.0E-9, 0.0, 0.0, 1.0, 1.0E-6, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 1000.0, 0.0, 0.0, 1.0,
+      1000000.0, 0.0, 0.0, 1.0, 0.001, 0.0, 0.0, 1.0, 1.0E-6, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 10.0,
+      0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 0.0032808398950131233, 0.0, 0.0, 1.0, 0.001, 0.0, 0.0, 1.0,
+      3.280839895013123E-6, 0.0, 0.0, 1.0, 1.0E-6, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 735.499, 0.0, 0.0,
+      1.0, 735.499, 0.0, 0.0, 1.0, 746.0, 0.0, 0.0, 1.0, 1.0E9, 0.0, 0.0, 1.0, 746.043, 0.0, 0.0, 1.0,
+      745.6999, 0.0, 0.0, 1.0, 1.162222, 0.0, 0.0, 1.0, 1000.0, 0.0, 0.0, 1.0, 0.03168753554945394, 0.0,
+      0.0, 1.0, 1000000.0, 0.0, 0.0, 1.0, 0.001, 0.0, 0.0, 1.0, 1.0E-9, 0.0, 0.0, 1.0, 3516.853, 0.0,
+      0.0, 1.0, 1.0E12, 0.0, 0.0, 1.0, 1.0E-6, 0.0, 0.0, 1.0, 293071.1, 0.0, 0.0, 1.0, 0.2930711, 0.0,
+      0.0, 1.0, 17.58427, 0.0, 0.0, 1.0, 1055.056, 0.0, 0.0, 1.0, 3.168754E10, 0.0, 0.0, 1.0,
+      3.1687535549453945E-15, 0.0, 0.0, 1.0, 0.02259697, 0.0, 0.0, 1.0, 1.355818, 0.0, 0.0, 1.0,
+      293071.1, 0.0, 0.0, 1.0, 3.343212450666468E10, 0.0, 0.0, 1.0, 31687.535549453944, 0.0, 0.0, 1.0,
+      1.0, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 0.1442279, 0.0, 0.0, 1.0, 0.2777777777777778, 0.0, 0.0,
+      1.0, 1.730735, 0.0, 0.0, 1.0, 0.1162222, 0.0, 0.0, 1.0, 418.4, 0.0, 0.0, 1.0, 1.162222, 0.0, 0.0,
+      1.0, 1.0, 0.0, 0.0, 1.0, 3.154591, 0.0, 0.0, 1.0, 11356.53, 0.0, 0.0, 1.0, 11.62222, 0.0, 0.0, 1.0,
+      1156368.9627379256, 0.0, 0.0, 1.0, 1155837.1566743134, 0.0, 0.0, 1.0, 1.0E7, 0.0, 0.0, 1.0, 1000.0,
+      0.0, 0.0, 1.0, 0.001, 0.0, 0.0, 1.0, 0.04184, 0.0, 0.0, 1.0, 10000.0, 0.0, 0.0, 1.0, 1000000.0,
+      0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 5.678263, 0.0, 0.0, 1.0, 5.678263, 0.0, 0.0, 1.0, 0.2930711,
+      0.0, 0.0, 1.0, 20441.75, 0.0, 0.0, 1.0, 11.62222, 0.0, 0.0, 1.0, 41840.0, 0.0, 0.0, 1.0, 1.0, 0.0,
+      0.0, 1.0, 1.162222, 0.0, 0.0, 1.0, 0.2777777777777778, 0.0, 0.0, 1.0, 1000.0, 0.0, 0.0, 1.0, 1.0,
+      0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 10.34971, 0.0, 0.0, 1.0, 37258.95, 0.0, 0.0, 1.0, 1162.222, 0.0,
+      0.0, 1.0, 4184000.0, 0.0, 0.0, 1.0, 26334.14, 0.0, 0.0, 1.0, 1000.0, 0.0, 0.0, 1.0, 1.0E-6, 0.0,
+      0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 18.62947, 0.0, 0.0, 1.0, 67066.11, 0.0, 0.0, 1.0, 1000.0, 0.0, 0.0,
+      1.0, 1.0, 0.0, 0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 0.001, 0.0, 0.0, 1.0, 1.0E-6, 0.0, 0.0, 1.0, 1.0, 0.0,
+      0.0, 1.0, 1.0, 0.0, 0.0, 1.0, 1000.0, 0.0, 0.0, 1.0,
+    };
+  }
+
+  private static long[] unitDimensions()
+  {
+    return new long[] {
+      4243454L, 34091302912L, 34091302912L, 34091302912L, 34091302912L, 34091302912L, 34091302912L,
+      34091302912L, 34091302912L, 34091302912L, 16256L, 16256L, 16256L, 127L, 127L, 127L, 127L, 127L,
+      127L, 127L, 127L, 127L, 127L, 127L, 127L, 127L, 127L, 127L, 126L, 126L, 126L, 126L, 126L, 126L,
+      126L, 126L, 126L, 126L, 126L, 126L, 125L, 125L, 125L, 125L, 125L, 125L, 49151L, 49151L, 49025L,
+      49025L, 49025L, 49025L, 49025L, 49025L, 2080768L, 2080768L, 2080768L, 2080768L, 2080768L, 2080768L,
+      2080768L, 2080768L, 2080768L, 2080768L, 4398048591872L, 2080768L, 2080768L, 2080768L, 2080768L,
+      2080768L, 2080768L, 2162686L, 2162686L, 2097152L, 2097152L, 2097152L, 2097152L, 2097152L, 2097152L,
+      2097152L, 2097154L, 2097279L, 2097279L, 2097279L, 2097279L, 2097278L, 2097278L, 2097278L, 2097278L,
+      2097278L, 2097278L, 2097278L, 2097278L, 0L, 0L, 127L, 127L, 127L, 127L, 0L, 0L, 0L, 2080768L,
+      2080768L, 2080768L, 2080768L, 2080768L, 2080768L, 2080768L, 2080768L, 2080768L, 2080768L, 2080768L,
+      2080768L, 2080768L, 2080768L, 2080768L, 2080768L, 2097024L, 2097024L, 0L, 0L, 0L, 0L, 2113536L,
+      2113536L, 2113536L, 2113536L, 2113536L, 2113536L, 2113536L, 2113536L, 2113537L, 2129792L, 2129792L,
+      2113662L, 2113662L, 2113662L, 2113662L, 2113661L, 2113661L, 2113661L, 562949953421312L,
+      562949953421312L, 562949953421438L, 4363688886272L, 4363688886272L, 4363688902528L, 4363688902528L,
+      4363688902528L, 4363688886397L, 4363688886397L, 4363688886397L, 0L, 0L, 0L, 0L, 0L, 0L, 0L,
+      -9223372036854775808L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L,
+      0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L,
+      0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L,
+      0L, 0L, 0L, 0L, 0L, 0L, 4276222L, 4276222L, 4276222L, 4276221L, 4276221L, -9223372036854775808L,
+      2064386L, 2064386L, 2064386L, 266305666L, 266305666L, 266305666L, 266305666L, 266305665L,
+      266305665L, 2064514L, 2064514L, 2064514L, 2064514L, 2064514L, 2064514L, 2064514L, 2064514L,
+      2064514L, 2064514L, 2064514L, 2064514L, 2064514L, 2064514L, 2064514L, 2064514L, 2064514L, 2064514L,
+      2064514L, 2064514L, 2064514L, 2064514L, 2064514L, 2064514L, 2064514L, 2064514L, 2064514L, 2064514L,
+      2064514L, 2064514L, 2064514L, 2064514L, 2064514L, 2064514L, 2064514L, 2064514L, 2064514L, 2064514L,
+      2064514L, 2064514L, 2064514L, 2064514L, 34093367426L, 2064386L, 2064386L, 2064386L, 2064386L,
+      2064386L, 2064386L, 2064386L, 2064386L, 2064386L, 2064386L, 2064386L, 2064386L, 2064386L, 2064386L,
+      2064386L, 2064386L, 2064386L, 2064386L, 34093367298L, 34093367298L, 34093367298L, 34093367298L,
+      34093367298L, 34093367298L, 34093367298L, 34093367298L, 2064639L, 2064639L, 2064639L, 2064639L,
+      2064639L, 2064639L, 2064639L, 2064639L, 2064639L, 2064639L, 2064639L, 2064639L, 2064639L, 2064639L,
+      2064639L, 2064639L, 2064639L, 2064639L, 2064639L, 2064639L, 2064639L, 2064639L, 2064639L, 2064639L,
+      2064639L, 2064639L, 4363688837250L, 4363688837250L, 4363688837250L, 4363688837250L, 4363688837250L,
+      4363688837250L, 4363688837250L, 4363688837250L, 4363688837250L, 4397780140162L, 4397780140162L,
+      4397780140162L, 4397780140162L, 4397780140162L, 4397780140162L, 4397780140162L, 268435456L,
+      268435456L, 268435456L, 268435456L, 268435456L, 268435456L, 268435456L, 268435456L, 268500864L,
+      268500864L, 268500864L, 268500864L, 268435583L, 268435583L, 268435583L, 268435583L, 268435583L,
+      268435583L, 268435583L, 268435583L, 268435583L, 268435583L, 270516224L, 270516224L, 270516224L,
+      270516224L, 270516224L, 270516224L, 270516224L, 268500990L, 128L, 128L, 128L, 128L, 128L, 128L,
+      128L, 128L, 128L, 128L, 128L, 128L, 128L, 128L, 128L, 128L, 128L, 128L, 128L, 129L, 129L, 2080897L,
+      2080897L, 130L, 130L, 32894L, 32894L, 32894L, 32894L, 32894L, 255L, 255L, 255L, 255L, 255L, 254L,
+      254L, 254L, 254L, 254L, 2081022L, 2081022L, 2081022L, 2081022L, 2081022L, 2081022L, 253L, 253L,
+      253L, 253L, 253L, 253L, 253L, 253L, 253L, 253L, 253L, 253L, 253L, 253L, 253L, 253L, 253L, 253L,
+      253L, 253L, 253L, 253L, 253L, 253L, 253L, 253L, 253L, 253L, 253L, 253L, 253L, 253L, 252L, 252L,
+      252L, 252L, 252L, 252L, 2080896L, 2080896L, 2080896L, 2080896L, 2080896L, 2080896L, 2080896L,
+      2080896L, 2080896L, 2080896L, 2080896L, 2080896L, 2080896L, 2080896L, 2080896L, 2080896L, 2080896L,
+      2080896L, 2080896L, 2080896L, 2080896L, 2080896L, 2080896L, 2080896L, 2080896L, 2080896L,
+      72620543991349248L, 72620543991365632L, 72620543991365632L, 72620543991414782L, 72620543991349374L,
+      72620543991349374L, 72620543991349374L, 72620543991349374L, 72620543991365758L, 72620543991365758L,
+      1L, 1L, 1L, 1L, 1L, 1L, 1L, 1L, 1L, 1L, 1L, 1L, 1L, 1L, 1L, 1L, 1L, 1L, 1L, 1L, 1L, 1L, 1L, 1L, 1L,
+      1L, 1L, 1L, 1L, 1L, 1L, 1L, 1L, 1L, 1L, 1L, 1L, 1L, 1L, 1L, 1L, 1L, 1L, 1L, 1L, 1L, 1L, 1L, 1L, 1L,
+      1L, 1L, 1L, 1L, 1L, 1L, 1L, 1L, 34091302913L, 34091302913L, 2080769L, 2080769L, 2080769L, 2080769L,
+      2080769L, 2080769L, 2080769L, 2080769L, 2080769L, 2080769L, 2080769L, 2080769L, 2080769L, 2080769L,
+      2080769L, 2080769L, 2080769L, 2080769L, 2080769L, 2080769L, 2080769L, 2080769L, 2080769L, 2080769L,
+      2080769L, 2080769L, 2080769L, 2080769L, 2080769L, 2080769L, 2080769L, 2080769L, 2080769L, 2080769L,
+      2080769L, 2080769L, 2080769L, 2064385L, 2064385L, 2064385L, 2064385L, 2064385L, 2064385L, 2064385L,
+      2L, 2L, 2L, 2L, 2L, 2L, 2L, 2L, 2L, 2L, 2L, 2L, 2L, 2L, 2L, 2L, 2L, 2L, 2L, 2L, 2L, 2L, 2L, 2L, 2L,
+      2L, 2L, 2L, 2L, 2L, 2L, 2L, 2L, 2L, 2L, 16258L, 16258L, 16258L, 4363686772738L, 4363686772738L,
+      32643L, 32643L, 32643L, 32643L, 32643L, 32643L, 32643L, 32643L, 2080770L, 2080770L, 2080770L,
+      2080770L, 2080770L, 2080770L, 2080770L, 2080770L, 2080770L, 2080770L, 2080770L, 2080770L, 2080770L,
+      2080770L, 2080770L, 2080770L, 2080770L, 2080770L, 2080770L, 2080770L, 2080770L, 2080770L, 3L, 3L,
+      3L, 3L, 3L, 3L, 3L, 3L, 3L, 3L, 3L, 3L, 3L, 3L, 3L, 3L, 3L, 3L, 3L, 3L, 3L, 3L, 3L, 3L, 3L, 3L, 3L,
+      3L, 3L, 3L, 3L, 3L, 3L, 3L, 3L, 3L, 3L, 3L, 3L, 3L, 3L, 3L, 3L, 49025L, 49025L, 49025L, 49025L,
+      49025L, 49025L, 16259L, 16259L, 16259L, 16259L, 16259L, 16259L, 16259L, 16259L, 16259L, 16259L,
+      16259L, 16259L, 16259L, 16259L, 16259L, 16259L, 16259L, 16259L, 16259L, 16259L, 16259L, 16259L,
+      16259L, 4363686772739L, 4363686772739L, 4363686772739L, 4363686772739L, 4363686772739L,
+      4363686772739L, 4363686772739L, 4363686772739L, 4363686772739L, 4363686772739L, 4363686772739L,
+      32644L, 32644L, 32644L, 32644L, 32644L, 32644L, 32644L, 32644L, 32644L, 32644L, 32644L, 32644L,
+      32644L, 32644L, 48901L, 48901L, 48901L, 48901L, 2080771L, 2080771L, 2080771L, 2080771L, 2080771L,
+      2080771L, 2080771L, 2080771L, 2080771L, 2080771L, 2080771L, 2080771L, 2080771L, 2080771L, 2080771L,
+      2080771L, 2080771L, 2080771L, 2080771L, 2080771L, 2080771L, 2080771L, 2080771L, 2080771L, 2080771L,
+      2080771L, 2080771L, 2080771L, 2080771L, 2080771L, 2080771L, 2080771L, 2064387L, 2064387L, 2064387L,
+      2064387L, 2064387L, 2064387L, 2064387L, 2064387L, 2064387L, 2064387L, 2064387L, 2064387L, 2064387L,
+      2064387L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 4L, 4L, 4L, 2080772L, 2080772L, 2080772L, 34359738368L,
+      34359738368L, 34359738368L, 34359738368L, 34359738368L, 34359738368L, 34359738368L, 34359738368L,
+      34359738368L, 34359738368L, 34359738494L, 34361819262L, 34361819262L, 34361819262L, 34361819262L,
+      34361819262L, 34359738493L, 34359738493L, 34359738493L, 34359738493L, 34359738493L, 34359738493L,
+      34359738493L, 34359738493L, 34359738493L, 34361819136L, 34361819136L, 34361819136L, 34361819136L,
+      34361819136L, 34361819136L, 34361819136L, 34361819136L, 34361819136L, 2064513L, 2064513L, 2064513L,
+      2064513L, 2064513L, 2064513L, 2064513L, 2064513L, 2064513L, 2064513L, 2064513L, 2064513L, 2064513L,
+      2064513L, 2064513L, 2064513L, 2064513L, 2064513L, 2064513L, 2064513L, 2064513L, 2064513L, 2064513L,
+      2064513L, 2064513L, 2064515L, 2064515L, 2064515L, 2064515L, 2064515L, 2064515L, 2064515L, 2064515L,
+      2064515L, 2064512L, 2064512L, 2064512L, 2064512L, 2064512L, 2064512L, 2064512L, 2064512L, 2064512L,
+      2064512L, 2064512L, 2064512L, 2064512L, 2064512L, 2064512L, 2064512L, 2064512L, 2064512L, 2064512L,
+      2064512L, 2064512L, 2064638L, 2064638L, 2064638L, 2064638L, 2064638L, 2064638L, 2064638L, 2064638L,
+      2064638L, 2064638L, 2064638L, 2064638L, 2064638L, 2064638L, 2064638L, 2064638L, 2064638L, 2064638L,
+      2064638L, 2064638L, 1966589L, 1966589L, 1966589L, -9223372036854775808L, 0L, 266289282L,
+      266289282L, 266289282L, 266289282L, 266289282L, 266289282L, 266289282L, 266289282L, 266289283L,
+      266289283L, 266289283L, 266289281L, 266289281L, 266289281L, 2064639L, 2064639L, 2064639L, 2064639L,
+      2064639L, 2064639L, 2064639L, 2064639L, 2064639L, 2064639L, 2064639L, 2064639L, 2064639L, 2064639L,
+      2064639L, 2064639L, 2064639L, 2064639L, 2064639L, 2064639L, 2064639L, 2064639L, 2064639L, 2064639L,
+      2064639L, 2064639L, 2064639L, 2064639L, 2064639L, 2064639L, 2064639L, 2064639L, 2064639L, 2064639L,
+      2064639L, 2064639L, 2064639L, 2064639L, 2064639L, 2064639L, 2064639L, 2064639L, 2064639L, 2064639L,
+      2064639L, 2081023L, 2081023L, 2081023L, 2081023L, 2081023L, 2081023L, 2081023L, 2081023L, 2081023L,
+      2081023L, 2081023L, 2081023L, 2081023L, 2081023L, 2081023L, 2081020L, 2081020L, 2081017L, 2081017L,
+      2081017L, 2064636L, 2064636L, 2064636L, 2048255L, 2048255L, 2048255L, 2048255L, 2048255L, 2048255L,
+      2048255L, 2048255L, 2048255L, 2048255L, 2048255L, 2048255L, 2048255L, 2031998L, 2031998L, 2031998L,
+      2031998L, 2031998L, 2031998L, 0L, 4398046511104L, 4398046511104L, 4398046511104L, 4398046511104L,
+      4398046511104L, 4398046511104L, 4398046511104L, 4398046511104L, 4398046511104L, 4398046511104L,
+      4398046511104L, 4398046511104L, 4398046511104L, 4398046511104L, 4398046511104L, 4398046511104L,
+      4398046511231L, 4398046511231L, 4398046511231L, 4398046511231L, 4398046511231L, 4398046511231L,
+      4398046511231L, 4398046511231L, 4398046511231L, 4398046511229L, 4398046511229L, 4398048591872L,
+      4398048591872L, 4398048591872L, 4398048591872L, 4398048591872L, 4398048591872L, 4398048591872L,
+      4398048575488L, 4398048575488L, 4259838L, 4259838L, 4259838L, 4259838L, 4259838L, 4259838L,
+      4259838L, 16384L, 16384L, 16384L, 16384L, 16384L, 16384L, 16384L, 16384L, 16384L, 16384L, 16384L,
+      16384L, 16384L, 16384L, 16384L, 16384L, 16384L, 16384L, 4259837L, 4259837L, 4259837L, 4259837L,
+      16511L, 16511L, 16511L, 16511L, 16511L, 16511L, 16511L, 16511L, 16511L, 16511L, 16511L, 16511L,
+      16511L, 16511L, 16511L, 16511L, 16509L, 16509L, 16509L, 16509L, 16509L, 16509L, 16509L, 16509L,
+      16509L, 16509L, 16509L, 384L, 384L, 384L, 384L, 384L, 384L, 384L, 384L, 384L, 384L, 384L, 384L,
+      384L, 128L, 0L, 0L, 0L, 0L, 0L, 128L, 128L, 128L, 128L, 0L, 2081152L, 2081152L, 2081152L, 2081152L,
+      2081152L, 2081152L, 2081152L, 2081152L, 2081152L, 2081152L, 2081152L, 72057594037927936L, 2064386L,
+      2064386L, 2064386L, 2064386L, 2048002L, 2048002L, 2048002L, 2048002L, 2048002L, 268402816L,
+      268402816L, 268402816L, 268402816L, 268402816L, 268402816L, 268386434L, 268386434L, 268386434L,
+      268386434L, 268386434L, 268386434L, 268386434L, 268386433L, 268386433L, 268386433L, 268386433L,
+      268386433L, 2048130L, 2048130L, 2048130L, 2048130L, 2048130L, 2048130L, 2048130L, 2048130L,
+      2048130L, 2048130L, 2048130L, 2048130L, 2048130L, 2048130L, 2048130L, 2048130L, 2048130L, 2048130L,
+      2048130L, 2048130L, 2048130L, 2048130L, 2048130L, 2048130L, 2048130L, 2048130L, 2048130L,
+      34093351042L, 34093351041L, 34093351041L, 34093351041L, 34093351041L, 34093351041L, 34093351041L,
+      34093351041L, 2048128L, 2048128L, 2048128L, 2048128L, 2048128L, 2048128L, 2048128L, 2048128L,
+      2048128L, 2048128L, 2048128L, 2048128L, 34093351040L, 34093351040L, 34093351040L, 34093351040L,
+      34093351040L, 34093351040L, 34093351040L, 34093351040L, 34093351040L, 34093351040L, 34093351040L,
+      9151314442818896000L, 2048255L, 2048255L, 2048255L, 2048255L, 2048255L, 2048255L, 2048255L,
+      2048255L, 34093351167L, 34093351167L, 34093351167L, 34093351167L, 9151314442818896002L, 268402818L,
+      268402818L, 268402818L, 268402819L, 268402817L, 268402817L,
+    };
+  }
+
+  private static String[] quantityNames()
+  {
+    return new String[] {
+      "reluctance", "volumetric thermal expansion", "linear thermal expansion", "per mass", "per length",
+      "wave number", "area per volume", "per area", "length per volume", "per volume", "per force",
+      "bulk compressibility", "compressibility", "per time", "operations per time", "frequency",
+      "volume per time per volume", "per electric potential", "electric current",
+      "magnetic potential difference", "magnetomotive force", "electromagnetic moment",
+      "linear electric current density", "magnetic field strength", "magnetization", "current density",
+      "level of power intensity", "attenuation per length", "attenuation", "data transmission speed",
+      "activity (of radioactivity)", "specific activity (of radioactivity)", "digital storage",
+      "electric capacity", "electric charge", "electric flux", "electric dipole moment",
+      "exposure (radioactivity)", "electric polarization", "charge density", "luminous intensity",
+      "luminance", "electrochemical equivalent", "equivalent per mass", "equivalent per volume",
+      "dimensionless", "volumic concentration", "mass concentration", "", "linear strain",
+      "shear strain", "poisson ratio", "relative power", "force per force", "area per area",
+      "relative elongation", "length per length", "volume per volume", "scale", "linear concentration",
+      "relative time", "capacitance", "permittivity", "gamma ray API unit", "absorbed dose",
+      "self inductance", "permeance", "magnetic permeability", "moment of force", "moment of couple",
+      "torque", "energy", "work", "heat capacity", "specific energy", "specific heat capacity",
+      "massic heat capacity", "normal stress", "shear stress", "modulus of elasticity", "shear modulus",
+      "modulus of rigidity", "bulk modulus", "modulus of compression", "electromagnetic energy density",
+      "radiant energy density", "molar thermodynamic energy", "chemical potential",
+      "affinity of a chemical reaction", "molar heat capacity", "molar entropy", "molar gas constant",
+      "thermodynamic temperature", "delta temperature", "thermal insulance",
+      "coefficient of thermal insulation", "temperature per length", "temperature per time",
+      "thermal resistance", "mass", "mass length", "momentum", "impulse", "moment of inertia",
+      "mass per energy", "linear density", "linear mass", "mass per length", "surface density",
+      "areic mass", "mass per time per area", "density", "mass density", "volumic mass",
+      "mass per volume per length", "mass flow rate", "luminous flux", "quantity of light",
+      "luminous efficacy", "illuminance", "luminous exitance", "light exposure", "length", "breadth",
+      "height", "depth", "thickness", "radius", "radius of curvature", "Cartesian coordinates",
+      "diameter", "length of path", "distance", "wavelength", "mean free path", "volume per area",
+      "length per temperature", "velocity", "volume per time per area", "acceleration linear", "area",
+      "volume per length", "permeability rock", "mass attenuation coefficient",
+      "cross section absorption", "unit productivity index", "mobility", "kinematic viscosity",
+      "thermal diffusivity", "diffusion coefficient", "area per time", "volume per time per length",
+      "volume", "permeability length", "isothermal compressibility", "specific volume", "massic volume",
+      "molar volume", "productivity index", "specific productivity index", "volume flow rate",
+      "volume per time per time", "volume per standard volume", "second moment of area",
+      "moment of section", "volume length per time", "amount of substance", "mole per area",
+      "mole per time per area", "concentration of B", "amount of a substance", "mole per time", "force",
+      "force length per length", "energy per length", "energy length per area", "force area",
+      "force per length", "energy per area", "force per volume", "pressure per length", "parachor",
+      "neutron API unit", "frequency interval", "resistance", "impedance", "electrical resistivity",
+      "resistivity per length", "force per area", "pressure", "dynamic viscosity",
+      "mass per time per length", "pressure time per volume", "acoustic impedance",
+      "nonDarcy flow coefficient", "Darcy flow coefficient", "pressure per time",
+      "pressure squared per (dynamic viscosity)", "pressure squared", "pH", "plane angle",
+      "angle per length", "angle per volume", "angular velocity", "rotational frequency",
+      "circular frequency", "angle per time", "rotational velocity", "angular acceleration",
+      "electric conductance", "admittance", "susceptance", "time", "conductivity", "time per length",
+      "slowness", "interval transit time", "time per volume", "standard volume",
+      "standard volume  per area", "standard volume per volume", "standard volume per area",
+      "stadard volume per volume", "standard volume per time", "solid angle", "dose equivalent",
+      "dose equivalent rate", "magnetic induction", "magnetic flux density", "electric potential",
+      "potential difference per per power drop", "electric field strength", "power", "heat flow rate",
+      "thermal conductance", "energy length per time area temperature", "thermal conductivity",
+      "density of heat flow rate", "poynting vector", "radiant energy", "fluence rate",
+      "radiant exitance", "irradiance", "sound intensity", "energy fluence rate",
+      "heat transfer coefficient", "radiance", "power per volume",
+      "volumetric heat transfer coefficient", "radiant intensity", "magnetic flux",
+      "magnetic dipole moment", "magnetic vector potential",
+    };
+  }
+
+  private static String[] quantityDescriptions()
+  {
+    return new String[] {
+      null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
+      null, null,
+      "The ampere is that constant current which, if maintained in two straight parallel conductors of infinite length, of negligible circular cross section, and placed 1 metre apart in vacuum,would produce between these conductors a force equal to 2 x 10**-7 newton per metre of length.",
+      "The ampere is that constant current which, if maintained in two straight parallel conductors of infinite length, of negligible circular cross section, and placed 1 metre apart in vacuum,would produce between these conductors a force equal to 2 x 10**-7 newton per metre of length.",
+      "The ampere is that constant current which, if maintained in two straight parallel conductors of infinite length, of negligible circular cross section, and placed 1 metre apart in vacuum,would produce between these conductors a force equal to 2 x 10**-7 newton per metre of length.",
+      null, null, null, null, null,
+      "A unit of intensity. A bel is the base 10 logarithm of a power or amplitude ratio. Some systems define a specific base value.",
+      null, "The power or amplitude variation that occurs over a doubling of the domain variable.",
+      "A unit of transmission speed, equal to one bit per second. This unit is being deprecated in favor of bits per second (bps).",
+      "The activity of a radionuclide decaying at the rate of one spontaneous nuclear transition per second",
+      null,
+      "The capacity, in bytes, of a storage device or an information system,is one eighth of the base two logarithm of the number of possible states of the device or system.",
+      "The time integral of electric current,equal to 1 A.s",
+      "The time integral of electric current,equal to 1 A.s",
+      "The time integral of electric current,equal to 1 A.s", null, null, null, null,
+      "The candela is the luminous intensity, in a given direction,of a source that emits monochromatic radiation of frequency 540 X 10**12 hertz and that has a radian intensity in that direction of 1/683 watt per steradian.",
+      null, "The charge contained in one mole of electrons. The amount is equal to 96487 coulombs.",
+      null, null, "A base unit to describe all dimensionless values,such as ratios and factors.",
+      "A base unit to describe all dimensionless values,such as ratios and factors.",
+      "A base unit to describe all dimensionless values,such as ratios and factors.",
+      "A base unit to describe all dimensionless values,such as ratios and factors.",
+      "A base unit to describe all dimensionless values,such as ratios and factors.",
+      "A base unit to describe all dimensionless values,such as ratios and factors.",
+      "A base unit to describe all dimensionless values,such as ratios and factors.",
+      "A base unit to describe all dimensionless values,such as ratios and factors.",
+      "A base unit to describe all dimensionless values,such as ratios and factors.",
+      "A base unit to describe all dimensionless values,such as ratios and factors.",
+      "A base unit to describe all dimensionless values,such as ratios and factors.",
+      "A base unit to describe all dimensionless values,such as ratios and factors.",
+      "A base unit to describe all dimensionless values,such as ratios and factors.",
+      "A base unit to describe all dimensionless values,such as ratios and factors.",
+      "A base unit to describe all dimensionless values,such as ratios and factors.",
+      "A base unit to describe all dimensionless values,such as ratios and factors.",
+      "The capacitance of a capacitor between the plates of which there appears a difference of potential of 1 V when it is charged by a quantity of electricity equal to 1 C.",
+      null, "A unit defined by the American Petroleum Institute for gamma ray log measurements.",
+      "The absorbed dose when the energy per unit mass imparted to matter by ionizing radiation is 1 J/kg",
+      "The inductance of a closed circuit in which an electromotive force of 1 V is produced when the electric current in the circuit varies uniformly at a rate of 1 A/s.",
+      "The inductance of a closed circuit in which an electromotive force of 1 V is produced when the electric current in the circuit varies uniformly at a rate of 1 A/s.",
+      null,
+      "The work done when the point of application of a force of 1 N is displaced a distance of 1 m in the direction of the force.",
+      "The work done when the point of application of a force of 1 N is displaced a distance of 1 m in the direction of the force.",
+      "The work done when the point of application of a force of 1 N is displaced a distance of 1 m in the direction of the force.",
+      "The work done when the point of application of a force of 1 N is displaced a distance of 1 m in the direction of the force.",
+      "The work done when the point of application of a force of 1 N is displaced a distance of 1 m in the direction of the force.",
+      null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
+      null, null, null,
+      "The kelvin, unit of thermodynamic temperature,is the fraction 1/273.16 of the thermodynamic temperature of the triple point of water.",
+      "The kelvin, unit of thermodynamic temperature,is the fraction 1/273.16 of the thermodynamic temperature of the triple point of water.",
+      null, null, null, null, null,
+      "The kilogram is the unit of mass (not force); it is equal to the mass of the international prototype of the kilogram.",
+      null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
+      "The luminous flux emitted in a solid angle of 1 sr by a point source having a uniform intensity of 1 cd.",
+      null, null,
+      "The illuminance produced by a luminous flux of 1 lm uniformly distributed over a surface of 1 m2.",
+      "The illuminance produced by a luminous flux of 1 lm uniformly distributed over a surface of 1 m2.",
+      null,
+      "The metre is the length equal to 1 650 763.73 wavelengths in vacuum of the radiation corresponding to the transition between the levels 2p10 and 5d5 of the krypton-86 atom.",
+      "The metre is the length equal to 1 650 763.73 wavelengths in vacuum of the radiation corresponding to the transition between the levels 2p10 and 5d5 of the krypton-86 atom.",
+      "The metre is the length equal to 1 650 763.73 wavelengths in vacuum of the radiation corresponding to the transition between the levels 2p10 and 5d5 of the krypton-86 atom.",
+      "The metre is the length equal to 1 650 763.73 wavelengths in vacuum of the radiation corresponding to the transition between the levels 2p10 and 5d5 of the krypton-86 atom.",
+      "The metre is the length equal to 1 650 763.73 wavelengths in vacuum of the radiation corresponding to the transition between the levels 2p10 and 5d5 of the krypton-86 atom.",
+      "The metre is the length equal to 1 650 763.73 wavelengths in vacuum of the radiation corresponding to the transition between the levels 2p10 and 5d5 of the krypton-86 atom.",
+      "The metre is the length equal to 1 650 763.73 wavelengths in vacuum of the radiation corresponding to the transition between the levels 2p10 and 5d5 of the krypton-86 atom.",
+      "The metre is the length equal to 1 650 763.73 wavelengths in vacuum of the radiation corresponding to the transition between the levels 2p10 and 5d5 of the krypton-86 atom.",
+      "The metre is the length equal to 1 650 763.73 wavelengths in vacuum of the radiation corresponding to the transition between the levels 2p10 and 5d5 of the krypton-86 atom.",
+      "The metre is the length equal to 1 650 763.73 wavelengths in vacuum of the radiation corresponding to the transition between the levels 2p10 and 5d5 of the krypton-86 atom.",
+      "The metre is the length equal to 1 650 763.73 wavelengths in vacuum of the radiation corresponding to the transition between the levels 2p10 and 5d5 of the krypton-86 atom.",
+      "The metre is the length equal to 1 650 763.73 wavelengths in vacuum of the radiation corresponding to the transition between the levels 2p10 and 5d5 of the krypton-86 atom.",
+      "The metre is the length equal to 1 650 763.73 wavelengths in vacuum of the radiation corresponding to the transition between the levels 2p10 and 5d5 of the krypton-86 atom.",
+      "The metre is the length equal to 1 650 763.73 wavelengths in vacuum of the radiation corresponding to the transition between the levels 2p10 and 5d5 of the krypton-86 atom.",
+      null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
+      null, null, null, null, null, null, null, null, null, null, null, null, null, null,
+      "The mole is the amount of substance of a system that contains as many elementary entities as there are atoms in 0.012 kilogram of carbon-12. When the mole is used, the elementary entities must be specified and may be atoms, molecules, ions, electrons, other particles,or specified groups of such particles.",
+      null, null, null, null, null,
+      "That force which, when ap0plied to a body having a mass of 1 kg,gives it an acceleration of 1 m/s2.",
+      "That force which, when ap0plied to a body having a mass of 1 kg,gives it an acceleration of 1 m/s2.",
+      "That force which, when ap0plied to a body having a mass of 1 kg,gives it an acceleration of 1 m/s2.",
+      "That force which, when ap0plied to a body having a mass of 1 kg,gives it an acceleration of 1 m/s2.",
+      null, null, null, null, null, null,
+      "A unit defined by the American Petroleum Institute for neutron log measurements.",
+      "The number of octaves between two positive values is the base two logarithm of their ratio.",
+      "The electric resistance between two points of a conductor when a constant difference of potential of 1 V, applied between these two points, produces in this conductor a current of 1 A,this conductor not being the source of any electromotive force.",
+      "The electric resistance between two points of a conductor when a constant difference of potential of 1 V, applied between these two points, produces in this conductor a current of 1 A,this conductor not being the source of any electromotive force.",
+      null, null, "The pressure or stress of 1 N/m2.", "The pressure or stress of 1 N/m2.", null, null,
+      null, null, null, null, null, null, null,
+      "The negative,base 10 logarithm of the concentration of hydrogen ions in a solution.",
+      "The radian is the plane angle between two radii of a circle that cut of, on the circumference,an arc equal in length to the radius.",
+      null, null, null, null, null, null, null, null,
+      "The electric conductance of a conductor in which a current of 1 A is produced by an electric potential difference of 1 V.",
+      "The electric conductance of a conductor in which a current of 1 A is produced by an electric potential difference of 1 V.",
+      "The electric conductance of a conductor in which a current of 1 A is produced by an electric potential difference of 1 V.",
+      "The second is the duration of 9 192 631 770 periods of the radiation corresponding to the transition between the two hyperfine levels of the ground state of the cesium-133 atom.",
+      null, null, null, null, null,
+      "A unit of standard volume. The number of scm(0C) of a fluid is the volume the fluid will occupy (in cubic metres) when the fluid is reduced to standard conditions of 1 atm.,0 degrees Celsius.",
+      null, null, null, null, null,
+      "The steradian is the solid angle that, having its vertex in the center of a circle,cuts of an area of the surface of the sphere equal to that of a square with sides of length equal to the radius of the sphere.",
+      "The dose equivalent when the absorbed dose of ionizing radiation multiplied by the dimensionless factors Q (quality facot) and N (product of any othe multiplying factors) stipulated by the Intl. Commission on Radiological Protection is 1. J/kg.",
+      "The dose equivalent rate when the absorbed dose per second of ionizing radiation multiplied by the appropriate factors is equivalent to 1 Sievert per second.",
+      "The magnetic flux density of 1 Wb/m2. Alternatively, it is defined as the magnetic flux density that produces on a 1-m length of wire carrying a current of 1A, oriented normal to the flux density, a force of 1 N,magnetic flux density being defined as an axial vector quantity such that the force exerted on an element of current is equal to the vector product of this element and the magnetic flux density.",
+      "The magnetic flux density of 1 Wb/m2. Alternatively, it is defined as the magnetic flux density that produces on a 1-m length of wire carrying a current of 1A, oriented normal to the flux density, a force of 1 N,magnetic flux density being defined as an axial vector quantity such that the force exerted on an element of current is equal to the vector product of this element and the magnetic flux density.",
+      "The difference of electric potential between two points of a conductor carrying a constant current of 1 A when the power dissipated between these points is equal to 1 W.",
+      null, null, "The power that represents a rate of energy transfer of 1 J/s.",
+      "The power that represents a rate of energy transfer of 1 J/s.", null, null, null, null, null,
+      null, null, null, null, null, null, null, null, null, null, null,
+      "The magnetic flux which, linking a circuit of one turn,produces in it an alectromotive orce of 1 V as it is reduced to zero at a uniform rate in 1 s.",
+      null, null,
+    };
+  }
+
+  private static int[][] quantityUnits()
+  {
+    return new int[][] {
+      {0}, {1, 2, 3, 4, 5, 6}, {1, 7, 8, 9}, {10, 11, 12}, {13, 14, 15, 16, 17, 18, 19, 20, 21},
+      {13, 14, 15, 19, 20}, {13, 22, 23, 24, 25, 26, 27}, {28, 29, 30, 31},
+      {28, 32, 33, 34, 35, 36, 37, 38, 39}, {40, 41, 42, 43, 44, 45}, {46, 47}, {48, 49, 50, 51, 52, 53},
+      {48, 49, 50, 51, 52, 53}, {54, 55, 56, 57, 58, 59, 60}, {54, 61, 62},
+      {63, 54, 64, 65, 66, 67, 68, 69}, {54, 70}, {71, 72}, {73, 74, 75, 76, 77, 78, 79},
+      {73, 74, 75, 76, 77, 78, 79}, {73, 74, 75, 76, 77, 78, 79}, {80}, {81, 82, 83, 84},
+      {81, 82, 83, 84}, {81, 82, 83, 84}, {85, 86, 87, 88, 89, 90, 91, 92}, {93, 94}, {95, 96, 97, 98},
+      {99, 100, 101}, {102, 103}, {104, 105, 106, 107, 108, 109, 110, 111, 112, 113, 114, 115, 116, 117},
+      {118, 119}, {120, 121, 122, 123}, {124, 125, 126, 127, 128, 129, 130, 131},
+      {124, 125, 126, 127, 128, 129, 130, 131}, {124, 125, 126, 127, 128, 129, 130, 131}, {132},
+      {133, 134}, {135, 136, 137, 138}, {139, 140, 141}, {142, 143}, {144}, {145, 146}, {147, 148, 149},
+      {150, 151, 152}, {99, 153, 154, 155, 156, 157, 158, 159}, {160, 99, 153, 154, 161, 162, 163, 164},
+      {99, 153, 154, 165, 166, 167, 168, 161, 162, 163, 164, 169, 170}, {99},
+      {99, 153, 154, 171, 172, 173, 174, 175, 176, 177}, {99, 178, 179, 180, 181},
+      {99, 155, 156, 157, 158}, {99, 153, 154, 182, 183, 184}, {99, 153, 154, 185, 186},
+      {99, 153, 154, 178, 179, 180, 181}, {99, 153, 154, 171, 172, 173, 174, 175, 176, 177},
+      {99, 153, 154, 171, 172, 187, 173, 174, 188, 175, 189, 176, 177, 190},
+      {99, 191, 192, 193, 194, 195, 196, 197, 198, 199, 200, 201, 202, 203, 204, 205, 206, 207, 208, 209, 210, 211, 212, 213, 214, 215, 216, 217, 218, 219, 220, 221, 222, 223, 224, 225, 226, 227, 228, 229, 230, 231, 232, 233, 234},
+      {99, 171, 172, 187, 173, 174, 188, 175, 189, 176, 177, 190},
+      {99, 171, 172, 173, 174, 175, 176, 177}, {99, 235}, {236, 237, 238}, {239, 240}, {241},
+      {242, 243, 244}, {245, 246, 247, 248}, {245, 246, 247, 248}, {249, 250},
+      {251, 252, 253, 254, 255, 256, 257, 258, 259, 260, 261, 262, 263, 264},
+      {251, 252, 253, 254, 255, 256, 257, 258, 259, 260, 261, 262, 263, 264},
+      {251, 252, 253, 254, 255, 256, 257, 258, 259, 260, 261, 262, 263, 264},
+      {251, 265, 266, 267, 268, 269, 270, 271, 272, 273, 274, 275, 276, 277, 278, 279, 280, 281, 282, 283, 284, 285, 286, 287, 288, 289, 290, 291, 292},
+      {251, 265, 266, 267, 268, 269, 270, 271, 272, 273, 274, 275, 276, 277, 278, 279, 280, 281, 282, 283, 284, 285, 286, 287, 288, 289, 290, 291, 292},
+      {293}, {294, 295, 296, 297, 298, 299, 300, 301, 302, 303, 304, 305, 306, 307, 308, 309, 310, 311},
+      {312, 313, 314, 315, 316, 317, 318, 319}, {312, 313, 314, 315, 316, 317, 318, 319},
+      {320, 321, 322, 323, 324, 325, 326, 327, 328, 329, 330, 331, 332, 333, 334, 335, 336, 337, 338, 339, 340, 341, 342, 343, 344, 345},
+      {320, 321, 322, 323, 324, 325, 326, 327, 328, 329, 330, 331, 332, 333, 334, 335, 336, 337, 338, 339, 340, 341, 342, 343, 344, 345},
+      {320, 321, 322, 323, 324, 325, 326, 327, 328, 329, 330, 331, 332, 333, 334, 335, 336, 337, 338, 339, 340, 341, 342, 343, 344, 345},
+      {320, 321, 322, 323, 324, 325, 326, 327, 328, 329, 330, 331, 332, 333, 334, 335, 336, 337, 338, 339, 340, 341, 342, 343, 344, 345},
+      {320, 321, 322, 323, 324, 325, 326, 327, 328, 329, 330, 331, 332, 333, 334, 335, 336, 337, 338, 339, 340, 341, 342, 343, 344, 345},
+      {320, 321, 322, 323, 324, 325, 326, 327, 328, 329, 330, 331, 332, 333, 334, 335, 336, 337, 338, 339, 340, 341, 342, 343, 344, 345},
+      {320, 321, 322, 323, 324, 325, 326, 327, 328, 329, 330, 331, 332, 333, 334, 335, 336, 337, 338, 339, 340, 341, 342, 343, 344, 345},
+      {320, 321, 322, 323, 324, 325, 326, 327, 328, 329, 330, 331, 332, 333, 334, 335, 336, 337, 338, 339, 340, 341, 342, 343, 344, 345},
+      {320, 321, 322, 323, 324, 325, 326, 327, 328, 329, 330, 331, 332, 333, 334, 335, 336, 337, 338, 339, 340, 341, 342, 343, 344, 345},
+      {346, 347, 348, 349, 350, 351, 352, 353, 354}, {346, 347, 348, 349, 350, 351, 352, 353, 354},
+      {346, 347, 348, 349, 350, 351, 352, 353, 354}, {355, 356, 357, 358, 359, 360, 361},
+      {355, 356, 357, 358, 359, 360, 361}, {355, 356, 357, 358, 359, 360, 361}, {362, 363, 364, 365},
+      {362, 366, 367, 368, 369}, {370, 371, 372, 373}, {370, 371, 372, 373},
+      {374, 375, 376, 377, 378, 379, 380, 381, 382, 383}, {384, 385, 386, 387, 388, 389, 390}, {391},
+      {392, 393, 394, 395, 396, 397, 398, 399, 400, 401, 402, 403, 404, 405, 406, 407, 408, 409, 410},
+      {411, 412}, {413, 414}, {413, 414}, {415, 416}, {417, 418, 419, 420, 421}, {422, 423, 424, 425},
+      {422}, {422, 426, 423, 424, 425}, {427, 428, 429, 430, 431}, {427, 428, 429, 430, 431},
+      {432, 433, 434, 435, 436, 437},
+      {438, 439, 440, 441, 442, 443, 444, 445, 446, 447, 448, 449, 450, 451, 452, 453, 454, 455, 456, 457, 458, 459, 460, 461, 462, 463, 464, 465, 466, 467, 468, 469},
+      {438, 439, 440, 441, 442, 443, 444, 445, 446, 447, 448, 449, 450, 451, 452, 453, 454, 455, 456, 457, 458, 459, 460, 461, 462, 463, 464, 465, 466, 467, 468, 469},
+      {438, 439, 440, 441, 442, 443, 444, 445, 446, 447, 448, 449, 450, 451, 452, 453, 454, 455, 456, 457, 458, 459, 460, 461, 462, 463, 464, 465, 466, 467, 468, 469},
+      {470, 471, 472, 473, 474, 475},
+      {476, 477, 478, 479, 480, 481, 482, 483, 484, 485, 486, 487, 488, 489, 490, 491, 492, 493, 494, 495, 496, 497, 498, 499, 500, 501},
+      {502}, {503, 504}, {505}, {506, 507, 508}, {506, 509}, {510, 511},
+      {512, 513, 514, 515, 516, 517, 518, 519, 520, 521, 522, 523, 524, 525, 526, 527, 528, 529, 530, 531, 532, 533, 534, 535, 536, 537, 538, 539, 540, 541, 542, 543, 544, 545, 546, 547, 548, 549, 550, 551, 552, 553, 554, 555, 556, 557, 558, 559, 560, 561, 562, 563, 564, 565, 566, 567},
+      {512, 514, 515, 516, 517, 518, 519, 520, 522, 523, 536, 537, 538, 539, 540, 542, 549, 550, 555, 556, 557, 558},
+      {512, 514, 515, 516, 517, 518, 519, 520, 522, 523, 536, 537, 538, 539, 540, 542, 549, 550, 555, 556, 557, 558},
+      {512, 521, 524, 525, 526, 527, 528, 529, 530, 531, 532, 533, 534, 535, 541, 543, 544, 545, 546, 547, 548, 551, 554, 559, 560, 561, 562, 563, 564, 565, 566, 567},
+      {512, 514, 515, 516, 517, 518, 519, 520, 522, 523, 536, 537, 538, 539, 540, 542, 549, 550, 555, 556, 557, 558},
+      {512, 514, 515, 516, 517, 518, 519, 520, 522, 523, 536, 537, 538, 539, 540, 542, 549, 550, 555, 556, 557, 558},
+      {512, 519, 520, 522, 523, 536, 537, 538, 539, 540, 542, 549, 550, 555, 556, 557, 558},
+      {512, 514, 515, 516, 517, 518, 519, 520, 522, 523, 524, 525, 526, 527, 528, 529, 530, 531, 532, 533, 534, 535, 536, 537, 538, 539, 540, 541, 542, 543, 544, 545, 546, 547, 548, 549, 551, 554, 558, 559, 560, 561, 562, 563, 564, 565, 566, 567},
+      {512, 514, 515, 516, 517, 518, 519, 520, 522, 523, 536, 537, 538, 539, 540, 542, 549, 550, 555, 556, 557, 558},
+      {512, 519, 520, 522, 523, 536, 542, 549, 550, 555, 556, 557, 558},
+      {512, 514, 515, 516, 517, 518, 519, 520, 522, 523, 524, 525, 526, 527, 528, 529, 530, 531, 532, 533, 534, 535, 536, 541, 542, 543, 544, 545, 546, 547, 548, 549, 550, 551, 554, 558, 559, 560, 561, 562, 563, 564, 565, 566, 567},
+      {512, 519, 520, 522, 523, 536, 542, 549, 550, 555, 556, 557},
+      {512, 519, 520, 522, 523, 536, 542, 550, 555, 556, 557}, {512, 568, 569}, {570, 571},
+      {572, 573, 574, 575, 576, 577, 578, 579, 580, 581, 582, 583, 584, 585, 586, 587, 588, 589, 590, 591, 592, 593, 594, 595, 596, 597, 598, 599},
+      {572, 600, 601, 602, 603, 604, 605, 606, 607, 608}, {609, 610, 611, 612, 613, 614, 615},
+      {616, 617, 618, 619, 620, 621, 622, 623, 624, 625, 626, 627, 628, 629, 630, 631, 632},
+      {616, 633, 634, 635, 636, 637, 638, 639, 640, 641, 642, 643, 644, 645, 646, 647, 648},
+      {616, 649, 650}, {651, 652, 653}, {654, 655}, {656, 657, 658, 659}, {656, 660, 661, 662, 663},
+      {664, 665, 666, 667, 668, 669, 670, 671}, {664, 665, 667, 668, 669, 670, 671}, {664},
+      {664, 665, 666, 667, 668, 669, 670, 671},
+      {664, 672, 673, 674, 675, 676, 677, 678, 679, 680, 681, 682, 683, 684, 685},
+      {686, 687, 688, 689, 690, 691, 692, 693, 694, 695, 696, 697, 698, 699, 700, 701, 702, 703, 704, 705, 706, 707, 708, 709, 710, 711, 712, 713, 714, 715, 716, 717, 718, 719, 720, 721, 722, 723, 724},
+      {686, 725, 726, 727, 728}, {729, 730, 731, 732, 733, 734},
+      {735, 736, 737, 738, 739, 740, 741, 742, 743, 744, 745, 746, 747, 748, 749, 750, 751, 752, 753, 754, 755, 756, 757},
+      {735, 736, 737, 738, 739, 740, 741, 742, 743, 744, 745, 746, 747, 748, 749, 750, 751, 752, 753, 754, 755, 756, 757},
+      {758, 759, 760, 761, 762, 763, 764, 765, 766, 767, 768},
+      {769, 770, 771, 772, 773, 774, 775, 776, 777, 778, 779, 780, 781, 782}, {783, 784, 785, 786},
+      {787, 788, 789, 790, 791, 792, 793, 794, 795, 796, 797, 798, 799, 800, 801, 802, 803, 804, 805, 806, 807, 808, 809, 810, 811, 812, 813, 814, 815, 816, 817, 818},
+      {819, 820, 821, 822, 823, 824, 825, 826, 827, 828, 829, 830, 831, 832},
+      {833, 834, 835, 836, 837, 838, 839}, {840, 841, 842}, {840}, {843, 844, 845},
+      {846, 847, 848, 849, 850, 851, 852, 853, 854, 855}, {856}, {857, 858, 859, 860, 861},
+      {862, 863, 864, 865, 866, 867, 868, 869, 870}, {862, 863, 864, 865, 866, 867, 868, 869, 870},
+      {871, 872, 873, 874, 875, 876, 877, 878, 879},
+      {880, 881, 882, 883, 884, 885, 886, 887, 888, 889, 890, 891, 892, 893, 894, 895, 896},
+      {880, 897, 898, 899, 900, 901}, {880, 902, 903}, {880, 904},
+      {905, 906, 907, 908, 909, 910, 911, 912, 913},
+      {914, 915, 916, 917, 918, 919, 920, 921, 922, 923, 924, 925, 926, 927},
+      {914, 928, 929, 930, 931, 932, 933, 934},
+      {935, 936, 937, 938, 939, 940, 941, 942, 943, 944, 945, 946, 947, 948, 949, 950, 951, 952, 953, 954},
+      {935, 936, 937, 938, 939, 940, 941, 942, 943, 944, 945, 946, 947, 948, 949, 950, 951, 952, 953, 954},
+      {955, 956, 957}, {958}, {959}, {960, 961, 962, 963, 964, 965, 966, 967},
+      {960, 961, 962, 963, 964, 965, 966, 967}, {968, 969, 970}, {971, 972, 973},
+      {974, 975, 976, 977, 978, 979, 980, 981, 982, 983, 984, 985, 986, 987, 988, 989, 990, 991, 992, 993, 994, 995, 996, 997, 998, 999, 1000, 1001, 1002, 1003, 1004, 1005, 1006, 1007, 1008, 1009, 1010, 1011, 1012, 1013, 1014, 1015, 1016, 1017},
+      {974, 975, 976, 977, 978, 979, 980, 981, 982, 983, 984, 985, 986, 987, 988, 989, 990, 991, 992, 993, 994, 995, 996, 997, 998, 999, 1000, 1001, 1002, 1003, 1004, 1005, 1006, 1007, 1008, 1009, 1010, 1018, 1011, 1012, 1013, 1014, 1015, 1016, 1017},
+      {1019, 1020, 1021, 1022, 1023, 1024, 1025, 1026, 1027, 1028}, {1019, 1029, 1030, 1031, 1032, 1033},
+      {1034, 1035}, {1034}, {1036, 1037, 1038}, {1039, 1040, 1041},
+      {1042, 1043, 1044, 1045, 1046, 1047, 1048, 1049, 1050}, {1042, 1051, 1052, 1053, 1054},
+      {1055, 1056, 1057, 1058, 1059, 1060}, {1061},
+      {1062, 1063, 1064, 1065, 1066, 1067, 1068, 1069, 1070, 1071, 1072, 1073, 1074, 1075, 1076, 1077},
+      {1078, 1079, 1080, 1081, 1082, 1083, 1084, 1085, 1086}, {1087, 1088}, {1089, 64},
+      {1089, 64, 1090, 1091, 1092}, {1089, 64, 1090, 1091, 1092},
+      {1089, 64, 1090, 1091, 1092, 1093, 1094, 1095}, {1089, 64, 1090, 1091}, {1096, 1097},
+      {1098, 1099, 1100, 1101, 1102, 1103, 1104}, {1098, 1099, 1100, 1101, 1102, 1103, 1104},
+      {1098, 1099, 1100, 1101, 1102, 1103, 1104},
+      {1105, 1106, 1107, 1108, 1109, 1110, 1111, 1112, 1113, 1114, 1115, 1116, 1117, 1118, 1119, 1120, 1121, 1122},
+      {1123, 1124, 1125, 1126},
+      {1127, 1128, 1129, 1130, 1131, 1132, 1133, 1134, 1135, 1136, 1137, 1138, 1139, 1140, 1141, 1142},
+      {1127, 1132, 1133, 1134, 1135, 1136, 1137, 1138, 1139, 1141, 1142}, {1127},
+      {1143, 1144, 1145, 1146, 1147, 1148, 1149, 1150, 1151, 1152, 1153},
+      {1154, 1155, 1156, 1157, 1158, 1159, 1160, 1161, 1162, 1163, 1164, 1165, 1166}, {1167},
+      {1168, 1169, 1170, 1171, 1172}, {1173, 1174, 1175, 1176}, {1177},
+      {1178, 1179, 1180, 1181, 1182, 1183, 1184, 1185, 1186, 1187, 1188}, {1189},
+      {1190, 1191, 1192, 1193}, {1194, 1195, 1196, 1197, 1198}, {1199, 1200, 1201, 1202, 1203, 1204},
+      {1199, 1200, 1201, 1202, 1203, 1204}, {1205, 1206, 1207, 1208, 1209}, {1210, 1211},
+      {1212, 1213, 1214, 1215, 1216},
+      {1217, 1218, 1219, 1220, 1221, 1222, 1223, 1224, 1225, 1226, 1227, 1228, 1229, 1230, 1231, 1232},
+      {1217, 1233, 1234, 1235, 1236, 1237, 1238, 1239, 1240, 1221, 1225, 1241, 1227, 1228, 1229, 1242, 1243, 1231, 1232},
+      {1244}, {1245, 1246, 1247}, {1245, 1248, 1249, 1250, 1251},
+      {1252, 1253, 1254, 1255, 1256, 1257, 1258, 1259, 1260, 1261, 1262, 1263},
+      {1252, 1253, 1254, 1255, 1256, 1257, 1258, 1259, 1260, 1261, 1262, 1263},
+      {1252, 1253, 1254, 1255, 1256, 1257, 1258, 1259, 1260, 1261, 1262, 1263},
+      {1252, 1253, 1254, 1255, 1256, 1257, 1258, 1259, 1260, 1261, 1262, 1263},
+      {1252, 1253, 1254, 1255, 1256, 1257, 1258, 1259, 1260, 1261, 1262, 1263},
+      {1252, 1253, 1254, 1255, 1256, 1257, 1258, 1259, 1260, 1261, 1262, 1263},
+      {1252, 1253, 1254, 1255, 1256, 1257, 1258, 1259, 1260, 1261, 1262, 1263},
+      {1252, 1253, 1254, 1255, 1256, 1257, 1258, 1259, 1260, 1261, 1262, 1263},
+      {1264, 1265, 1266, 1267, 1268, 1269, 1270, 1271, 1272, 1273, 1274}, {1275},
+      {1276, 1277, 1278, 1279, 1280, 1281, 1282, 1283}, {1284, 1285, 1286, 1287}, {1288},
+      {1289, 1290, 1291}, {1292}, {1293, 1294},
+    };
+  }
+
+  private static String[][] unitAliases()
+  {
+    return new String[][] {
+      {"m^3", "m3"}, {"us/f", "us/ft"}, {"I/32", "in/32"}, {"deg", "dega"}, {"g/cc", "g/cm3"},
+      {"lbm/gal", "lbm/galUS"}, {"ohmm", "ohm.m"}, {"meters", "m"}, {"0.1 in", "in/10"},
+      {"g/c3", "g/cm3"}, {"api", "gAPI"}, {"inch", "in"}, {"lbs", "lbm"}, {".1in", "in/10"},
+      {"KJ", "kJ"},
+    };
+  }
+
+  /**
+   * Display symbols and unit systems. These are not needed for finding
+   * units, and are held by a nested class so that they are initialized
+   * on first access rather than along with the unit tables.
+   */
+  static final class DisplayTables
+  {
+    /** Display symbols as unit symbol/display symbol pairs. */
+    final static String[][] DISPLAY_SYMBOLS = displaySymbols();
+
+    /** Unit system names. */
+    final static String[] UNIT_SYSTEM_NAMES = unitSystemNames();
+
+    /** Preferred unit symbols of each unit system, in the order of UNIT_SYSTEM_NAMES. */
+    final static String[][] UNIT_SYSTEM_UNITS = unitSystemUnits();
+
+    /**
+     * Private constructor to prevent client instantiation.
+     */
+    private DisplayTables()
+    {
+      assert false : "This constructor should never be called";
+    }
+
+    private static String[][] displaySymbols()
+    {
+      return new String[][] {
+        {"angstrom", "\u00e5ngstr\u00f6m"},
+      };
+    }
+
+    private static String[] unitSystemNames()
+    {
+      return new String[] {
+        "oilfield", "metric", "SI",
+      };
+    }
+
+    private static String[][] unitSystemUnits()
+    {
+      return new String[][] {
+        {"ft", "in", "degF", "psi", "psi/ft", "bbl", "bbl/d", "galUS/min", "lbm/galUS", "lbm", "klbf", "ft.lbf", "hp", "Btu", "ft/h", "degF/100ft", "mD", "cP"},
+        {"m", "degC", "bar", "bar/m", "m3", "m3/d", "L/min", "g/cm3", "t", "kN", "kN.m", "kW", "kJ", "m/h", "degC/100m", "mD", "cP"},
+        {},
+      };
+    }
+  }
+}
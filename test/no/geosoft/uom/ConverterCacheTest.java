@@ -0,0 +1,148 @@
+package no.geosoft.uom;
+
+import org.junit.jupiter.api.Assertions;
+
+import org.junit.jupiter.api.Test;
+
+import no.geosoft.cc.util.Random;
+
+/**
+ * Test the ConverterCache class.
+ *
+ * @author <a href="mailto:jacob.dreyer@geosoft.no">Jacob Dreyer</a>
+ */
+public final class ConverterCacheTest
+{
+  /**
+   * Test the ConverterCache.get() method.
+   */
+  @Test
+  public void testGet()
+  {
+    ConverterCache cache = new ConverterCache(16);
+
+    Converter converter = Converter.newInstance(0.3048, 0.0, 0.0, 1.0);
+
+    int[] nResolves = new int[1];
+    Converter c1 = cache.get("ft", "m", (from, to) -> { nResolves[0]++; return converter; });
+    Converter c2 = cache.get("ft", "m", (from, to) -> { nResolves[0]++; return null; });
+
+    Assertions.assertSame(converter, c1);
+    Assertions.assertSame(converter, c2);
+    Assertions.assertEquals(1, nResolves[0]);
+    Assertions.assertEquals(1, cache.getHitCount());
+    Assertions.assertEquals(1, cache.getMissCount());
+    Assertions.assertEquals(1, cache.size());
+
+    //
+    // Unresolved symbols are cached as well
+    //
+    String symbol = "?" + Random.getString();
+    Assertions.assertNull(cache.get(symbol, "m", (from, to) -> { nResolves[0]++; return null; }));
+    Assertions.assertNull(cache.get(symbol, "m", (from, to) -> { nResolves[0]++; return converter; }));
+    Assertions.assertEquals(2, nResolves[0]);
+
+    //
+    // Clear
+    //
+    cache.clear();
+    Assertions.assertEquals(0, cache.size());
+    Assertions.assertNull(cache.get("ft", "m", (from, to) -> null));
+
+    //
+    // Invalid arguments
+    //
+    try {
+      new ConverterCache(1);
+      Assertions.fail("Illegal argument");
+    }
+    catch (IllegalArgumentException exception) {
+      // Fine
+    }
+  }
+
+  /**
+   * Test that the cache stays bounded and keeps the most used entries.
+   */
+  @Test
+  public void testEviction()
+  {
+    int capacity = 32;
+    ConverterCache cache = new ConverterCache(capacity);
+
+    Converter converter = Converter.newInstance(2.0, 0.0, 0.0, 1.0);
+
+    // A frequently used pair among many rarely used ones
+    int nPairs = Random.getInteger(capacity * 2, capacity * 10);
+    for (int i = 0; i < nPairs; i++) {
+      cache.get("ft", "m", (from, to) -> converter);
+      cache.get("a" + i, "b" + i, (from, to) -> converter);
+      Assertions.assertTrue(cache.size() <= capacity);
+    }
+
+    Assertions.assertSame(converter, cache.get("ft", "m", (from, to) -> null));
+  }
+
+  /**
+   * Test that the cache stays bounded when used by many threads.
+   */
+  @Test
+  public void testConcurrentEviction() throws InterruptedException
+  {
+    int capacity = 16;
+    ConverterCache cache = new ConverterCache(capacity);
+
+    Converter converter = Converter.newInstance(2.0, 0.0, 0.0, 1.0);
+
+    // Many pairs, so eviction runs often while other threads look up
+    Thread[] threads = new Thread[4];
+    for (int t = 0; t < threads.length; t++) {
+      int offset = t * 250;
+      threads[t] = new Thread(() -> {
+        for (int i = 0; i < 20000; i++) {
+          int n = (offset + i * 7919) % 1000;
+          cache.get("a" + (n % 4), "b" + n, (from, to) -> converter);
+        }
+      });
+      threads[t].start();
+    }
+
+    for (Thread thread : threads)
+      thread.join();
+
+    // Any eviction left undone by the concurrent use is completed here
+    for (int i = 0; i < capacity * 2; i++)
+      cache.get("c" + i, "d" + i, (from, to) -> converter);
+
+    Assertions.assertTrue(cache.size() <= capacity, "Size: " + cache.size());
+  }
+
+  /**
+   * Test the UnitManager.getConverter(String,String) method.
+   */
+  @Test
+  public void testUnitManagerGetConverter()
+  {
+    UnitManager unitManager = UnitManager.getInstance();
+
+    Converter converter = unitManager.getConverter("ft", "m");
+    Assertions.assertNotNull(converter);
+    Assertions.assertEquals(0.3048, converter.convert(1.0), 1.0e-12);
+    Assertions.assertSame(converter, unitManager.getConverter("ft", "m"));
+
+    long nHits = unitManager.getConverterCacheHitCount();
+    Assertions.assertEquals(3.048, unitManager.convert("ft", "m", 10.0), 1.0e-12);
+    Assertions.assertEquals(nHits + 1, unitManager.getConverterCacheHitCount());
+
+    Assertions.assertNull(unitManager.getConverter("ft", "NotAUnit"));
+    Assertions.assertEquals(42.0, unitManager.convert("NotAUnit", "m", 42.0));
+
+    try {
+      unitManager.getConverter("ft", null);
+      Assertions.fail("Illegal argument");
+    }
+    catch (IllegalArgumentException exception) {
+      // Fine
+    }
+  }
+}
@@ -0,0 +1,780 @@
+package no.geosoft.uom;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.DoubleStream;
+import java.util.stream.StreamSupport;
+
+import org.junit.jupiter.api.Assertions;
+
+import org.junit.jupiter.api.Test;
+
+import no.geosoft.cc.util.Random;
+
+/**
+ * Test the Converter class.
+ *
+ * @author <a href="mailto:jacob.dreyer@geosoft.no">Jacob Dreyer</a>
+ */
+public final class ConverterTest
+{
+  /**
+   * Test the UnitManager.getConverter() method.
+   */
+  @Test
+  public void testGetConverter()
+  {
+    UnitManager unitManager = UnitManager.getInstance();
+
+    Quantity quantity = Random.getElement(unitManager.getQuantities());
+    Unit unit = Random.getElement(quantity.getUnits());
+
+    Assertions.assertNotNull(UnitManager.getConverter(unit, unit));
+
+    //
+    // Invalid arguments
+    //
+    try {
+      UnitManager.getConverter(null, unit);
+      Assertions.fail("Illegal argument");
+    }
+    catch (IllegalArgumentException exception) {
+      // Fine
+    }
+
+    try {
+      UnitManager.getConverter(unit, null);
+      Assertions.fail("Illegal argument");
+    }
+    catch (IllegalArgumentException exception) {
+      // Fine
+    }
+  }
+
+  /**
+   * Test the Converter.convert() method.
+   */
+  @Test
+  public void testConvert()
+  {
+    UnitManager unitManager = UnitManager.getInstance();
+
+    //
+    // Verify that the converter gives the same result as conversion
+    // through the base unit for all convertible units
+    //
+    for (Quantity quantity : unitManager.getQuantities()) {
+      for (Unit unit1 : quantity.getUnits()) {
+        for (Unit unit2 : quantity.getUnits()) {
+          Converter converter = UnitManager.getConverter(unit1, unit2);
+
+          double value = Random.getDouble(-1000.0, +1000.0);
+          double expected = UnitManager.convert(unit1, unit2, value);
+          double actual = converter.convert(value);
+
+          if (Double.isFinite(expected))
+            Assertions.assertEquals(expected, actual, Math.abs(expected) * 1.0e-9 + 1.0e-12, unit1 + " -> " + unit2);
+        }
+      }
+    }
+
+    //
+    // Some known conversions
+    //
+    Unit ft = unitManager.findUnit("ft");
+    Unit m = unitManager.findUnit("m");
+    Unit degF = unitManager.findUnit("degF");
+    Unit degC = unitManager.findUnit("degC");
+
+    Assertions.assertEquals(0.3048, UnitManager.getConverter(ft, m).convert(1.0));
+    Assertions.assertEquals(100.0, UnitManager.getConverter(degF, degC).convert(212.0), 1.0e-12);
+    Assertions.assertEquals(212.0, UnitManager.getConverter(degC, degF).convert(100.0), 1.0e-12);
+  }
+
+  /**
+   * Test the Converter.isIdentity() method.
+   */
+  @Test
+  public void testIsIdentity()
+  {
+    UnitManager unitManager = UnitManager.getInstance();
+
+    for (Quantity quantity : unitManager.getQuantities()) {
+      for (Unit unit : quantity.getUnits()) {
+        Converter converter = UnitManager.getConverter(unit, unit);
+        Assertions.assertTrue(converter.isIdentity());
+
+        double value = Random.getDouble();
+        Assertions.assertEquals(value, converter.convert(value));
+      }
+    }
+
+    Unit ft = unitManager.findUnit("ft");
+    Unit m = unitManager.findUnit("m");
+    Assertions.assertFalse(UnitManager.getConverter(ft, m).isIdentity());
+  }
+
+  /**
+   * Test the Converter.andThen() and Converter.compose() methods.
+   */
+  @Test
+  public void testAndThen()
+  {
+    UnitManager unitManager = UnitManager.getInstance();
+
+    for (int i = 0; i < 1000; i++) {
+      Quantity quantity = Random.getElement(unitManager.getQuantities());
+      Unit unit1 = Random.getElement(quantity.getUnits());
+      Unit unit2 = Random.getElement(quantity.getUnits());
+      Unit unit3 = Random.getElement(quantity.getUnits());
+
+      Converter converter1 = UnitManager.getConverter(unit1, unit2);
+      Converter converter2 = UnitManager.getConverter(unit2, unit3);
+
+      Converter chain = converter1.andThen(converter2);
+      Converter composed = converter2.compose(converter1);
+
+      double value = Random.getDouble(-1000.0, 1000.0);
+      double expected = converter2.convert(converter1.convert(value));
+      double tolerance = 1.0e-9 * Math.max(1.0, Math.abs(expected));
+
+      if (Double.isFinite(expected)) {
+        Assertions.assertEquals(expected, chain.convert(value), tolerance);
+        Assertions.assertEquals(expected, composed.convert(value), tolerance);
+      }
+    }
+
+    //
+    // Exact round trip for linear units
+    //
+    Unit ft = unitManager.findUnit("ft");
+    Unit m = unitManager.findUnit("m");
+    Unit km = unitManager.findUnit("km");
+
+    Converter chain = UnitManager.getConverter(ft, m).andThen(UnitManager.getConverter(m, km));
+    Assertions.assertEquals(0.0003048, chain.convert(1.0), 1.0e-15);
+
+    Converter identity = UnitManager.getConverter(ft, ft);
+    Converter converter = UnitManager.getConverter(ft, m);
+    Assertions.assertSame(converter, identity.andThen(converter));
+    Assertions.assertSame(converter, converter.andThen(identity));
+
+    //
+    // Invalid arguments
+    //
+    try {
+      converter.andThen(null);
+      Assertions.fail("Illegal argument");
+    }
+    catch (IllegalArgumentException exception) {
+      // Fine
+    }
+
+    try {
+      converter.compose(null);
+      Assertions.fail("Illegal argument");
+    }
+    catch (IllegalArgumentException exception) {
+      // Fine
+    }
+  }
+
+  /**
+   * Test the Converter.convert(double[],int,double[],int,int) and
+   * Converter.convert(double[]) methods.
+   */
+  @Test
+  public void testConvertArray()
+  {
+    UnitManager unitManager = UnitManager.getInstance();
+
+    //
+    // Verify that bulk conversion gives the same result as value by value
+    // conversion, also in place
+    //
+    for (int i = 0; i < 1000; i++) {
+      Quantity quantity = Random.getElement(unitManager.getQuantities());
+      Unit unit1 = Random.getElement(quantity.getUnits());
+      Unit unit2 = Random.getElement(quantity.getUnits());
+      Converter converter = UnitManager.getConverter(unit1, unit2);
+
+      int length = Random.getInteger(0, 100);
+      int sourceOffset = Random.getInteger(0, 10);
+      int destinationOffset = Random.getInteger(0, 10);
+
+      double[] source = new double[sourceOffset + length];
+      for (int j = 0; j < source.length; j++)
+        source[j] = Random.getDouble();
+
+      double[] destination = new double[destinationOffset + length];
+      UnitManager.convert(unit1, unit2, source, sourceOffset, destination, destinationOffset, length);
+
+      for (int j = 0; j < length; j++)
+        Assertions.assertEquals(converter.convert(source[sourceOffset + j]), destination[destinationOffset + j]);
+
+      double[] values = source.clone();
+      UnitManager.convert(unit1, unit2, values);
+
+      for (int j = 0; j < values.length; j++)
+        Assertions.assertEquals(converter.convert(source[j]), values[j]);
+    }
+
+    //
+    // Invalid arguments
+    //
+    Converter converter = UnitManager.getConverter(unitManager.findUnit("ft"), unitManager.findUnit("m"));
+
+    try {
+      converter.convert(null, 0, new double[10], 0, 10);
+      Assertions.fail("Illegal argument");
+    }
+    catch (IllegalArgumentException exception) {
+      // Fine
+    }
+
+    try {
+      converter.convert(new double[10], 0, new double[10], 1, 10);
+      Assertions.fail("Illegal argument");
+    }
+    catch (IndexOutOfBoundsException exception) {
+      // Fine
+    }
+
+    try {
+      converter.convert(new double[10], -1, new double[10], 0, 5);
+      Assertions.fail("Illegal argument");
+    }
+    catch (IndexOutOfBoundsException exception) {
+      // Fine
+    }
+  }
+
+  /**
+   * Test the Converter.convert(float[],int,float[],int,int) and
+   * Converter.convert(float[]) methods.
+   */
+  @Test
+  public void testConvertFloatArray()
+  {
+    UnitManager unitManager = UnitManager.getInstance();
+
+    //
+    // Verify that single precision conversion is identical to double
+    // precision conversion rounded to float
+    //
+    for (int i = 0; i < 1000; i++) {
+      Quantity quantity = Random.getElement(unitManager.getQuantities());
+      Unit unit1 = Random.getElement(quantity.getUnits());
+      Unit unit2 = Random.getElement(quantity.getUnits());
+      Converter converter = UnitManager.getConverter(unit1, unit2);
+
+      int length = Random.getInteger(0, 100);
+      int sourceOffset = Random.getInteger(0, 10);
+      int destinationOffset = Random.getInteger(0, 10);
+
+      float[] source = new float[sourceOffset + length];
+      for (int j = 0; j < source.length; j++)
+        source[j] = (float) Random.getDouble();
+
+      float[] destination = new float[destinationOffset + length];
+      UnitManager.convert(unit1, unit2, source, sourceOffset, destination, destinationOffset, length);
+
+      for (int j = 0; j < length; j++)
+        Assertions.assertEquals((float) converter.convert(source[sourceOffset + j]), destination[destinationOffset + j], 0.0f);
+
+      float[] values = source.clone();
+      UnitManager.convert(unit1, unit2, values);
+
+      for (int j = 0; j < values.length; j++)
+        Assertions.assertEquals((float) converter.convert(source[j]), values[j], 0.0f);
+    }
+
+    //
+    // Invalid arguments
+    //
+    Converter converter = UnitManager.getConverter(unitManager.findUnit("ft"), unitManager.findUnit("m"));
+
+    try {
+      converter.convert((float[]) null);
+      Assertions.fail("Illegal argument");
+    }
+    catch (IllegalArgumentException exception) {
+      // Fine
+    }
+
+    try {
+      converter.convert(new float[10], 5, new float[10], 0, 6);
+      Assertions.fail("Illegal argument");
+    }
+    catch (IndexOutOfBoundsException exception) {
+      // Fine
+    }
+  }
+
+  /**
+   * Test the Converter.convert(DoubleBuffer) and Converter.convert(FloatBuffer)
+   * methods.
+   */
+  @Test
+  public void testConvertBuffer()
+  {
+    UnitManager unitManager = UnitManager.getInstance();
+    Converter converter = UnitManager.getConverter(unitManager.findUnit("degF"), unitManager.findUnit("degC"));
+
+    for (ByteOrder byteOrder : new ByteOrder[] {ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN}) {
+      int n = 3000;
+
+      double[] values = new double[n];
+      for (int i = 0; i < n; i++)
+        values[i] = Random.getDouble();
+
+      DoubleBuffer doubleBuffer = ByteBuffer.allocateDirect(n * Double.BYTES).order(byteOrder).asDoubleBuffer();
+      doubleBuffer.put(values);
+      doubleBuffer.position(10);
+
+      converter.convert(doubleBuffer);
+
+      Assertions.assertEquals(10, doubleBuffer.position());
+      for (int i = 0; i < n; i++)
+        Assertions.assertEquals(i < 10 ? values[i] : converter.convert(values[i]), doubleBuffer.get(i));
+
+      FloatBuffer floatBuffer = FloatBuffer.allocate(n);
+      for (int i = 0; i < n; i++)
+        floatBuffer.put(i, (float) values[i]);
+
+      converter.convert(floatBuffer);
+
+      for (int i = 0; i < n; i++)
+        Assertions.assertEquals((float) converter.convert((float) values[i]), floatBuffer.get(i), 0.0f);
+    }
+  }
+
+  /**
+   * Test the Converter.convertDoubles() and Converter.convertFloats() methods.
+   */
+  @Test
+  public void testConvertByteBuffer()
+  {
+    UnitManager unitManager = UnitManager.getInstance();
+    Converter converter = UnitManager.getConverter(unitManager.findUnit("ft"), unitManager.findUnit("m"));
+
+    for (ByteOrder byteOrder : new ByteOrder[] {ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN}) {
+      int n = 2500;
+      int offset = Random.getInteger(0, 16);
+      int stride = Double.BYTES + Random.getInteger(0, 8);
+
+      //
+      // Interleaved doubles with random data in between
+      //
+      ByteBuffer buffer = ByteBuffer.allocateDirect(offset + n * stride).order(byteOrder);
+      for (int i = 0; i < buffer.capacity(); i++)
+        buffer.put(i, (byte) Random.getInteger(0, 255));
+
+      ByteBuffer expected = ByteBuffer.allocate(buffer.capacity()).order(byteOrder);
+      for (int i = 0; i < buffer.capacity(); i++)
+        expected.put(i, buffer.get(i));
+
+      for (int i = 0; i < n; i++) {
+        int index = offset + i * stride;
+        double value = Random.getDouble();
+        buffer.putDouble(index, value);
+        expected.putDouble(index, converter.convert(value));
+      }
+
+      // Byte order of the buffer itself should not matter
+      buffer.order(byteOrder == ByteOrder.BIG_ENDIAN ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+
+      converter.convertDoubles(buffer, byteOrder, offset, stride, n);
+
+      for (int i = 0; i < buffer.capacity(); i++)
+        Assertions.assertEquals(expected.get(i), buffer.get(i));
+
+      //
+      // Consecutive floats
+      //
+      ByteBuffer floatBuffer = ByteBuffer.allocate(n * Float.BYTES).order(byteOrder);
+      float[] values = new float[n];
+      for (int i = 0; i < n; i++) {
+        values[i] = (float) Random.getDouble();
+        floatBuffer.putFloat(i * Float.BYTES, values[i]);
+      }
+
+      converter.convertFloats(floatBuffer, byteOrder, 0, Float.BYTES, n);
+      converter.convert(values);
+
+      for (int i = 0; i < n; i++)
+        Assertions.assertEquals(values[i], floatBuffer.getFloat(i * Float.BYTES), 0.0f);
+    }
+
+    //
+    // Invalid arguments
+    //
+    ByteBuffer buffer = ByteBuffer.allocate(80);
+
+    try {
+      converter.convertDoubles(buffer, null, 0, 8, 10);
+      Assertions.fail("Illegal argument");
+    }
+    catch (IllegalArgumentException exception) {
+      // Fine
+    }
+
+    try {
+      converter.convertDoubles(buffer, ByteOrder.BIG_ENDIAN, 0, 4, 10);
+      Assertions.fail("Illegal argument");
+    }
+    catch (IllegalArgumentException exception) {
+      // Fine
+    }
+
+    try {
+      converter.convertDoubles(buffer, ByteOrder.BIG_ENDIAN, 1, 8, 10);
+      Assertions.fail("Illegal argument");
+    }
+    catch (IndexOutOfBoundsException exception) {
+      // Fine
+    }
+  }
+
+  /**
+   * Test the Converter.convertDoubles(Path,...) and Converter.convertFloats(Path,...)
+   * methods.
+   */
+  @Test
+  public void testConvertFile()
+    throws IOException
+  {
+    UnitManager unitManager = UnitManager.getInstance();
+    Converter converter = UnitManager.getConverter(unitManager.findUnit("psi"), unitManager.findUnit("bar"));
+
+    Path file = Files.createTempFile("uom", ".dat");
+
+    try {
+      for (ByteOrder byteOrder : new ByteOrder[] {ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN}) {
+        //
+        // Two columns, double and float, after a 16 byte header
+        //
+        int n = 1000;
+        int offset = 16;
+        int stride = Double.BYTES + Float.BYTES;
+
+        ByteBuffer content = ByteBuffer.allocate(offset + n * stride).order(byteOrder);
+        double[] doubles = new double[n];
+        float[] floats = new float[n];
+        for (int i = 0; i < n; i++) {
+          doubles[i] = Random.getDouble();
+          floats[i] = (float) Random.getDouble();
+          content.putDouble(offset + i * stride, doubles[i]);
+          content.putFloat(offset + i * stride + Double.BYTES, floats[i]);
+        }
+
+        Files.write(file, content.array());
+
+        converter.convertDoubles(file, byteOrder, offset, stride, n);
+        converter.convertFloats(file, byteOrder, offset + Double.BYTES, stride, n);
+
+        converter.convert(doubles);
+        converter.convert(floats);
+
+        ByteBuffer result = ByteBuffer.wrap(Files.readAllBytes(file)).order(byteOrder);
+        Assertions.assertEquals(content.capacity(), result.capacity());
+
+        for (int i = 0; i < offset; i++)
+          Assertions.assertEquals(content.get(i), result.get(i));
+
+        for (int i = 0; i < n; i++) {
+          Assertions.assertEquals(doubles[i], result.getDouble(offset + i * stride));
+          Assertions.assertEquals(floats[i], result.getFloat(offset + i * stride + Double.BYTES), 0.0f);
+        }
+
+        //
+        // Out of range
+        //
+        try {
+          converter.convertDoubles(file, byteOrder, offset, stride, n + 1);
+          Assertions.fail("Illegal argument");
+        }
+        catch (IndexOutOfBoundsException exception) {
+          // Fine
+        }
+      }
+    }
+    finally {
+      Files.delete(file);
+    }
+  }
+
+  /**
+   * Test that a file converted in many mapped chunks reads back converted
+   * once the conversion has returned, with no value lost or converted twice
+   * at the chunk boundaries.
+   */
+  @Test
+  public void testConvertFileInChunks()
+    throws IOException
+  {
+    UnitManager unitManager = UnitManager.getInstance();
+    Converter converter = UnitManager.getConverter(unitManager.findUnit("ft"), unitManager.findUnit("m"));
+
+    Path file = Files.createTempFile("uom", ".dat");
+
+    try {
+      int n = Random.getInteger(1000, 10000);
+      int offset = Random.getInteger(0, 100);
+      int stride = 12;
+
+      // Chunks that are not a multiple of the stride
+      int chunkSize = Random.getInteger(stride, 1000);
+
+      ByteBuffer content = ByteBuffer.allocate(offset + n * stride).order(ByteOrder.LITTLE_ENDIAN);
+      double[] doubles = new double[n];
+      for (int i = 0; i < n; i++) {
+        doubles[i] = Random.getDouble(-1000.0, 1000.0);
+        content.putDouble(offset + i * stride, doubles[i]);
+        content.putInt(offset + i * stride + Double.BYTES, i);
+      }
+
+      Files.write(file, content.array());
+
+      converter.convertFile(file, ByteOrder.LITTLE_ENDIAN, offset, stride, n, Double.BYTES, chunkSize);
+
+      converter.convert(doubles);
+
+      ByteBuffer result = ByteBuffer.wrap(Files.readAllBytes(file)).order(ByteOrder.LITTLE_ENDIAN);
+      Assertions.assertEquals(content.capacity(), result.capacity());
+
+      for (int i = 0; i < n; i++) {
+        Assertions.assertEquals(doubles[i], result.getDouble(offset + i * stride));
+        Assertions.assertEquals(i, result.getInt(offset + i * stride + Double.BYTES));
+      }
+    }
+    finally {
+      Files.delete(file);
+    }
+  }
+
+  /**
+   * Test the Converter.convertParallel() methods.
+   */
+  @Test
+  public void testConvertParallel()
+  {
+    UnitManager unitManager = UnitManager.getInstance();
+    ForkJoinPool pool = new ForkJoinPool(4);
+
+    try {
+      for (int i = 0; i < 20; i++) {
+        Quantity quantity = Random.getElement(unitManager.getQuantities());
+        Unit unit1 = Random.getElement(quantity.getUnits());
+        Unit unit2 = Random.getElement(quantity.getUnits());
+        Converter converter = UnitManager.getConverter(unit1, unit2);
+
+        int length = Random.getInteger(0, 100000);
+        int threshold = Random.getInteger(1, 5000);
+
+        double[] source = new double[length];
+        float[] floatSource = new float[length];
+        for (int j = 0; j < length; j++) {
+          source[j] = Random.getDouble();
+          floatSource[j] = (float) source[j];
+        }
+
+        //
+        // Verify that the result is identical to the sequential one
+        //
+        double[] expected = new double[length];
+        converter.convert(source, 0, expected, 0, length);
+
+        double[] actual = new double[length];
+        converter.convertParallel(source, 0, actual, 0, length, pool, threshold);
+        Assertions.assertArrayEquals(expected, actual);
+
+        double[] values = source.clone();
+        UnitManager.convertParallel(unit1, unit2, values);
+        Assertions.assertArrayEquals(expected, values);
+
+        float[] floatExpected = floatSource.clone();
+        converter.convert(floatExpected);
+
+        float[] floatValues = floatSource.clone();
+        converter.convertParallel(floatValues, 0, floatValues, 0, length, pool, threshold);
+        Assertions.assertArrayEquals(floatExpected, floatValues);
+      }
+    }
+    finally {
+      pool.shutdown();
+    }
+
+    //
+    // Invalid arguments
+    //
+    Converter converter = UnitManager.getConverter(unitManager.findUnit("ft"), unitManager.findUnit("m"));
+
+    try {
+      converter.convertParallel(new double[10], 0, new double[10], 0, 10, null, 0);
+      Assertions.fail("Illegal argument");
+    }
+    catch (IllegalArgumentException exception) {
+      // Fine
+    }
+  }
+
+  /**
+   * Test the Converter.convert() methods with null values.
+   */
+  @Test
+  public void testConvertWithNullValues()
+  {
+    UnitManager unitManager = UnitManager.getInstance();
+    Converter converter = UnitManager.getConverter(unitManager.findUnit("ft"), unitManager.findUnit("m"));
+
+    double[] nullValues = {-999.25, -9999.0, Double.NaN};
+
+    int n = 5000;
+    double[] source = new double[n];
+    float[] floatSource = new float[n];
+    for (int i = 0; i < n; i++) {
+      source[i] = Random.getInteger(0, 3) == 0 ? nullValues[Random.getInteger(0, 2)] : Random.getDouble();
+      floatSource[i] = (float) source[i];
+    }
+
+    //
+    // Into a separate array
+    //
+    double[] destination = new double[n];
+    converter.convert(source, 0, destination, 0, n, nullValues);
+
+    for (int i = 0; i < n; i++) {
+      boolean isNull = source[i] == -999.25 || source[i] == -9999.0 || Double.isNaN(source[i]);
+      Assertions.assertEquals(isNull ? source[i] : converter.convert(source[i]), destination[i]);
+    }
+
+    //
+    // In place
+    //
+    double[] values = source.clone();
+    converter.convert(values, 0, values, 0, n, nullValues);
+    Assertions.assertArrayEquals(destination, values);
+
+    values = source.clone();
+    UnitManager.convert(unitManager.findUnit("ft"), unitManager.findUnit("m"), values, -999.25);
+    for (int i = 0; i < n; i++)
+      Assertions.assertEquals(source[i] == -999.25 ? -999.25 : converter.convert(source[i]), values[i]);
+
+    //
+    // Single precision
+    //
+    float[] floatValues = floatSource.clone();
+    converter.convert(floatValues, 0, floatValues, 0, n, new float[] {-999.25f, -9999.0f, Float.NaN});
+
+    for (int i = 0; i < n; i++) {
+      boolean isNull = floatSource[i] == -999.25f || floatSource[i] == -9999.0f || Float.isNaN(floatSource[i]);
+      Assertions.assertEquals(isNull ? floatSource[i] : (float) converter.convert(floatSource[i]), floatValues[i], 0.0f);
+    }
+
+    //
+    // Single NaN null value and a non-scale conversion
+    //
+    Converter affineConverter = UnitManager.getConverter(unitManager.findUnit("degF"), unitManager.findUnit("degC"));
+
+    values = source.clone();
+    affineConverter.convert(values, 0, values, 0, n, new double[] {Double.NaN});
+    for (int i = 0; i < n; i++)
+      Assertions.assertEquals(Double.isNaN(source[i]) ? source[i] : affineConverter.convert(source[i]), values[i]);
+
+    floatValues = floatSource.clone();
+    affineConverter.convert(floatValues, 0, floatValues, 0, n, new float[] {-999.25f});
+    for (int i = 0; i < n; i++)
+      Assertions.assertEquals(floatSource[i] == -999.25f ? floatSource[i] : (float) affineConverter.convert(floatSource[i]), floatValues[i], 0.0f);
+
+    //
+    // Invalid arguments
+    //
+    try {
+      converter.convert(source, 0, destination, 0, n, (double[]) null);
+      Assertions.fail("Illegal argument");
+    }
+    catch (IllegalArgumentException exception) {
+      // Fine
+    }
+  }
+
+  /**
+   * Test the Converter.convert(Spliterator.OfDouble) and
+   * Converter.convert(DoubleStream) methods.
+   */
+  @Test
+  public void testConvertSpliterator()
+  {
+    UnitManager unitManager = UnitManager.getInstance();
+    Converter converter = UnitManager.getConverter(unitManager.findUnit("ft"), unitManager.findUnit("m"));
+
+    int n = Random.getInteger(1000, 100000);
+    double[] values = new double[n];
+    for (int i = 0; i < n; i++)
+      values[i] = Random.getDouble();
+
+    double[] expected = values.clone();
+    converter.convert(expected);
+
+    //
+    // Spliterator
+    //
+    Spliterator.OfDouble spliterator = converter.convert(Arrays.spliterator(values));
+    Assertions.assertEquals(n, spliterator.getExactSizeIfKnown());
+    Assertions.assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+    Assertions.assertTrue(spliterator.hasCharacteristics(Spliterator.SUBSIZED));
+    Assertions.assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED));
+
+    Spliterator.OfDouble prefix = spliterator.trySplit();
+    Assertions.assertNotNull(prefix);
+    Assertions.assertEquals(n, prefix.estimateSize() + spliterator.estimateSize());
+
+    double[] result = new double[n];
+    int[] index = new int[1];
+    Assertions.assertTrue(prefix.tryAdvance((double value) -> result[index[0]++] = value));
+    prefix.forEachRemaining((double value) -> result[index[0]++] = value);
+    spliterator.forEachRemaining((double value) -> result[index[0]++] = value);
+    Assertions.assertFalse(spliterator.tryAdvance((double value) -> result[0] = value));
+    Assertions.assertArrayEquals(expected, result);
+
+    //
+    // Parallel stream
+    //
+    double[] streamed = StreamSupport.doubleStream(converter.convert(Arrays.spliterator(values)), true).toArray();
+    Assertions.assertArrayEquals(expected, streamed);
+
+    streamed = converter.convert(DoubleStream.of(values).parallel()).toArray();
+    Assertions.assertArrayEquals(expected, streamed);
+
+    streamed = DoubleStream.of(values).map(converter).toArray();
+    Assertions.assertArrayEquals(expected, streamed);
+
+    //
+    // Invalid arguments
+    //
+    try {
+      converter.convert((Spliterator.OfDouble) null);
+      Assertions.fail("Illegal argument");
+    }
+    catch (IllegalArgumentException exception) {
+      // Fine
+    }
+
+    try {
+      converter.convert((DoubleStream) null);
+      Assertions.fail("Illegal argument");
+    }
+    catch (IllegalArgumentException exception) {
+      // Fine
+    }
+  }
+}
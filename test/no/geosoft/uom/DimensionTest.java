@@ -0,0 +1,168 @@
+package no.geosoft.uom;
+
+import org.junit.jupiter.api.Assertions;
+
+import org.junit.jupiter.api.Test;
+
+import no.geosoft.cc.util.Random;
+
+/**
+ * Test the Dimension class.
+ *
+ * @author <a href="mailto:jacob.dreyer@geosoft.no">Jacob Dreyer</a>
+ */
+public final class DimensionTest
+{
+  /**
+   * Test the Dimension.parse() method.
+   */
+  @Test
+  public void testParse()
+  {
+    Dimension energy = Dimension.parse("L2M/T2");
+    Assertions.assertEquals(2, energy.getExponent('L'));
+    Assertions.assertEquals(1, energy.getExponent('M'));
+    Assertions.assertEquals(-2, energy.getExponent('T'));
+    Assertions.assertEquals(0, energy.getExponent('K'));
+    Assertions.assertEquals("L2M/T2", energy.toString());
+
+    Dimension capacitance = Dimension.parse("C2T2/L2M");
+    Assertions.assertEquals(2, capacitance.getExponent('C'));
+    Assertions.assertEquals(-2, capacitance.getExponent('L'));
+    Assertions.assertEquals(capacitance, Dimension.parse(capacitance.toString()));
+
+    Assertions.assertEquals(-1, Dimension.parse("1/K").getExponent('K'));
+    Assertions.assertEquals("1/K", Dimension.parse("1/K").toString());
+
+    Assertions.assertSame(Dimension.NONE, Dimension.parse("1"));
+    Assertions.assertTrue(Dimension.parse("L/L").isDimensionless());
+    Assertions.assertEquals("1", Dimension.NONE.toString());
+
+    //
+    // Invalid arguments
+    //
+    for (String text : new String[] {"", "U", "L//T", "1/", "L/T/M", "L2x"}) {
+      try {
+        Dimension.parse(text);
+        Assertions.fail("Illegal argument: " + text);
+      }
+      catch (IllegalArgumentException exception) {
+        // Fine
+      }
+    }
+
+    try {
+      Dimension.parse(null);
+      Assertions.fail("Illegal argument");
+    }
+    catch (IllegalArgumentException exception) {
+      // Fine
+    }
+  }
+
+  /**
+   * Test the Dimension.multiply(), divide() and power() methods.
+   */
+  @Test
+  public void testArithmetic()
+  {
+    Dimension length = Dimension.parse("L");
+    Dimension time = Dimension.parse("T");
+    Dimension mass = Dimension.parse("M");
+
+    Dimension velocity = length.divide(time);
+    Assertions.assertEquals(Dimension.parse("L/T"), velocity);
+
+    Dimension energy = mass.multiply(velocity.power(2));
+    Assertions.assertEquals(Dimension.parse("L2M/T2"), energy);
+    Assertions.assertEquals(energy.hashCode(), Dimension.parse("ML2/T2").hashCode());
+
+    int power = Random.getInteger(-20, 20);
+    Dimension dimension = Dimension.parse("L3M/T2K");
+    Assertions.assertEquals(3 * power, dimension.power(power).getExponent('L'));
+    Assertions.assertEquals(-power, dimension.power(power).getExponent('K'));
+    Assertions.assertTrue(dimension.divide(dimension).isDimensionless());
+    Assertions.assertEquals(dimension, dimension.multiply(Dimension.NONE));
+
+    //
+    // Invalid arguments
+    //
+    try {
+      length.power(100);
+      Assertions.fail("Illegal argument");
+    }
+    catch (IllegalArgumentException exception) {
+      // Fine
+    }
+
+    try {
+      length.getExponent('X');
+      Assertions.fail("Illegal argument");
+    }
+    catch (IllegalArgumentException exception) {
+      // Fine
+    }
+  }
+
+  /**
+   * Find the unit of the specified symbol in the given quantity.
+   *
+   * @param quantity    Quantity to search. Non-null.
+   * @param unitSymbol  Symbol of unit to find. Non-null.
+   * @return            The requested unit. Never null.
+   */
+  private static Unit findUnit(Quantity quantity, String unitSymbol)
+  {
+    for (Unit unit : quantity.getUnits()) {
+      if (unit.getSymbol().equals(unitSymbol))
+        return unit;
+    }
+
+    Assertions.fail("Unit not found: " + unitSymbol);
+    return null;
+  }
+
+  /**
+   * Test the dimensions of the units of the unit manager.
+   */
+  @Test
+  public void testUnitDimensions()
+  {
+    UnitManager unitManager = UnitManager.getInstance();
+
+    // Units are found through their quantities, as other tests add random aliases
+    Unit ft = findUnit(unitManager.findQuantity("length"), "ft");
+    Unit m = findUnit(unitManager.findQuantity("length"), "m");
+    Unit s = findUnit(unitManager.findQuantity("time"), "s");
+
+    Assertions.assertEquals(Dimension.parse("L"), ft.getDimension());
+    Assertions.assertTrue(ft.hasSameDimension(m));
+    Assertions.assertFalse(ft.hasSameDimension(s));
+
+    // All units of a quantity has the same dimension as the base unit,
+    // except for frequency which holds both cycles and angles per time
+    for (Quantity quantity : unitManager.getQuantities()) {
+      Unit baseUnit = quantity.getBaseUnit();
+      if (baseUnit == null || baseUnit.getDimension() == null || quantity.getName().equals("frequency"))
+        continue;
+
+      for (Unit unit : quantity.getUnits()) {
+        if (unit.getDimension() != null)
+          Assertions.assertTrue(unit.hasSameDimension(baseUnit), quantity.getName() + ": " + unit);
+      }
+    }
+
+    // Units of unknown dimension
+    Unit unit = new Unit("name", "symbol", 1.0, 0.0, 0.0, 1.0);
+    Assertions.assertNull(unit.getDimension());
+    Assertions.assertFalse(unit.hasSameDimension(unit));
+
+    try {
+      ft.hasSameDimension(null);
+      Assertions.fail("Illegal argument");
+    }
+    catch (IllegalArgumentException exception) {
+      // Fine
+    }
+  }
+}
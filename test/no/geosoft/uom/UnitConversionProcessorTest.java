@@ -0,0 +1,262 @@
+package no.geosoft.uom;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Assertions;
+
+import org.junit.jupiter.api.Test;
+
+import no.geosoft.cc.util.Random;
+
+/**
+ * Test the UnitConversionProcessor class.
+ *
+ * @author <a href="mailto:jacob.dreyer@geosoft.no">Jacob Dreyer</a>
+ */
+public final class UnitConversionProcessorTest
+{
+  /**
+   * Test the UnitConversionProcessor.convert() method.
+   */
+  @Test
+  public void testConvert()
+  {
+    UnitManager unitManager = UnitManager.getInstance();
+
+    Map<String,String> targetUnits = new HashMap<>();
+    targetUnits.put("DEPTH", "m");
+    targetUnits.put("TEMP", "degC");
+
+    UnitConversionProcessor processor = new UnitConversionProcessor(unitManager, targetUnits);
+    Assertions.assertEquals("m", processor.getTargetUnitSymbol("DEPTH"));
+    Assertions.assertNull(processor.getTargetUnitSymbol("GR"));
+
+    double depth = Random.getDouble(0.0, 30000.0);
+    double gr = Random.getDouble(0.0, 200.0);
+
+    List<ChannelSample> batch = new ArrayList<>();
+    batch.add(new ChannelSample("DEPTH", depth, "ft"));
+    batch.add(new ChannelSample("TEMP", 212.0, "degF"));
+    batch.add(new ChannelSample("GR", gr, "gAPI"));
+    batch.add(new ChannelSample("DEPTH", depth, "NotAUnit"));
+
+    List<ChannelSample> converted = processor.convert(batch);
+    Assertions.assertEquals(batch.size(), converted.size());
+
+    Assertions.assertEquals("m", converted.get(0).getUnitSymbol());
+    Assertions.assertEquals(depth * 0.3048, converted.get(0).getValue(), 1.0e-9);
+
+    Assertions.assertEquals("degC", converted.get(1).getUnitSymbol());
+    Assertions.assertEquals(100.0, converted.get(1).getValue(), 1.0e-9);
+
+    // No target unit and unknown unit are passed on unchanged
+    Assertions.assertEquals(batch.get(2), converted.get(2));
+    Assertions.assertEquals(batch.get(3), converted.get(3));
+
+    processor.close();
+
+    //
+    // Invalid arguments
+    //
+    try {
+      new UnitConversionProcessor(null, targetUnits);
+      Assertions.fail("Illegal argument");
+    }
+    catch (IllegalArgumentException exception) {
+      // Fine
+    }
+
+    try {
+      processor.convert(null);
+      Assertions.fail("Illegal argument");
+    }
+    catch (IllegalArgumentException exception) {
+      // Fine
+    }
+
+    try {
+      processor.convert(Collections.singletonList(null));
+      Assertions.fail("Illegal argument");
+    }
+    catch (IllegalArgumentException exception) {
+      // Fine
+    }
+  }
+
+  /**
+   * Test the processor as part of a publisher/subscriber chain
+   * with a small buffer.
+   */
+  @Test
+  public void testProcess() throws Exception
+  {
+    UnitManager unitManager = UnitManager.getInstance();
+    Map<String,String> targetUnits = Collections.singletonMap("DEPTH", "m");
+
+    int nBatches = Random.getInteger(100, 1000);
+
+    UnitConversionProcessor processor = new UnitConversionProcessor(unitManager, targetUnits,
+                                                                    ForkJoinPool.commonPool(), 2);
+
+    List<ChannelSample> received = Collections.synchronizedList(new ArrayList<>());
+    CompletableFuture<Void> done = processor.consume(received::addAll);
+
+    try (SubmissionPublisher<List<ChannelSample>> publisher = new SubmissionPublisher<>()) {
+      publisher.subscribe(processor);
+
+      for (int i = 0; i < nBatches; i++) {
+        List<ChannelSample> batch = new ArrayList<>();
+        batch.add(new ChannelSample("DEPTH", i, "ft"));
+        publisher.submit(batch);
+      }
+    }
+
+    done.get(30, TimeUnit.SECONDS);
+
+    Assertions.assertEquals(nBatches, received.size());
+    for (int i = 0; i < nBatches; i++) {
+      ChannelSample sample = received.get(i);
+      Assertions.assertEquals("m", sample.getUnitSymbol());
+      Assertions.assertEquals(i * 0.3048, sample.getValue(), 1.0e-9);
+    }
+  }
+
+  /**
+   * Test that a subscriber without demand delays the upstream requests
+   * instead of blocking the upstream thread, and that items delivered
+   * after close are not thrown back upstream.
+   */
+  @Test
+  public void testBackpressure() throws Exception
+  {
+    UnitManager unitManager = UnitManager.getInstance();
+    Map<String,String> targetUnits = Collections.singletonMap("DEPTH", "m");
+
+    UnitConversionProcessor processor = new UnitConversionProcessor(unitManager, targetUnits,
+                                                                    ForkJoinPool.commonPool(), 2);
+    int capacity = processor.getMaxBufferCapacity();
+
+    AtomicInteger nRequested = new AtomicInteger();
+    AtomicBoolean isCancelled = new AtomicBoolean();
+    processor.onSubscribe(new Flow.Subscription() {
+      @Override
+      public void request(long n)
+      {
+        nRequested.addAndGet((int) n);
+      }
+
+      @Override
+      public void cancel()
+      {
+        isCancelled.set(true);
+      }
+    });
+
+    AtomicReference<Flow.Subscription> downstream = new AtomicReference<>();
+    List<ChannelSample> received = Collections.synchronizedList(new ArrayList<>());
+    processor.subscribe(new Flow.Subscriber<List<ChannelSample>>() {
+      @Override
+      public void onSubscribe(Flow.Subscription subscription)
+      {
+        downstream.set(subscription);
+      }
+
+      @Override
+      public void onNext(List<ChannelSample> batch)
+      {
+        received.addAll(batch);
+      }
+
+      @Override
+      public void onError(Throwable throwable)
+      {
+      }
+
+      @Override
+      public void onComplete()
+      {
+      }
+    });
+
+    // Without downstream demand, the buffer fills and upstream requests stop
+    for (int i = 0; i < capacity; i++) {
+      Assertions.assertEquals(i + 1, nRequested.get());
+      processor.onNext(Collections.singletonList(new ChannelSample("DEPTH", i, "ft")));
+    }
+    Assertions.assertEquals(capacity, nRequested.get());
+
+    // Downstream demand resumes the upstream requests
+    long timeout = System.currentTimeMillis() + 30000;
+    while (downstream.get() == null && System.currentTimeMillis() < timeout)
+      Thread.sleep(1);
+    downstream.get().request(1);
+
+    while (nRequested.get() == capacity && System.currentTimeMillis() < timeout)
+      Thread.sleep(1);
+    Assertions.assertEquals(capacity + 1, nRequested.get());
+    Assertions.assertEquals(1, received.size());
+
+    // Items after close cancel the subscription rather than throw
+    processor.close();
+    processor.onNext(Collections.singletonList(new ChannelSample("DEPTH", 0.0, "ft")));
+    Assertions.assertTrue(isCancelled.get());
+  }
+
+  /**
+   * Test that an invalid batch is reported downstream and cancels the
+   * upstream subscription rather than being thrown upstream.
+   */
+  @Test
+  public void testInvalidBatch() throws Exception
+  {
+    UnitManager unitManager = UnitManager.getInstance();
+    Map<String,String> targetUnits = Collections.singletonMap("DEPTH", "m");
+
+    UnitConversionProcessor processor = new UnitConversionProcessor(unitManager, targetUnits);
+
+    AtomicBoolean isCancelled = new AtomicBoolean();
+    processor.onSubscribe(new Flow.Subscription() {
+      @Override
+      public void request(long n)
+      {
+      }
+
+      @Override
+      public void cancel()
+      {
+        isCancelled.set(true);
+      }
+    });
+
+    CompletableFuture<Void> done = processor.consume(batch -> {});
+
+    List<ChannelSample> batch = new ArrayList<>();
+    batch.add(new ChannelSample("DEPTH", 1.0, "ft"));
+    batch.add(null);
+    processor.onNext(batch);
+
+    Assertions.assertTrue(isCancelled.get());
+    Assertions.assertTrue(processor.isClosed());
+
+    try {
+      done.get(30, TimeUnit.SECONDS);
+      Assertions.fail("Batch containing null");
+    }
+    catch (ExecutionException exception) {
+      Assertions.assertTrue(exception.getCause() instanceof IllegalArgumentException);
+    }
+  }
+}
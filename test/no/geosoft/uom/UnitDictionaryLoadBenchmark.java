@@ -0,0 +1,238 @@
+package no.geosoft.uom;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+/**
+ * Measure the time of loading the unit dictionary with the streaming
+ * UnitDictionaryReader against the DOM based loader it replaced.
+ * <p>
+ * The first load of a JVM includes the class loading and initialization
+ * of the XML parser, which dominates the cold start of the unit manager.
+ * Run each loader in a fresh JVM to measure it:
+ * <pre>
+ *   java -cp ... no.geosoft.uom.UnitDictionaryLoadBenchmark stax [nRuns]
+ *   java -cp ... no.geosoft.uom.UnitDictionaryLoadBenchmark dom [nRuns]
+ * </pre>
+ * The time of the first load and the median time of the subsequent
+ * loads are reported. The dictionary is read into memory up front, so
+ * resource reading is not part of the timings.
+ *
+ * @author <a href="mailto:jacob.dreyer@geosoft.no">Jacob Dreyer</a>
+ */
+public final class UnitDictionaryLoadBenchmark
+{
+  /** Name of the unit dictionary resource. */
+  private final static String UNITS_FILE = "witsmlUnitDict-2.2.xml";
+
+  /**
+   * Private constructor to prevent client instantiation.
+   */
+  private UnitDictionaryLoadBenchmark()
+  {
+    assert false : "This constructor should never be called";
+  }
+
+  /**
+   * Load the specified dictionary with the streaming reader.
+   *
+   * @param dictionary  Content of the dictionary. Non-null.
+   * @return            The quantities of the dictionary by name. Never null.
+   */
+  private static Map<String,Quantity> loadStax(byte[] dictionary)
+    throws Exception
+  {
+    Map<String,Quantity> quantities = new LinkedHashMap<>();
+
+    UnitDictionaryReader.read(new ByteArrayInputStream(dictionary), (quantityName, description) ->
+                              quantities.computeIfAbsent(quantityName, name -> new Quantity(name, description)));
+
+    return quantities;
+  }
+
+  /**
+   * Load the specified dictionary by building a DOM, as done before
+   * UnitDictionaryReader was introduced.
+   *
+   * @param dictionary  Content of the dictionary. Non-null.
+   * @return            The quantities of the dictionary by name. Never null.
+   */
+  private static Map<String,Quantity> loadDom(byte[] dictionary)
+    throws Exception
+  {
+    Map<String,Quantity> quantities = new LinkedHashMap<>();
+
+    Document document = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(new ByteArrayInputStream(dictionary));
+    Element unitDefinitionsElement = getChild(document.getDocumentElement(), "UnitsDefinition");
+
+    for (Element unitOfMeasureElement : findChildren(unitDefinitionsElement, "UnitOfMeasure")) {
+      Element deprecatedElement = getChild(unitOfMeasureElement, "Deprecated");
+      Element baseUnitElement = getChild(unitOfMeasureElement, "BaseUnit");
+      boolean isBaseUnit = baseUnitElement != null && deprecatedElement == null;
+      String quantityDescription = baseUnitElement != null ? getChildValue(baseUnitElement, "Description") : null;
+
+      List<Quantity> quantitiesForUnit = new ArrayList<>();
+      for (Element quantityTypeElement : findChildren(unitOfMeasureElement, "QuantityType")) {
+        String quantityName = quantityTypeElement.getTextContent();
+        quantitiesForUnit.add(quantities.computeIfAbsent(quantityName, name -> new Quantity(name, quantityDescription)));
+      }
+
+      String unitName = getChildValue(unitOfMeasureElement, "Name");
+      String unitSymbol = getChildValue(unitOfMeasureElement, "CatalogSymbol");
+
+      double a = 1.0;
+      double b = 0.0;
+      double c = 0.0;
+      double d = 1.0;
+
+      Element conversionElement = getChild(unitOfMeasureElement, "ConversionToBaseUnit");
+      if (conversionElement != null) {
+        String factorText = getChildValue(conversionElement, "Factor");
+        Element fractionElement = getChild(conversionElement, "Fraction");
+        Element formulaElement = getChild(conversionElement, "Formula");
+
+        if (factorText != null) {
+          a = Double.parseDouble(factorText);
+        }
+        else if (fractionElement != null) {
+          a = Double.parseDouble(getChildValue(fractionElement, "Numerator")) /
+              Double.parseDouble(getChildValue(fractionElement, "Denominator"));
+        }
+        else if (formulaElement != null) {
+          // Energistics' a, b, c, d are our b, a, d, c
+          b = Double.parseDouble(getChildValue(formulaElement, "A"));
+          a = Double.parseDouble(getChildValue(formulaElement, "B"));
+          d = Double.parseDouble(getChildValue(formulaElement, "C"));
+          c = Double.parseDouble(getChildValue(formulaElement, "D"));
+        }
+      }
+
+      String dimensionalClass = getChildValue(unitOfMeasureElement, "DimensionalClass");
+      Dimension dimension = null;
+      if (dimensionalClass != null) {
+        try {
+          dimension = Dimension.parse(dimensionalClass.equals("1/s") ? "1/T" : dimensionalClass);
+        }
+        catch (IllegalArgumentException exception) {
+          // Such as "U" for the API units which has no specific dimension
+        }
+      }
+
+      Unit unit = new Unit(unitName, unitSymbol, a, b, c, d, dimension);
+      for (Quantity quantity : quantitiesForUnit)
+        quantity.addUnit(unit, isBaseUnit);
+    }
+
+    return quantities;
+  }
+
+  /**
+   * Return the first child element of the given name of the specified element.
+   *
+   * @param element    Element to search. Non-null.
+   * @param childName  Name of child element to find. Non-null.
+   * @return           The requested child element, or null if not found.
+   */
+  private static Element getChild(Element element, String childName)
+  {
+    for (Node child = element.getFirstChild(); child != null; child = child.getNextSibling()) {
+      if (child instanceof Element && childName.equals(child.getNodeName()))
+        return (Element) child;
+    }
+
+    return null;
+  }
+
+  /**
+   * Return the trimmed text of the first child element of the given name
+   * of the specified element.
+   *
+   * @param element    Element to search. Non-null.
+   * @param childName  Name of child element to find. Non-null.
+   * @return           The requested text, or null if the child is not found.
+   */
+  private static String getChildValue(Element element, String childName)
+  {
+    Element childElement = getChild(element, childName);
+    return childElement != null ? childElement.getTextContent().trim() : null;
+  }
+
+  /**
+   * Return all descendant elements of the given name of the specified element.
+   *
+   * @param element    Element to search. Non-null.
+   * @param childName  Name of elements to find. Non-null.
+   * @return           The requested elements. Never null.
+   */
+  private static List<Element> findChildren(Element element, String childName)
+  {
+    List<Element> elements = new ArrayList<>();
+
+    NodeList nodeList = element.getElementsByTagName(childName);
+    for (int i = 0; i < nodeList.getLength(); i++)
+      elements.add((Element) nodeList.item(i));
+
+    return elements;
+  }
+
+  /**
+   * Time the loading of the unit dictionary with the loader given
+   * as first argument, "stax" or "dom".
+   *
+   * @param arguments  Loader and optionally the number of runs.
+   */
+  public static void main(String[] arguments)
+    throws Exception
+  {
+    if (arguments.length < 1 || !(arguments[0].equals("stax") || arguments[0].equals("dom"))) {
+      System.err.println("Usage: java no.geosoft.uom.UnitDictionaryLoadBenchmark stax|dom [nRuns]");
+      System.exit(1);
+    }
+
+    boolean isStax = arguments[0].equals("stax");
+    int nRuns = arguments.length > 1 ? Integer.parseInt(arguments[1]) : 20;
+
+    byte[] dictionary;
+    try (InputStream stream = UnitManager.class.getResourceAsStream(UNITS_FILE)) {
+      if (stream == null)
+        throw new IOException("Missing resource: " + UNITS_FILE);
+
+      dictionary = stream.readAllBytes();
+    }
+
+    long[] times = new long[nRuns];
+    int nUnits = 0;
+
+    for (int i = 0; i < nRuns; i++) {
+      long startTime = System.nanoTime();
+      Map<String,Quantity> quantities = isStax ? loadStax(dictionary) : loadDom(dictionary);
+      times[i] = System.nanoTime() - startTime;
+
+      nUnits = 0;
+      for (Quantity quantity : quantities.values())
+        nUnits += quantity.getUnits().size();
+    }
+
+    long[] warmTimes = Arrays.copyOfRange(times, 1, times.length);
+    Arrays.sort(warmTimes);
+
+    System.out.println("Loader.........: " + arguments[0]);
+    System.out.println("Quantity units.: " + nUnits);
+    System.out.println("First load.....: " + times[0] / 1000000.0 + " ms");
+    if (warmTimes.length > 0)
+      System.out.println("Median of rest.: " + warmTimes[warmTimes.length / 2] / 1000000.0 + " ms");
+  }
+}
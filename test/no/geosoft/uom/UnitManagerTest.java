@@ -1,6 +1,11 @@
 package no.geosoft.uom;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.junit.jupiter.api.Assertions;
@@ -293,8 +298,34 @@ public final class UnitManagerTest
       }
     }
 
-    // TODO: Add quantities/Units and find this
+    //
+    // Verify that units of client added quantities can be found, also
+    // when added to the quantity after the quantity is added to the manager
+    //
+    for (int i = 0; i < 100; i++) {
+      String quantityName = Random.getString();
+      String unitSymbol1 = Random.getString().trim();
+      String unitSymbol2 = Random.getString().trim();
+
+      if (unitSymbol1.isEmpty() || unitSymbol2.isEmpty() ||
+          unitManager.findQuantity(quantityName) != null ||
+          unitManager.findUnit(unitSymbol1) != null ||
+          unitManager.findUnit(unitSymbol2) != null ||
+          unitSymbol1.equalsIgnoreCase(unitSymbol2))
+        continue;
+
+      Quantity quantity = new Quantity(quantityName, Random.getStringOrNull());
+      Unit unit1 = new Unit(Random.getString(), unitSymbol1, 1.0, 0.0, 0.0, 1.0);
+      Unit unit2 = new Unit(Random.getString(), unitSymbol2, 2.0, 0.0, 0.0, 1.0);
+
+      quantity.addUnit(unit1, true);
+      unitManager.addQuantity(quantity);
+      quantity.addUnit(unit2, false);
 
+      Assertions.assertSame(unit1, unitManager.findUnit(unitSymbol1));
+      Assertions.assertSame(unit2, unitManager.findUnit(unitSymbol2));
+      Assertions.assertSame(unit2, unitManager.findUnit(unitSymbol2.toUpperCase()));
+    }
   }
 
   /**
@@ -346,6 +377,17 @@ public final class UnitManagerTest
   {
     UnitManager unitManager = UnitManager.getInstance();
 
+    // Unknown symbols give the same unmodifiable result as units without quantities
+    List<Unit> noUnits = unitManager.findConvertibleUnits("no such unit");
+    Assertions.assertTrue(noUnits.isEmpty());
+    try {
+      noUnits.add(unitManager.findUnit("m"));
+      Assertions.fail("Unmodifiable");
+    }
+    catch (UnsupportedOperationException exception) {
+      // Fine
+    }
+
     //
     // Verify that for any two units convertible there exists
     // at least one quantity containing them both
@@ -421,6 +463,17 @@ public final class UnitManagerTest
   {
     UnitManager unitManager = UnitManager.getInstance();
 
+    // Unknown symbols give the same unmodifiable result as units without quantities
+    List<Quantity> noQuantities = unitManager.findQuantities("no such unit");
+    Assertions.assertTrue(noQuantities.isEmpty());
+    try {
+      noQuantities.add(unitManager.findQuantity("length"));
+      Assertions.fail("Unmodifiable");
+    }
+    catch (UnsupportedOperationException exception) {
+      // Fine
+    }
+
     //
     // Check that all quantities that are associated with a unit
     // indeed contains this unit
@@ -510,6 +563,24 @@ public final class UnitManagerTest
       }
     }
 
+    //
+    // Verify that units added at runtime becomes convertible
+    //
+    Quantity newQuantity = new Quantity("canConvert " + Random.getString(), null);
+    Unit newUnit1 = new Unit(Random.getString(), Random.getString(), 1.0, 0.0, 0.0, 1.0);
+    Unit newUnit2 = new Unit(Random.getString(), Random.getString(), 2.0, 0.0, 0.0, 1.0);
+    Unit existingUnit = allUnits.get(0);
+
+    newQuantity.addUnit(newUnit1, true);
+    unitManager.addQuantity(newQuantity);
+    Assertions.assertFalse(unitManager.canConvert(newUnit1, newUnit2));
+    Assertions.assertFalse(unitManager.canConvert(newUnit1, existingUnit));
+
+    newQuantity.addUnit(newUnit2, false);
+    newQuantity.addUnit(existingUnit, false);
+    Assertions.assertTrue(unitManager.canConvert(newUnit1, newUnit2));
+    Assertions.assertTrue(unitManager.canConvert(newUnit2, existingUnit));
+
     //
     // Invalid arguments
     //
@@ -727,6 +798,173 @@ public final class UnitManagerTest
     }
   }
 
+  /**
+   * Test the UnitManager.convert(double[][],String[],String[]) method.
+   */
+  @Test
+  public void testConvertColumns()
+  {
+    UnitManager unitManager = UnitManager.getInstance();
+
+    String[] fromUnitSymbols = {"ft", "m", "degF", "NotAUnit", "ms"};
+    String[] toUnitSymbols   = {"m", "m", "degC", "m", "s"};
+
+    // Small and large tables take the sequential and parallel paths respectively
+    for (int nRows : new int[] {Random.getInteger(1, 1000), Random.getInteger(100000, 200000)}) {
+      double[][] columns = new double[fromUnitSymbols.length][nRows];
+      for (double[] column : columns) {
+        for (int i = 0; i < nRows; i++)
+          column[i] = Random.getDouble();
+      }
+
+      double[][] expected = new double[columns.length][];
+      for (int i = 0; i < columns.length; i++) {
+        expected[i] = columns[i].clone();
+        for (int j = 0; j < nRows; j++)
+          expected[i][j] = unitManager.convert(fromUnitSymbols[i], toUnitSymbols[i], columns[i][j]);
+      }
+
+      int nConverted = unitManager.convert(columns, fromUnitSymbols, toUnitSymbols);
+      Assertions.assertEquals(3, nConverted);
+
+      for (int i = 0; i < columns.length; i++)
+        Assertions.assertArrayEquals(expected[i], columns[i]);
+    }
+
+    //
+    // Invalid arguments
+    //
+    try {
+      unitManager.convert(null, fromUnitSymbols, toUnitSymbols);
+      Assertions.fail("Illegal argument");
+    }
+    catch (IllegalArgumentException exception) {
+      // Fine
+    }
+
+    try {
+      unitManager.convert(new double[2][10], fromUnitSymbols, toUnitSymbols);
+      Assertions.fail("Illegal argument");
+    }
+    catch (IllegalArgumentException exception) {
+      // Fine
+    }
+
+    try {
+      unitManager.convert(new double[1][], new String[] {"ft"}, new String[] {"m"});
+      Assertions.fail("Illegal argument");
+    }
+    catch (IllegalArgumentException exception) {
+      // Fine
+    }
+  }
+
+  /**
+   * Test the unit system methods of UnitManager.
+   */
+  @Test
+  public void testUnitSystems()
+  {
+    UnitManager unitManager = UnitManager.getInstance();
+
+    List<String> unitSystems = unitManager.getUnitSystems();
+    Assertions.assertTrue(unitSystems.contains("SI"));
+    Assertions.assertTrue(unitSystems.contains("metric"));
+    Assertions.assertTrue(unitSystems.contains("oilfield"));
+
+    // All quantities with units have a preferred unit of their own in all systems
+    for (String unitSystem : unitSystems) {
+      for (Quantity quantity : unitManager.getQuantities()) {
+        Unit unit = unitManager.getPreferredUnit(unitSystem, quantity);
+        if (!quantity.getUnits().isEmpty())
+          Assertions.assertTrue(quantity.getUnits().contains(unit), unitSystem + ": " + quantity.getName());
+      }
+    }
+
+    // SI is base units throughout
+    for (Quantity quantity : unitManager.getQuantities())
+      Assertions.assertEquals(quantity.getBaseUnit(), unitManager.getPreferredUnit("SI", quantity));
+
+    Quantity length = unitManager.findQuantity("length");
+    Assertions.assertNull(unitManager.getPreferredUnit("NotAUnitSystem", length));
+
+    //
+    // Custom unit system
+    //
+    String unitSystem = "test" + Random.getInteger(0, 1000000);
+
+    Quantity quantity = null;
+    Unit unit = null;
+    while (unit == null) {
+      quantity = Random.getElement(unitManager.getQuantities());
+      if (quantity.getUnits().isEmpty())
+        continue;
+
+      Unit candidate = Random.getElement(quantity.getUnits());
+      if (candidate.equals(unitManager.findUnit(candidate.getSymbol())))
+        unit = candidate;
+    }
+
+    List<String> unitSymbols = new ArrayList<>();
+    unitSymbols.add("NotAUnit");
+    unitSymbols.add(unit.getSymbol());
+    unitManager.setUnitSystem(unitSystem, unitSymbols);
+
+    Assertions.assertTrue(unitManager.getUnitSystems().contains(unitSystem));
+    Assertions.assertEquals(unit, unitManager.getPreferredUnit(unitSystem, quantity));
+
+    //
+    // Convert a dataset
+    //
+    String[] fromUnitSymbols = {quantity.getBaseUnit().getSymbol(), "NotAUnit"};
+
+    int nRows = Random.getInteger(1, 1000);
+    double[][] columns = new double[2][nRows];
+    for (int i = 0; i < nRows; i++) {
+      columns[0][i] = Random.getDouble();
+      columns[1][i] = Random.getDouble();
+    }
+
+    Unit toUnit = unitManager.getPreferredUnit(unitSystem, unitManager.findUnit(fromUnitSymbols[0]));
+    Assertions.assertNotNull(toUnit);
+
+    double[][] expected = {columns[0].clone(), columns[1].clone()};
+    for (int i = 0; i < nRows; i++)
+      expected[0][i] = unitManager.convert(fromUnitSymbols[0], toUnit.getSymbol(), expected[0][i]);
+
+    String[] toUnitSymbols = unitManager.convert(columns, fromUnitSymbols, unitSystem);
+    Assertions.assertArrayEquals(new String[] {toUnit.getSymbol(), "NotAUnit"}, toUnitSymbols);
+    Assertions.assertArrayEquals(expected[0], columns[0]);
+    Assertions.assertArrayEquals(expected[1], columns[1]);
+
+    //
+    // Invalid arguments
+    //
+    try {
+      unitManager.getPreferredUnit(null, length);
+      Assertions.fail("Illegal argument");
+    }
+    catch (IllegalArgumentException exception) {
+      // Fine
+    }
+
+    try {
+      unitManager.setUnitSystem(unitSystem, null);
+      Assertions.fail("Illegal argument");
+    }
+    catch (IllegalArgumentException exception) {
+      // Fine
+    }
+
+    try {
+      unitManager.convert(columns, fromUnitSymbols, "NotAUnitSystem");
+      Assertions.fail("Illegal argument");
+    }
+    catch (IllegalArgumentException exception) {
+      // Fine
+    }
+  }
+
   /**
    * Test the UnitManager.getDisplaySymbol(Unit) method.
    */
@@ -791,4 +1029,189 @@ public final class UnitManagerTest
     Assertions.assertNotNull(s);
     Assertions.assertTrue(s.length() > 0);
   }
+
+  /**
+   * Create a unit dictionary of the specified units.
+   *
+   * @param units  Units as quantity name, unit name, unit symbol, and conversion
+   *               factor, conversion element content if starting with "&lt;",
+   *               or null for base unit. Null names and symbols are left out. Non-null.
+   * @return       Stream of the dictionary. Never null.
+   */
+  private static InputStream newUnitDictionary(String[][] units)
+  {
+    StringBuilder xml = new StringBuilder();
+    xml.append("<?xml version=\"1.0\"?>\n");
+    xml.append("<UnitOfMeasureDictionary xmlns=\"http://www.posc.org/schemas\">\n");
+    xml.append("  <UnitsDefinition>\n");
+
+    for (String[] unit : units) {
+      xml.append("    <UnitOfMeasure>\n");
+      if (unit[1] != null)
+        xml.append("      <Name>" + unit[1] + "</Name>\n");
+      xml.append("      <QuantityType>" + unit[0] + "</QuantityType>\n");
+      if (unit[2] != null)
+        xml.append("      <CatalogSymbol>" + unit[2] + "</CatalogSymbol>\n");
+      if (unit[3] == null)
+        xml.append("      <BaseUnit/>\n");
+      else if (unit[3].startsWith("<"))
+        xml.append("      <ConversionToBaseUnit>" + unit[3] + "</ConversionToBaseUnit>\n");
+      else
+        xml.append("      <ConversionToBaseUnit><Factor>" + unit[3] + "</Factor></ConversionToBaseUnit>\n");
+      xml.append("    </UnitOfMeasure>\n");
+    }
+
+    xml.append("  </UnitsDefinition>\n");
+    xml.append("</UnitOfMeasureDictionary>\n");
+
+    return new ByteArrayInputStream(xml.toString().getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Test the UnitManager.loadUnitDictionaries() method.
+   */
+  @Test
+  public void testLoadUnitDictionaries() throws IOException
+  {
+    UnitManager unitManager = UnitManager.getInstance();
+
+    String id = "" + Random.getInteger(0, 1000000000);
+    String quantityA = "quantity a " + id;
+    String quantityB = "quantity b " + id;
+
+    InputStream dictionary1 = newUnitDictionary(new String[][] {
+      {quantityA, "unit a1", "a1_" + id, null},
+      {quantityA, "unit a2", "a2_" + id, "2.0"},
+      {"length", "test furlong", "fur_" + id, "201.168"},
+    });
+
+    // Redefines the base unit, which is ignored as the quantity exists
+    InputStream dictionary2 = newUnitDictionary(new String[][] {
+      {quantityA, "unit a3", "a3_" + id, null},
+      {quantityA, "unit a2", "a2_" + id, "2.0"},
+      {quantityB, "unit b1", "b1_" + id, null},
+    });
+
+    // Immutable lists reject contains(null) queries
+    unitManager.loadUnitDictionaries(List.of(dictionary1, dictionary2));
+
+    Quantity a = unitManager.findQuantity(quantityA);
+    Assertions.assertNotNull(a);
+    Assertions.assertEquals(3, a.getUnits().size());
+    Assertions.assertEquals("unit a1", a.getBaseUnit().getName());
+    Assertions.assertEquals("unit a2", a.getUnits().get(1).getName());
+    Assertions.assertEquals("unit a3", a.getUnits().get(2).getName());
+    Assertions.assertTrue(unitManager.canConvert(a.getUnits().get(1), a.getUnits().get(2)));
+
+    Assertions.assertNotNull(unitManager.findQuantity(quantityB));
+
+    // Units are added to existing quantities
+    Quantity length = unitManager.findQuantity("length");
+    Unit furlong = null;
+    for (Unit unit : length.getUnits()) {
+      if (unit.getSymbol().equals("fur_" + id))
+        furlong = unit;
+    }
+    Assertions.assertNotNull(furlong);
+    Assertions.assertEquals("m", length.getBaseUnit().getSymbol());
+    Assertions.assertEquals(201.168, UnitManager.convert(furlong, length.getBaseUnit(), 1.0), 1.0e-12);
+    Assertions.assertSame(length, unitManager.findQuantity(furlong));
+
+    // The symbol indexes are updated once for the whole merge
+    Assertions.assertSame(furlong, unitManager.findUnit("fur_" + id));
+    Assertions.assertSame(a.getUnits().get(2), unitManager.findUnit("a3_" + id));
+    Assertions.assertNotNull(unitManager.findUnit("B1_" + id));
+
+    //
+    // Nothing is merged if a dictionary cannot be parsed
+    //
+    String quantityC = "quantity c " + id;
+    InputStream dictionary3 = newUnitDictionary(new String[][] {{quantityC, "unit c1", "c1_" + id, null}});
+    InputStream invalidDictionary = new ByteArrayInputStream("<UnitOfMeasureDictionary>".getBytes(StandardCharsets.UTF_8));
+
+    try {
+      unitManager.loadUnitDictionaries(Arrays.asList(dictionary3, invalidDictionary));
+      Assertions.fail("Invalid dictionary");
+    }
+    catch (IOException exception) {
+      // Fine
+    }
+
+    Assertions.assertNull(unitManager.findQuantity(quantityC));
+
+    //
+    // Nothing is merged if a unit is incomplete or invalid
+    //
+    String[][] invalidUnits = {
+      {quantityC, "unit c2", "c2_" + id, "0,3048"},
+      {quantityC, "unit c2", "c2_" + id, "<Fraction><Numerator>1.0</Numerator></Fraction>"},
+      {quantityC, "unit c2", "c2_" + id, "<Formula><A>0.0</A><B>1.0</B><C>1.0</C></Formula>"},
+      {quantityC, "unit c2", "c2_" + id, "<Description>No conversion</Description>"},
+      {quantityC, "unit c2", null, "2.0"},
+      {quantityC, null, "c2_" + id, "2.0"},
+    };
+
+    for (String[] invalidUnit : invalidUnits) {
+      InputStream dictionary4 = newUnitDictionary(new String[][] {{quantityC, "unit c1", "c1_" + id, null}, invalidUnit});
+
+      try {
+        unitManager.loadUnitDictionaries(List.of(dictionary4));
+        Assertions.fail("Invalid unit: " + Arrays.toString(invalidUnit));
+      }
+      catch (IOException exception) {
+        // Fine
+      }
+
+      Assertions.assertNull(unitManager.findQuantity(quantityC));
+    }
+
+    //
+    // Invalid arguments
+    //
+    try {
+      unitManager.loadUnitDictionaries(null);
+      Assertions.fail("Illegal argument");
+    }
+    catch (IllegalArgumentException exception) {
+      // Fine
+    }
+
+    try {
+      unitManager.loadUnitDictionaries(Arrays.asList(newUnitDictionary(new String[0][]), null));
+      Assertions.fail("Illegal argument");
+    }
+    catch (IllegalArgumentException exception) {
+      // Fine
+    }
+  }
+
+  /**
+   * Test that the display symbols and unit systems, which are loaded on
+   * first access, are the same as if loaded up front, and that values set
+   * before they are loaded are kept.
+   */
+  @Test
+  public void testLazyDisplayData()
+  {
+    for (boolean isTablesUsed : new boolean[] {true, false}) {
+      UnitManager unitManager = new UnitManager(isTablesUsed);
+      Quantity length = unitManager.findQuantity("length");
+
+      Assertions.assertEquals("\u00e5ngstr\u00f6m", unitManager.getDisplaySymbol("angstrom"));
+      Assertions.assertEquals("ft", unitManager.getPreferredUnit("oilfield", length).getSymbol());
+      Assertions.assertEquals(Arrays.asList("SI", "metric", "oilfield"), unitManager.getUnitSystems());
+
+      // Set before the display data is loaded
+      unitManager = new UnitManager(isTablesUsed);
+      length = unitManager.findQuantity("length");
+
+      unitManager.setDisplaySymbol("angstrom", "A");
+      unitManager.setUnitSystem("custom", Arrays.asList("in"));
+
+      Assertions.assertEquals("A", unitManager.getDisplaySymbol("angstrom"));
+      Assertions.assertEquals(Arrays.asList("SI", "custom", "metric", "oilfield"), unitManager.getUnitSystems());
+      Assertions.assertEquals("in", unitManager.getPreferredUnit("custom", length).getSymbol());
+      Assertions.assertEquals("ft", unitManager.getPreferredUnit("oilfield", length).getSymbol());
+    }
+  }
 }
@@ -0,0 +1,116 @@
+package no.geosoft.uom;
+
+import org.junit.jupiter.api.Assertions;
+
+import org.junit.jupiter.api.Test;
+
+import no.geosoft.cc.util.Random;
+
+/**
+ * Test the UnitParser class through UnitManager.parseUnit().
+ *
+ * @author <a href="mailto:jacob.dreyer@geosoft.no">Jacob Dreyer</a>
+ */
+public final class UnitParserTest
+{
+  /**
+   * Return the conversion factor to base of the specified dictionary unit.
+   * Other tests add random aliases, so the expected values are found
+   * through the same lookup as the parser uses.
+   *
+   * @param unitSymbol  Symbol of dictionary unit. Non-null.
+   * @return            Conversion factor of the unit.
+   */
+  private static double getFactor(String unitSymbol)
+  {
+    Unit unit = UnitManager.getInstance().findUnitExact(unitSymbol);
+    Assertions.assertNotNull(unit, unitSymbol);
+    return unit.toBase(1.0);
+  }
+
+  /**
+   * Return the dimension of the specified dictionary unit.
+   *
+   * @param unitSymbol  Symbol of dictionary unit. Non-null.
+   * @return            Dimension of the unit.
+   */
+  private static Dimension getDimension(String unitSymbol)
+  {
+    Unit unit = UnitManager.getInstance().findUnitExact(unitSymbol);
+    Assertions.assertNotNull(unit, unitSymbol);
+    return unit.getDimension();
+  }
+
+  /**
+   * Test the UnitManager.parseUnit() method.
+   */
+  @Test
+  public void testParseUnit()
+  {
+    UnitManager unitManager = UnitManager.getInstance();
+
+    //
+    // Products and quotients
+    //
+    Unit unit = unitManager.parseUnit("klbf.ft/min");
+    Assertions.assertNotNull(unit);
+    Assertions.assertEquals(getFactor("klbf") * getFactor("ft") / getFactor("min"), unit.toBase(1.0), 1.0e-12);
+    Assertions.assertEquals(getDimension("klbf").multiply(getDimension("ft")).divide(getDimension("min")), unit.getDimension());
+
+    unit = unitManager.parseUnit("m3/d/bar");
+    Assertions.assertNotNull(unit);
+    Assertions.assertEquals(getFactor("m3") / getFactor("d") / getFactor("bar"), unit.toBase(1.0), 1.0e-20);
+    Assertions.assertEquals(getDimension("m3").divide(getDimension("d")).divide(getDimension("bar")), unit.getDimension());
+
+    //
+    // Prefixes and powers
+    //
+    unit = unitManager.parseUnit("GW");
+    Assertions.assertNotNull(unit);
+    Assertions.assertEquals(1.0e9 * getFactor("W"), unit.toBase(1.0), 1.0);
+
+    unit = unitManager.parseUnit("kN.s^-2");
+    Assertions.assertNotNull(unit);
+    Assertions.assertEquals(getFactor("kN") / (getFactor("s") * getFactor("s")), unit.toBase(1.0), 1.0e-9);
+
+    //
+    // Conversion to dictionary units of the same dimension
+    //
+    unit = unitManager.parseUnit("kJ/s");
+    Unit kW = unitManager.findUnitExact("kW");
+    if (unit.hasSameDimension(kW)) {
+      double value = Random.getDouble();
+      Assertions.assertEquals(value * getFactor("kJ") / getFactor("s") / getFactor("kW"),
+                              UnitManager.convert(unit, kW, value), Math.abs(value) * 1.0e-12);
+    }
+
+    //
+    // Memoized
+    //
+    Assertions.assertSame(unitManager.parseUnit("klbf.ft/min"), unitManager.parseUnit("klbf.ft/min"));
+
+    //
+    // Dictionary units take precedence
+    //
+    Assertions.assertSame(unitManager.findUnitExact("kW.h"), unitManager.parseUnit("kW.h"));
+
+    //
+    // Invalid symbols
+    //
+    Assertions.assertNull(unitManager.parseUnit("m//s"));
+    Assertions.assertNull(unitManager.parseUnit("m/"));
+    Assertions.assertNull(unitManager.parseUnit("m/s999"));
+    Assertions.assertNull(unitManager.parseUnit("?" + Random.getString() + ".?" + Random.getString()));
+
+    // Affine units cannot be part of a compound
+    Assertions.assertNull(unitManager.parseUnit("degF.lbm"));
+
+    try {
+      unitManager.parseUnit(null);
+      Assertions.fail("Illegal argument");
+    }
+    catch (IllegalArgumentException exception) {
+      // Fine
+    }
+  }
+}
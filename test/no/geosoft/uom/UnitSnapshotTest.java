@@ -0,0 +1,64 @@
+package no.geosoft.uom;
+
+import java.io.IOException;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test the UnitSnapshot class.
+ *
+ * @author <a href="mailto:jacob.dreyer@geosoft.no">Jacob Dreyer</a>
+ */
+public final class UnitSnapshotTest
+{
+  /**
+   * Test that the generated tables are current and hold the same
+   * registry as the one loaded from the XML and property files.
+   */
+  @Test
+  public void testFromTables() throws IOException
+  {
+    // Fails if UnitTables has not been regenerated after changing its sources
+    Assertions.assertEquals(UnitTableGenerator.getSourceChecksum(), UnitTables.SOURCE_CHECKSUM);
+
+    UnitSnapshot snapshot = UnitSnapshot.fromTables();
+
+    UnitManager unitManager = new UnitManager(false);
+    List<Quantity> quantities = unitManager.getQuantities();
+
+    Assertions.assertEquals(quantities.size(), snapshot.getQuantities().size());
+    for (int i = 0; i < quantities.size(); i++) {
+      Quantity expected = quantities.get(i);
+      Quantity actual = snapshot.getQuantities().get(i);
+
+      Assertions.assertEquals(expected.getName(), actual.getName());
+      Assertions.assertEquals(expected.getDescription(), actual.getDescription());
+      Assertions.assertEquals(expected.getUnits(), actual.getUnits());
+
+      for (int j = 0; j < expected.getUnits().size(); j++)
+        Assertions.assertEquals(expected.getUnits().get(j).getDimension(), actual.getUnits().get(j).getDimension());
+    }
+
+    //
+    // Units shared between quantities remain shared
+    //
+    Map<Unit,Unit> tableUnits = new IdentityHashMap<>();
+    for (int i = 0; i < quantities.size(); i++) {
+      for (int j = 0; j < quantities.get(i).getUnits().size(); j++) {
+        Unit unit = snapshot.getQuantities().get(i).getUnits().get(j);
+        Unit previous = tableUnits.putIfAbsent(quantities.get(i).getUnits().get(j), unit);
+        if (previous != null)
+          Assertions.assertSame(previous, unit);
+      }
+    }
+
+    Assertions.assertEquals(unitManager.getUnitSystems().size(), snapshot.getUnitSystems().size());
+    for (String unitSystem : unitManager.getUnitSystems())
+      Assertions.assertTrue(snapshot.getUnitSystems().containsKey(unitSystem), unitSystem);
+  }
+}